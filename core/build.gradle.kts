@@ -1,5 +1,6 @@
 plugins {
     java
+    alias(libs.plugins.jmh)
 }
 
 dependencies {
@@ -38,6 +39,12 @@ dependencies {
     testImplementation("org.mockito:mockito-core:5.5.0")
 }
 
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    // Allocation rate per operation is the figure of interest for hot-path benchmarks
+    profilers.add("gc")
+}
+
 java {
     toolchain.languageVersion.set(JavaLanguageVersion.of(17))
 }
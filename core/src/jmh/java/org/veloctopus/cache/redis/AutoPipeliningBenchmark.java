@@ -0,0 +1,111 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Auto Pipelining Benchmark
+ * Concurrent single-key cache reads and writes with and without auto-pipelining
+ */
+
+package org.veloctopus.cache.redis;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Auto Pipelining Benchmark
+ *
+ * Runs the cache layer against a {@link RespStandIn} on loopback, so every command
+ * pays a real socket round trip. The near-cache is off, so every read goes to the
+ * server. Each invocation issues {@value #BURST} commands concurrently and waits for
+ * all of them, as a burst of proxy threads would. The round trips the server saw per
+ * command are printed at the end of each trial.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AutoPipeliningBenchmark {
+
+    static final int BURST = 64;
+    private static final int KEY_COUNT = 1024;
+
+    @Param({"true", "false"})
+    public boolean autoPipelining;
+
+    private RespStandIn server;
+    private AsyncRedisCacheLayer cache;
+    private String[] keys;
+    private long commandsAtStart;
+    private long roundTripsAtStart;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        server = new RespStandIn();
+        AsyncRedisCacheLayer.RedisCacheConfiguration config = new AsyncRedisCacheLayer.RedisCacheConfiguration();
+        config.setRedisHosts(Collections.singletonList("127.0.0.1:" + server.getPort()));
+        config.setNearCacheEnabled(false);
+        config.setAutoPipeliningEnabled(autoPipelining);
+        cache = new AsyncRedisCacheLayer(config);
+        if (!cache.initializeAsync().get(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Cache layer failed to start");
+        }
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "translation:en:" + i;
+            cache.setAsync(keys[i], "value-" + i, Duration.ofHours(1)).get();
+        }
+        commandsAtStart = server.getCommands();
+        roundTripsAtStart = server.getRoundTrips();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        long commands = server.getCommands() - commandsAtStart;
+        long roundTrips = server.getRoundTrips() - roundTripsAtStart;
+        System.out.printf("%nautoPipelining=%s: %d commands in %d round trips (%.2f commands per round trip)%n",
+            autoPipelining, commands, roundTrips, roundTrips > 0 ? (double) commands / roundTrips : 0.0);
+        cache.shutdownAsync().get(30, TimeUnit.SECONDS);
+        server.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+
+        int next() {
+            index = (index + 1) & (KEY_COUNT - 1);
+            return index;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public Object getBurst(Cursor cursor) {
+        CompletableFuture<?>[] burst = new CompletableFuture<?>[BURST];
+        for (int i = 0; i < BURST; i++) {
+            burst[i] = cache.getAsync(keys[cursor.next()]);
+        }
+        return CompletableFuture.allOf(burst).join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public Object setBurst(Cursor cursor) {
+        CompletableFuture<?>[] burst = new CompletableFuture<?>[BURST];
+        for (int i = 0; i < BURST; i++) {
+            int index = cursor.next();
+            burst[i] = cache.setAsync(keys[index], "value-" + index, Duration.ofHours(1));
+        }
+        return CompletableFuture.allOf(burst).join();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Bulk Write Benchmark
+ * Cache warmup of a translation-sized dataset through bulkSetAsync
+ */
+
+package org.veloctopus.cache.redis;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk Write Benchmark
+ *
+ * Warms {@value #ENTRIES} entries into a {@link RespStandIn} on loopback, each with
+ * the warmup TTL. The round trips the server saw per warmup are printed at the end of
+ * each trial.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkWriteBenchmark {
+
+    static final int ENTRIES = 10_000;
+
+    private RespStandIn server;
+    private AsyncRedisCacheLayer cache;
+    private Map<String, String> translations;
+    private long roundTripsAtStart;
+    private long warmups;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        server = new RespStandIn();
+        AsyncRedisCacheLayer.RedisCacheConfiguration config = new AsyncRedisCacheLayer.RedisCacheConfiguration();
+        config.setRedisHosts(Collections.singletonList("127.0.0.1:" + server.getPort()));
+        cache = new AsyncRedisCacheLayer(config);
+        if (!cache.initializeAsync().get(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Cache layer failed to start");
+        }
+        translations = new HashMap<>();
+        for (int i = 0; i < ENTRIES; i++) {
+            translations.put("translation:en:" + i, "value-" + i);
+        }
+        roundTripsAtStart = server.getRoundTrips();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        long roundTrips = server.getRoundTrips() - roundTripsAtStart;
+        System.out.printf("%n%d entries: %.1f round trips per warmup%n",
+            ENTRIES, warmups > 0 ? (double) roundTrips / warmups : 0.0);
+        cache.shutdownAsync().get(30, TimeUnit.SECONDS);
+        server.close();
+    }
+
+    @Benchmark
+    public Object warmCache() {
+        warmups++;
+        return cache.warmCacheAsync(translations).join();
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * RESP Stand-In
+ * Minimal in-process Redis server for cache layer benchmarks
+ */
+
+package org.veloctopus.cache.redis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * RESP Stand-In
+ *
+ * Speaks enough RESP2 over loopback TCP for the cache layer's string commands, so
+ * benchmarks pay real socket round trips without a Redis install. Keys never expire,
+ * so TTL reports every key as persistent.
+ * A round trip is counted each time a connection has answered everything it was sent
+ * and flushes, so a pipeline of N commands counts once.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+final class RespStandIn implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final Map<String, byte[]> store;
+    private final AtomicLong commands;
+    private final AtomicLong roundTrips;
+    private final List<Socket> connections;
+    private volatile boolean running;
+
+    RespStandIn() throws IOException {
+        this.serverSocket = new ServerSocket(0, 128, InetAddress.getLoopbackAddress());
+        this.store = new ConcurrentHashMap<>();
+        this.commands = new AtomicLong();
+        this.roundTrips = new AtomicLong();
+        this.connections = new ArrayList<>();
+        this.running = true;
+        Thread acceptor = new Thread(this::acceptLoop, "resp-stand-in-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    int getPort() { return serverSocket.getLocalPort(); }
+    long getCommands() { return commands.get(); }
+    long getRoundTrips() { return roundTrips.get(); }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                synchronized (connections) {
+                    connections.add(socket);
+                }
+                Thread handler = new Thread(() -> serve(socket), "resp-stand-in-conn");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (InputStream in = new BufferedInputStream(socket.getInputStream(), 64 * 1024);
+             OutputStream out = new BufferedOutputStream(socket.getOutputStream(), 64 * 1024)) {
+            while (running) {
+                List<byte[]> command = readCommand(in);
+                if (command == null) {
+                    return;
+                }
+                commands.incrementAndGet();
+                execute(command, out);
+                if (in.available() == 0) {
+                    out.flush();
+                    roundTrips.incrementAndGet();
+                }
+            }
+        } catch (IOException e) {
+            // Client went away
+        }
+    }
+
+    private void execute(List<byte[]> command, OutputStream out) throws IOException {
+        String name = new String(command.get(0), StandardCharsets.US_ASCII).toUpperCase(Locale.ROOT);
+        switch (name) {
+            case "PING":
+                simple(out, "PONG");
+                break;
+            case "GET":
+                bulk(out, store.get(key(command, 1)));
+                break;
+            case "SET": {
+                boolean nx = false;
+                for (int i = 3; i < command.size(); i++) {
+                    nx |= "NX".equalsIgnoreCase(new String(command.get(i), StandardCharsets.US_ASCII));
+                }
+                if (nx) {
+                    if (store.putIfAbsent(key(command, 1), command.get(2)) == null) {
+                        simple(out, "OK");
+                    } else {
+                        bulk(out, null);
+                    }
+                } else {
+                    store.put(key(command, 1), command.get(2));
+                    simple(out, "OK");
+                }
+                break;
+            }
+            case "SETEX":
+                store.put(key(command, 1), command.get(3));
+                simple(out, "OK");
+                break;
+            case "DEL":
+            case "UNLINK": {
+                long removed = 0;
+                for (int i = 1; i < command.size(); i++) {
+                    removed += store.remove(key(command, i)) != null ? 1 : 0;
+                }
+                integer(out, removed);
+                break;
+            }
+            case "EXISTS":
+                integer(out, store.containsKey(key(command, 1)) ? 1 : 0);
+                break;
+            case "EXPIRE":
+                integer(out, store.containsKey(key(command, 1)) ? 1 : 0);
+                break;
+            case "MGET":
+                out.write(('*' + Integer.toString(command.size() - 1) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                for (int i = 1; i < command.size(); i++) {
+                    bulk(out, store.get(key(command, i)));
+                }
+                break;
+            case "MSET":
+                for (int i = 1; i + 1 < command.size(); i += 2) {
+                    store.put(key(command, i), command.get(i + 1));
+                }
+                simple(out, "OK");
+                break;
+            case "TTL":
+                integer(out, store.containsKey(key(command, 1)) ? -1 : -2);
+                break;
+            case "SCAN":
+                scan(command, out);
+                break;
+            case "SUBSCRIBE":
+                // Confirm each channel; nothing is ever published to subscribers
+                for (int i = 1; i < command.size(); i++) {
+                    out.write("*3\r\n".getBytes(StandardCharsets.US_ASCII));
+                    bulk(out, "subscribe".getBytes(StandardCharsets.US_ASCII));
+                    bulk(out, command.get(i));
+                    integer(out, i);
+                }
+                break;
+            case "EVAL":
+                eval(command, out);
+                break;
+            case "PUBLISH":
+                integer(out, 0);
+                break;
+            default:
+                // CLIENT SETINFO, SELECT, AUTH and the like
+                simple(out, "OK");
+        }
+    }
+
+    /**
+     * SCAN over the sorted keyspace, the cursor being how many keys were examined
+     */
+    private void scan(List<byte[]> command, OutputStream out) throws IOException {
+        int cursor = Integer.parseInt(key(command, 1));
+        Pattern match = null;
+        int count = 10;
+        for (int i = 2; i + 1 < command.size(); i += 2) {
+            String option = key(command, i).toUpperCase(Locale.ROOT);
+            if (option.equals("MATCH")) {
+                match = Pattern.compile(key(command, i + 1).replace(".", "\\.").replace("*", ".*").replace("?", "."));
+            } else if (option.equals("COUNT")) {
+                count = Integer.parseInt(key(command, i + 1));
+            }
+        }
+        List<String> keys = new ArrayList<>(store.keySet());
+        Collections.sort(keys);
+        int end = Math.min(keys.size(), cursor + count);
+        List<String> page = new ArrayList<>();
+        for (int i = cursor; i < end; i++) {
+            if (match == null || match.matcher(keys.get(i)).matches()) {
+                page.add(keys.get(i));
+            }
+        }
+        out.write("*2\r\n".getBytes(StandardCharsets.US_ASCII));
+        bulk(out, Integer.toString(end >= keys.size() ? 0 : end).getBytes(StandardCharsets.US_ASCII));
+        out.write(('*' + Integer.toString(page.size()) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        for (String key : page) {
+            bulk(out, key.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * EVAL for the owner-checked scripts the cache layer sends: KEYS[1] is acted on
+     * only while it holds ARGV[1]. Deleting scripts delete it; others leave it as is.
+     */
+    private void eval(List<byte[]> command, OutputStream out) throws IOException {
+        String script = key(command, 1);
+        String key = key(command, 3);
+        byte[] current = store.get(key);
+        if (current == null || !Arrays.equals(current, command.get(4))) {
+            integer(out, 0);
+        } else if (script.contains("'del'")) {
+            integer(out, store.remove(key) != null ? 1 : 0);
+        } else {
+            integer(out, 1);
+        }
+    }
+
+    private static String key(List<byte[]> command, int index) {
+        return new String(command.get(index), StandardCharsets.UTF_8);
+    }
+
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        int marker = in.read();
+        if (marker < 0) {
+            return null;
+        }
+        if (marker != '*') {
+            throw new IOException("Expected array, got " + (char) marker);
+        }
+        int count = (int) readNumber(in);
+        List<byte[]> parts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (in.read() != '$') {
+                throw new IOException("Expected bulk string");
+            }
+            byte[] part = new byte[(int) readNumber(in)];
+            int read = 0;
+            while (read < part.length) {
+                int n = in.read(part, read, part.length - read);
+                if (n < 0) {
+                    return null;
+                }
+                read += n;
+            }
+            in.read();   // \r
+            in.read();   // \n
+            parts.add(part);
+        }
+        return parts;
+    }
+
+    private static long readNumber(InputStream in) throws IOException {
+        long value = 0;
+        boolean negative = false;
+        int c;
+        while ((c = in.read()) != '\r') {
+            if (c < 0) {
+                throw new IOException("Connection closed");
+            }
+            if (c == '-') {
+                negative = true;
+            } else {
+                value = value * 10 + (c - '0');
+            }
+        }
+        in.read();   // \n
+        return negative ? -value : value;
+    }
+
+    private static void simple(OutputStream out, String value) throws IOException {
+        out.write(('+' + value + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void integer(OutputStream out, long value) throws IOException {
+        out.write((':' + Long.toString(value) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void bulk(OutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.write("$-1\r\n".getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        out.write(('$' + Integer.toString(value.length) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.write(value);
+        out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverSocket.close();
+        synchronized (connections) {
+            for (Socket socket : connections) {
+                socket.close();
+            }
+        }
+    }
+}
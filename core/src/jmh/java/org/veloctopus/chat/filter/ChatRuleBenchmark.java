@@ -0,0 +1,110 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Chat Rule Benchmark
+ * Cost of the moderation rule checks behind the chat regulator
+ */
+
+package org.veloctopus.chat.filter;
+
+import org.openjdk.jmh.annotations.*;
+import org.veloctopus.chat.ChatCorpus;
+import org.veloctopus.ratelimit.KeyedRateLimiter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chat Rule Benchmark
+ *
+ * The chat regulator checks are built on these core pieces, so they are measured
+ * here with the regulator's default rules:
+ * - {@code patternCheck}: the default forbidden patterns through {@link CombinedPatternMatcher}
+ * - {@code wordCheck}: blocked words through {@link AhoCorasickMatcher} on normalized text
+ * - {@code wordMask}: masking blocked words for display
+ * - {@code floodCheck}: a per-sender flood limit through {@link KeyedRateLimiter}. The
+ *   limit is lifted so each check takes the allow path, as a sender within the limit
+ *   would; at benchmark rates any real limit would block every sender at once.
+ * - {@code similarityCheck}: per-sender near-duplicate detection through {@link NearDuplicateDetector}
+ * - {@code raidCheck}: cross-sender payload matching through {@link RaidDetector}
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatRuleBenchmark {
+
+    private static final List<String> FORBIDDEN_PATTERNS =
+        List.of("(?i).*badword.*", "(?i).*spam.*", "(?i).*advertise.*");
+    private static final List<String> BLOCKED_WORDS =
+        List.of("badword1", "badword2", "badword3", "spam", "advertise");
+
+    private CombinedPatternMatcher patterns;
+    private AhoCorasickMatcher words;
+    private KeyedRateLimiter floodLimiter;
+    private NearDuplicateDetector duplicates;
+    private RaidDetector raids;
+    private String[] lines;
+    private String[] senders;
+
+    @Setup
+    public void setUp() {
+        patterns = CombinedPatternMatcher.compile(FORBIDDEN_PATTERNS);
+        words = AhoCorasickMatcher.compile(BLOCKED_WORDS);
+        floodLimiter = new KeyedRateLimiter(Integer.MAX_VALUE, Duration.ofSeconds(10));
+        duplicates = new NearDuplicateDetector(8, 10, Duration.ofMinutes(10).toMillis());
+        raids = new RaidDetector(512, 10, 5, Duration.ofSeconds(30).toMillis());
+        lines = ChatCorpus.lines();
+        senders = ChatCorpus.senders(lines.length);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        ChatCorpus.Cursor cursor;
+
+        @Setup
+        public void setUp(ChatRuleBenchmark benchmark) {
+            cursor = new ChatCorpus.Cursor(benchmark.lines.length);
+        }
+    }
+
+    @Benchmark
+    public boolean patternCheck(Cursor cursor) {
+        return patterns.matches(lines[cursor.cursor.next()]);
+    }
+
+    @Benchmark
+    public boolean wordCheck(Cursor cursor) {
+        return words.containsMatch(ChatTextNormalizer.normalize(lines[cursor.cursor.next()]));
+    }
+
+    @Benchmark
+    public String wordMask(Cursor cursor) {
+        return words.mask(lines[cursor.cursor.next()], '*');
+    }
+
+    @Benchmark
+    public boolean floodCheck(Cursor cursor) {
+        return floodLimiter.tryAcquire(senders[cursor.cursor.next()]);
+    }
+
+    @Benchmark
+    public int similarityCheck(Cursor cursor) {
+        int i = cursor.cursor.next();
+        return duplicates.recordAndCount(senders[i], lines[i]);
+    }
+
+    @Benchmark
+    public int raidCheck(Cursor cursor) {
+        int i = cursor.cursor.next();
+        return raids.recordAndCount(senders[i], lines[i]);
+    }
+}
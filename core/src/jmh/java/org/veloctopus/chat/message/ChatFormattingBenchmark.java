@@ -0,0 +1,125 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Chat Formatting Benchmark
+ * Message construction, MiniMessage parsing and platform rendering
+ */
+
+package org.veloctopus.chat.message;
+
+import net.kyori.adventure.text.Component;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.veloctopus.chat.ChatCorpus;
+import org.veloctopus.chat.message.ChatMessageSystem.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chat Formatting Benchmark
+ *
+ * - {@code buildMessage}: {@link ChatMessage.Builder} with a pre-parsed component
+ * - {@code createFormattedMessage}: MiniMessage parsing plus construction
+ * - {@code renderForPlatformCold}: first cross-platform render of a fresh message
+ * - {@code fanOutBroadcast}: one global line fanned out to {@code recipients}
+ *   players spread over a handful of (platform, locale, tier) groups
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatFormattingBenchmark {
+
+    @Param({"1500"})
+    public int recipients;
+
+    private ChatMessageSystem messageSystem;
+    private ChatRenderCache renderCache;
+    private String[] lines;
+    private String[] senders;
+    private Component[] parsed;
+    private List<ChatRenderCache.RenderKey> recipientKeys;
+
+    @Setup
+    public void setUp() {
+        messageSystem = new ChatMessageSystem();
+        renderCache = messageSystem.getRenderCache();
+        renderCache.setChannelPrefixTemplate(ChannelType.GLOBAL, null, "<dark_gray>[<aqua>G</aqua>]</dark_gray>");
+        renderCache.setChannelPrefixTemplate(ChannelType.GLOBAL, Locale.GERMAN, "<dark_gray>[<aqua>Global</aqua>]</dark_gray>");
+        renderCache.setRankBadgeTemplate("default", "<gray>Member</gray>");
+        renderCache.setRankBadgeTemplate("vip", "<gold>VIP</gold>");
+        renderCache.setRankBadgeTemplate("staff", "<red>Staff</red>");
+
+        lines = ChatCorpus.lines();
+        senders = ChatCorpus.senders(lines.length);
+        parsed = new Component[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            parsed[i] = Component.text(lines[i]);
+        }
+
+        // Recipients: mostly default tier English Minecraft players, a few other groups
+        String[] tiers = {"default", "default", "default", "vip", "staff"};
+        Locale[] locales = {Locale.ENGLISH, Locale.ENGLISH, Locale.GERMAN};
+        recipientKeys = new ArrayList<>(recipients);
+        for (int i = 0; i < recipients; i++) {
+            MessagePlatform platform = i % 50 == 0 ? MessagePlatform.DISCORD : MessagePlatform.MINECRAFT;
+            recipientKeys.add(ChatRenderCache.RenderKey.of(platform, locales[i % locales.length], tiers[i % tiers.length]));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        ChatCorpus.Cursor cursor;
+
+        @Setup
+        public void setUp(ChatFormattingBenchmark benchmark) {
+            cursor = new ChatCorpus.Cursor(benchmark.lines.length);
+        }
+    }
+
+    private ChatMessage build(int i) {
+        return new ChatMessage.Builder()
+            .senderId(senders[i])
+            .senderName(senders[i])
+            .rawContent(lines[i])
+            .formattedContent(parsed[i])
+            .channelType(ChannelType.GLOBAL)
+            .channelName("global")
+            .platform(MessagePlatform.DISCORD)
+            .build();
+    }
+
+    @Benchmark
+    public ChatMessage buildMessage(Cursor cursor) {
+        return build(cursor.cursor.next());
+    }
+
+    @Benchmark
+    public ChatMessage createFormattedMessage(Cursor cursor) {
+        int i = cursor.cursor.next();
+        return messageSystem.createFormattedMessage(senders[i], senders[i], lines[i],
+            ChannelType.GLOBAL, MessagePlatform.MINECRAFT);
+    }
+
+    @Benchmark
+    public Component renderForPlatformCold(Cursor cursor) {
+        return build(cursor.cursor.next()).getFormattedContentForPlatform(MessagePlatform.MINECRAFT);
+    }
+
+    @Benchmark
+    public int fanOutBroadcast(Cursor cursor, Blackhole blackhole) {
+        ChatMessage message = build(cursor.cursor.next());
+        return renderCache.fanOut(message, recipientKeys, key -> key,
+            (rendered, group) -> blackhole.consume(rendered.getComponent()));
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Event Bus Benchmark
+ * Ring buffer event bus against the priority-queue AsyncEventSystem
+ */
+
+package org.veloctopus.events.bus;
+
+import io.github.jk33v3rs.veloctopusrising.api.event.VeloctopusEvent;
+import org.openjdk.jmh.annotations.*;
+import org.veloctopus.events.system.AsyncEventSystem;
+import org.veloctopus.events.system.AsyncEventSystem.EventListener;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Event Bus Benchmark
+ *
+ * Both buses get one trivial handler and one processing thread, so the figures are
+ * the buses' own overhead:
+ * - {@code *Throughput}: publish a batch of {@value #BATCH} events, then wait until the
+ *   handler has seen all of them (events/sec)
+ * - {@code *RoundTrip}: publish one event and wait for its handler. Run in sample mode,
+ *   so JMH reports p50/p99/p99.9 latency.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBusBenchmark {
+
+    static final int BATCH = 1000;
+
+    static final class BenchmarkEvent implements VeloctopusEvent {
+        public UUID getCorrelationId() { return null; }
+        public Instant getTimestamp() { return null; }
+        public int getPriority() { return Priority.NORMAL; }
+        public boolean isCancellable() { return false; }
+        public boolean isCancelled() { return false; }
+        public void setCancelled(boolean cancelled) { }
+        public String getSource() { return "system:benchmark"; }
+    }
+
+    public static class LegacyEvent extends AsyncEventSystem.Event {
+        final CompletableFuture<Void> handled = new CompletableFuture<>();
+    }
+
+    public static class LegacyListener {
+        final LongAdder handled = new LongAdder();
+
+        @EventListener(async = false)
+        public void onEvent(LegacyEvent event) {
+            handled.increment();
+            event.handled.complete(null);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RingState {
+        @Param({"PARK", "YIELD", "BUSY_SPIN"})
+        public RingBufferEventBus.WaitStrategy waitStrategy;
+
+        RingBufferEventBus bus;
+        final LongAdder handled = new LongAdder();
+
+        @Setup
+        public void setUp() {
+            RingBufferEventBus.Configuration config = new RingBufferEventBus.Configuration();
+            config.setWorkerThreads(1);
+            config.setWaitStrategy(waitStrategy);
+            bus = new RingBufferEventBus(config).start();
+            bus.registerHandler(BenchmarkEvent.class, event -> {
+                handled.increment();
+                return null;
+            });
+        }
+
+        @TearDown
+        public void tearDown() {
+            bus.shutdown().join();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LegacyState {
+        AsyncEventSystem system;
+        LegacyListener listener;
+
+        @Setup
+        public void setUp() {
+            AsyncEventSystem.EventSystemConfiguration config = new AsyncEventSystem.EventSystemConfiguration();
+            config.setEventProcessingThreads(1);
+            config.setListenerExecutionThreads(1);
+            system = new AsyncEventSystem(config);
+            system.initializeAsync().join();
+            listener = new LegacyListener();
+            system.registerListenerAsync(listener).join();
+        }
+
+        @TearDown
+        public void tearDown() {
+            system.shutdownAsync().join();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BATCH)
+    public long ringThroughput(RingState state) {
+        long target = state.handled.sum() + BATCH;
+        for (int i = 0; i < BATCH; i++) {
+            BenchmarkEvent event = new BenchmarkEvent();
+            while (state.bus.tryPublish(event) < 0) {
+                Thread.onSpinWait();
+            }
+        }
+        while (state.handled.sum() < target) {
+            Thread.onSpinWait();
+        }
+        return target;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BATCH)
+    public long asyncEventSystemThroughput(LegacyState state) {
+        long target = state.listener.handled.sum() + BATCH;
+        for (int i = 0; i < BATCH; i++) {
+            state.system.fireEventAsync(new LegacyEvent());
+        }
+        while (state.listener.handled.sum() < target) {
+            Thread.onSpinWait();
+        }
+        return target;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void ringRoundTrip(RingState state) {
+        state.bus.fireEventAsync(new BenchmarkEvent()).join();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void asyncEventSystemRoundTrip(LegacyState state) {
+        LegacyEvent event = new LegacyEvent();
+        state.system.fireEventAsync(event);
+        event.handled.join();
+    }
+}
@@ -9,6 +9,8 @@
 
 package org.veloctopus.authentication;
 
+import org.veloctopus.ratelimit.KeyedRateLimiter;
+
 import java.security.SecureRandom;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -146,28 +148,23 @@ public class HexadecimalCodeService {
      * Rate limiting and security tracking
      */
     public static class SecurityTracker {
-        private final Map<String, List<Instant>> validationAttempts;
+        private final KeyedRateLimiter validationAttempts;
         private final Map<String, Instant> blockedUsers;
         private final Map<String, Integer> failedAttempts;
-        private final Duration rateLimitWindow;
-        private final int maxAttemptsPerWindow;
         private final int bruteForceThreshold;
         private final Duration blockDuration;
 
         public SecurityTracker() {
-            this.validationAttempts = new ConcurrentHashMap<>();
+            // 10 validation attempts per 5 minutes
+            this.validationAttempts = new KeyedRateLimiter(10, Duration.ofMinutes(5));
             this.blockedUsers = new ConcurrentHashMap<>();
             this.failedAttempts = new ConcurrentHashMap<>();
-            this.rateLimitWindow = Duration.ofMinutes(5);
-            this.maxAttemptsPerWindow = 10;
             this.bruteForceThreshold = 20;
             this.blockDuration = Duration.ofMinutes(30);
         }
 
         public boolean isRateLimited(String identifier) {
-            cleanupOldAttempts(identifier);
-            List<Instant> attempts = validationAttempts.getOrDefault(identifier, new ArrayList<>());
-            return attempts.size() >= maxAttemptsPerWindow;
+            return validationAttempts.wouldLimit(identifier);
         }
 
         public boolean isBlocked(String identifier) {
@@ -186,7 +183,7 @@ public class HexadecimalCodeService {
 
         public void recordAttempt(String identifier, boolean successful) {
             // Record validation attempt
-            validationAttempts.computeIfAbsent(identifier, k -> new ArrayList<>()).add(Instant.now());
+            validationAttempts.record(identifier);
             
             if (!successful) {
                 int failures = failedAttempts.getOrDefault(identifier, 0) + 1;
@@ -206,27 +203,11 @@ public class HexadecimalCodeService {
             return failedAttempts.getOrDefault(identifier, 0) >= bruteForceThreshold;
         }
 
-        private void cleanupOldAttempts(String identifier) {
-            List<Instant> attempts = validationAttempts.get(identifier);
-            if (attempts != null) {
-                Instant cutoff = Instant.now().minus(rateLimitWindow);
-                attempts.removeIf(attempt -> attempt.isBefore(cutoff));
-                
-                if (attempts.isEmpty()) {
-                    validationAttempts.remove(identifier);
-                }
-            }
-        }
-
         public void cleanup() {
             Instant now = Instant.now();
             
             // Cleanup old validation attempts
-            validationAttempts.entrySet().removeIf(entry -> {
-                Instant cutoff = now.minus(rateLimitWindow);
-                entry.getValue().removeIf(attempt -> attempt.isBefore(cutoff));
-                return entry.getValue().isEmpty();
-            });
+            validationAttempts.evictIdle();
             
             // Cleanup expired blocks
             blockedUsers.entrySet().removeIf(entry -> {
@@ -236,7 +217,7 @@ public class HexadecimalCodeService {
 
         // Getters for monitoring
         public int getTotalBlockedUsers() { return blockedUsers.size(); }
-        public int getTotalActiveAttempts() { return validationAttempts.size(); }
+        public int getTotalActiveAttempts() { return validationAttempts.getTrackedKeyCount(); }
         public Map<String, Integer> getFailedAttempts() { return new HashMap<>(failedAttempts); }
     }
 
@@ -11,6 +11,7 @@ package org.veloctopus.authentication.transfer;
 
 import org.veloctopus.authentication.AuthenticationSystem;
 import org.veloctopus.authentication.server.ServerWhitelistingSystem;
+import org.veloctopus.ratelimit.KeyedRateLimiter;
 import com.velocitypowered.api.event.Subscribe;
 import com.velocitypowered.api.event.connection.PluginMessageEvent;
 import com.velocitypowered.api.event.player.ServerConnectedEvent;
@@ -146,35 +147,29 @@ public class TransferPacketHandler {
      * Rate limiting tracker
      */
     public static class RateLimitTracker {
-        private final Map<String, List<Instant>> playerAttempts;
-        private final int maxAttemptsPerMinute;
-        private final Duration timeWindow;
+        private final KeyedRateLimiter playerAttempts;
 
         public RateLimitTracker(int maxAttemptsPerMinute) {
-            this.playerAttempts = new ConcurrentHashMap<>();
-            this.maxAttemptsPerMinute = maxAttemptsPerMinute;
-            this.timeWindow = Duration.ofMinutes(1);
+            this.playerAttempts = new KeyedRateLimiter(maxAttemptsPerMinute, Duration.ofMinutes(1));
         }
 
+        /**
+         * Check and record a transfer attempt; only allowed attempts are recorded
+         */
         public boolean isRateLimited(String playerId) {
-            List<Instant> attempts = playerAttempts.computeIfAbsent(playerId, k -> new ArrayList<>());
-            
-            // Clean old attempts
-            Instant cutoff = Instant.now().minus(timeWindow);
-            attempts.removeIf(attempt -> attempt.isBefore(cutoff));
-            
-            // Check if rate limited
-            if (attempts.size() >= maxAttemptsPerMinute) {
-                return true;
-            }
-            
-            // Record this attempt
-            attempts.add(Instant.now());
-            return false;
+            return !playerAttempts.tryAcquire(playerId);
         }
 
         public void clearPlayerAttempts(String playerId) {
-            playerAttempts.remove(playerId);
+            playerAttempts.reset(playerId);
+        }
+
+        /**
+         * Number of players still carrying rate limit state, after dropping idle ones
+         */
+        public int getActivePlayerCount() {
+            playerAttempts.evictIdle();
+            return playerAttempts.getTrackedKeyCount();
         }
     }
 
@@ -676,7 +671,7 @@ public class TransferPacketHandler {
             
             stats.put("metrics", new HashMap<>(systemMetrics));
             stats.put("transfer_history_size", transferHistory.size());
-            stats.put("active_rate_limits", rateLimitTracker.playerAttempts.size());
+            stats.put("active_rate_limits", rateLimitTracker.getActivePlayerCount());
             stats.put("hub_servers", hubServers);
             stats.put("default_hub_server", defaultHubServer);
             
@@ -9,29 +9,65 @@
 
 package org.veloctopus.cache.redis;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.github.jk33v3rs.veloctopusrising.api.async.AsyncPattern;
+import redis.clients.jedis.BinaryJedisPubSub;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisCluster;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.AbstractPipeline;
+import redis.clients.jedis.ClusterPipeline;
+import redis.clients.jedis.ConnectionPool;
 import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.resps.ScanResult;
+import redis.clients.jedis.util.JedisClusterCRC16;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.time.Instant;
 import java.time.Duration;
+import java.util.zip.Deflater;
 
 /**
  * Async Redis Caching Layer
  * 
  * Provides high-performance Redis caching with cluster support including:
  * - Async Redis operations with CompletableFuture
+ * - Automatic pipelining of concurrent single-key commands
+ * - Bounded in-process near-cache, kept coherent across proxies by invalidation messages
  * - Redis Cluster support with automatic failover
+ * - Non-blocking key iteration with SCAN, streamed page by page
+ * - Typed binary values through pluggable codecs, compressed above a size threshold
+ * - Get-or-load with per-key miss coalescing, cross-proxy load leases and early refresh
+ * - Fenced, self-renewing distributed locks with pub/sub wake-ups for waiters
  * - Intelligent caching strategies (LRU, TTL, pattern-based)
  * - Cache analytics and hit/miss ratio tracking
  * - Connection pooling with health monitoring
@@ -60,6 +96,8 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
         EXISTS,
         EXPIRE,
         KEYS,
+        SCAN,
+        LOCK,
         PUBLISH,
         SUBSCRIBE
     }
@@ -85,6 +123,10 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
 
     /**
      * Cache statistics for monitoring and optimization
+     *
+     * Hits and misses are counted per tier: the near-cache counters cover lookups in the
+     * in-process cache, and the cache hit and miss counters cover lookups that reached
+     * Redis.
      */
     public static class CacheStatistics {
         private final Map<String, Object> metrics;
@@ -97,6 +139,24 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
         private volatile long totalBytesStored;
         private volatile long totalBytesRetrieved;
         private final Map<CacheOperation, Long> operationCounts;
+        private final LongAdder nearCacheHits;
+        private final LongAdder nearCacheMisses;
+        private final LongAdder invalidationsSent;
+        private final LongAdder invalidationsReceived;
+        private final LongAdder compressedValues;
+        private final LongAdder compressionBytesSaved;
+        private final LongAdder codecErrors;
+        private final LongAdder loadsStarted;
+        private final LongAdder loadsCoalesced;
+        private final LongAdder loadLeaseWaits;
+        private final LongAdder earlyRefreshes;
+        private final LongAdder locksAcquired;
+        private final LongAdder lockContentions;
+        private final LongAdder contendedLockWaitNanos;
+        private final LongAdder contendedLocksAcquired;
+        private final LongAdder lockWaitTimeouts;
+        private final LongAdder lockRenewals;
+        private final LongAdder lockLeasesLost;
 
         public CacheStatistics() {
             this.metrics = new ConcurrentHashMap<>();
@@ -109,6 +169,24 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
             this.totalBytesStored = 0;
             this.totalBytesRetrieved = 0;
             this.operationCounts = new ConcurrentHashMap<>();
+            this.nearCacheHits = new LongAdder();
+            this.nearCacheMisses = new LongAdder();
+            this.invalidationsSent = new LongAdder();
+            this.invalidationsReceived = new LongAdder();
+            this.compressedValues = new LongAdder();
+            this.compressionBytesSaved = new LongAdder();
+            this.codecErrors = new LongAdder();
+            this.loadsStarted = new LongAdder();
+            this.loadsCoalesced = new LongAdder();
+            this.loadLeaseWaits = new LongAdder();
+            this.earlyRefreshes = new LongAdder();
+            this.locksAcquired = new LongAdder();
+            this.lockContentions = new LongAdder();
+            this.contendedLockWaitNanos = new LongAdder();
+            this.contendedLocksAcquired = new LongAdder();
+            this.lockWaitTimeouts = new LongAdder();
+            this.lockRenewals = new LongAdder();
+            this.lockLeasesLost = new LongAdder();
             
             // Initialize operation counts
             for (CacheOperation op : CacheOperation.values()) {
@@ -121,6 +199,20 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
             return total > 0 ? (double) cacheHits / total : 0.0;
         }
 
+        /**
+         * Average wait of acquisitions that found the lock held, in milliseconds
+         */
+        public double getAverageLockWaitMillis() {
+            long acquired = contendedLocksAcquired.sum();
+            return acquired > 0 ? contendedLockWaitNanos.sum() / 1_000_000.0 / acquired : 0.0;
+        }
+
+        public double getNearCacheHitRatio() {
+            long hits = nearCacheHits.sum();
+            long total = hits + nearCacheMisses.sum();
+            return total > 0 ? (double) hits / total : 0.0;
+        }
+
         // Getters
         public long getTotalOperations() { return totalOperations; }
         public long getCacheHits() { return cacheHits; }
@@ -132,6 +224,22 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
         public Map<CacheOperation, Long> getOperationCounts() { return new HashMap<>(operationCounts); }
         public Instant getStartTime() { return startTime; }
         public Map<String, Object> getMetrics() { return new ConcurrentHashMap<>(metrics); }
+        public long getNearCacheHits() { return nearCacheHits.sum(); }
+        public long getNearCacheMisses() { return nearCacheMisses.sum(); }
+        public long getInvalidationsSent() { return invalidationsSent.sum(); }
+        public long getInvalidationsReceived() { return invalidationsReceived.sum(); }
+        public long getCompressedValues() { return compressedValues.sum(); }
+        public long getCompressionBytesSaved() { return compressionBytesSaved.sum(); }
+        public long getCodecErrors() { return codecErrors.sum(); }
+        public long getLoadsStarted() { return loadsStarted.sum(); }
+        public long getLoadsCoalesced() { return loadsCoalesced.sum(); }
+        public long getLoadLeaseWaits() { return loadLeaseWaits.sum(); }
+        public long getEarlyRefreshes() { return earlyRefreshes.sum(); }
+        public long getLocksAcquired() { return locksAcquired.sum(); }
+        public long getLockContentions() { return lockContentions.sum(); }
+        public long getLockWaitTimeouts() { return lockWaitTimeouts.sum(); }
+        public long getLockRenewals() { return lockRenewals.sum(); }
+        public long getLockLeasesLost() { return lockLeasesLost.sum(); }
 
         // Internal update methods
         void incrementTotalOperations() { totalOperations++; }
@@ -146,6 +254,28 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
         void incrementOperationCount(CacheOperation operation) {
             operationCounts.merge(operation, 1L, Long::sum);
         }
+        void incrementNearCacheHits() { nearCacheHits.increment(); }
+        void incrementNearCacheMisses() { nearCacheMisses.increment(); }
+        void addInvalidationsSent(long keys) { invalidationsSent.add(keys); }
+        void addInvalidationsReceived(long keys) { invalidationsReceived.add(keys); }
+        void addCompressedValue(long bytesSaved) {
+            compressedValues.increment();
+            compressionBytesSaved.add(bytesSaved);
+        }
+        void incrementCodecErrors() { codecErrors.increment(); }
+        void incrementLoadsStarted() { loadsStarted.increment(); }
+        void incrementLoadsCoalesced() { loadsCoalesced.increment(); }
+        void incrementLoadLeaseWaits() { loadLeaseWaits.increment(); }
+        void incrementEarlyRefreshes() { earlyRefreshes.increment(); }
+        void incrementLocksAcquired() { locksAcquired.increment(); }
+        void incrementLockContentions() { lockContentions.increment(); }
+        void addLockWait(long nanos) {
+            contendedLocksAcquired.increment();
+            contendedLockWaitNanos.add(nanos);
+        }
+        void incrementLockWaitTimeouts() { lockWaitTimeouts.increment(); }
+        void incrementLockRenewals() { lockRenewals.increment(); }
+        void incrementLockLeasesLost() { lockLeasesLost.increment(); }
         void setMetric(String key, Object value) { metrics.put(key, value); }
     }
 
@@ -177,59 +307,396 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
 
     /**
      * Distributed lock implementation
+     *
+     * A lease in Redis shared by every proxy:
+     * - Acquiring sets the lock key and increments its fencing counter in one script, so
+     *   every acquisition gets a larger token than any before it. Hand the token to
+     *   whatever the lock protects and have it reject writes carrying a smaller one; that
+     *   stops a holder whose lease lapsed, e.g. in a long pause, from overwriting its
+     *   successor's work.
+     * - Release and renewal are scripts that act only while the key holds this lock's
+     *   value, so a lapsed holder can never release or extend its successor's lease.
+     * - With the watchdog on, a held lease is renewed every third of its duration until
+     *   released, so long critical sections keep it, while a dead proxy's lease lapses
+     *   within one duration.
+     * - Waiters sleep until a release is published on the lock channel, or until the
+     *   holder's lease would lapse, instead of polling.
+     *
+     * One instance is one holder and is not reentrant; it may be acquired again after
+     * release.
      */
     public static class DistributedLock {
         private final String lockKey;
+        private final String fenceKey;
         private final String lockValue;
         private final Duration lockTimeout;
         private final AsyncRedisCacheLayer cacheLayer;
         private volatile boolean acquired;
+        private volatile long leaseExpiresAtNanos;
+        private volatile long fencingToken;
+        private volatile ScheduledFuture<?> watchdog;
 
         public DistributedLock(String lockKey, Duration lockTimeout, AsyncRedisCacheLayer cacheLayer) {
-            this.lockKey = "lock:" + lockKey;
-            this.lockValue = "lock_" + System.currentTimeMillis() + "_" + Thread.currentThread().getId();
+            // The hash tag keeps both keys in one cluster slot, as the acquire script needs
+            this.lockKey = "lock:{" + lockKey + "}";
+            this.fenceKey = this.lockKey + ":fence";
+            this.lockValue = cacheLayer.instanceId + ":" + UUID.randomUUID();
             this.lockTimeout = lockTimeout;
             this.cacheLayer = cacheLayer;
             this.acquired = false;
+            this.fencingToken = 0;
         }
 
+        /**
+         * Try once to acquire the lock
+         */
         public CompletableFuture<Boolean> acquireAsync() {
-            return cacheLayer.setIfNotExistsAsync(lockKey, lockValue, lockTimeout)
-                .thenApply(success -> {
-                    acquired = success;
-                    return success;
+            if (acquired) {
+                return CompletableFuture.completedFuture(true);
+            }
+            return tryAcquireAsync().thenApply(reply -> reply > 0);
+        }
+
+        /**
+         * Acquire the lock, waiting up to maxWait for other holders to release it
+         */
+        public CompletableFuture<Boolean> acquireAsync(Duration maxWait) {
+            if (acquired) {
+                return CompletableFuture.completedFuture(true);
+            }
+            long startTime = System.nanoTime();
+            CompletableFuture<Boolean> result = new CompletableFuture<>();
+            attemptAcquire(startTime + maxWait.toNanos(), startTime, false, result);
+            return result;
+        }
+
+        private void attemptAcquire(long deadline, long startTime, boolean contended, CompletableFuture<Boolean> result) {
+            // Registered before the attempt, so a release between the two still wakes us
+            CompletableFuture<Void> released = cacheLayer.awaitLockRelease(lockKey);
+            tryAcquireAsync().whenComplete((reply, failure) -> {
+                if (failure != null) {
+                    cacheLayer.cancelLockWait(lockKey, released);
+                    result.completeExceptionally(failure);
+                    return;
+                }
+                if (reply > 0) {
+                    cacheLayer.cancelLockWait(lockKey, released);
+                    if (contended) {
+                        cacheLayer.statistics.addLockWait(System.nanoTime() - startTime);
+                    }
+                    result.complete(true);
+                    return;
+                }
+                if (!contended) {
+                    cacheLayer.statistics.incrementLockContentions();
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    cacheLayer.cancelLockWait(lockKey, released);
+                    cacheLayer.statistics.incrementLockWaitTimeouts();
+                    result.complete(false);
+                    return;
+                }
+                // The holder may die without releasing, so also wake when its lease would lapse
+                long leaseRemaining = reply < 0 ? TimeUnit.MILLISECONDS.toNanos(-reply) : lockTimeout.toNanos();
+                ScheduledFuture<?> timer;
+                try {
+                    timer = cacheLayer.scheduler.schedule(() -> released.complete(null),
+                        Math.min(remaining, leaseRemaining), TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException e) {
+                    cacheLayer.cancelLockWait(lockKey, released);
+                    result.completeExceptionally(e);
+                    return;
+                }
+                released.whenComplete((ignored, wakeFailure) -> {
+                    timer.cancel(false);
+                    cacheLayer.cancelLockWait(lockKey, released);
+                    attemptAcquire(deadline, startTime, true, result);
                 });
+            });
         }
 
-        public CompletableFuture<Boolean> releaseAsync() {
+        /**
+         * One acquire attempt: the fencing token if acquired, otherwise minus the holder's
+         * remaining lease in millis, or 0 if unknown
+         */
+        private CompletableFuture<Long> tryAcquireAsync() {
+            String leaseMillis = String.valueOf(lockTimeout.toMillis());
+            long requestTime = System.nanoTime();
+            return cacheLayer.executeCommandAsync(CacheOperation.LOCK,
+                    jedis -> jedis.eval(ACQUIRE_LOCK_SCRIPT, 2, lockKey, fenceKey, lockValue, leaseMillis),
+                    pipeline -> pipeline.eval(ACQUIRE_LOCK_SCRIPT, 2, lockKey, fenceKey, lockValue, leaseMillis))
+                .thenApply(result -> {
+                    long reply = (Long) result;
+                    if (reply > 0) {
+                        // Measured from the request, so the local view never outlives the lease
+                        leaseExpiresAtNanos = requestTime + lockTimeout.toNanos();
+                        fencingToken = reply;
+                        acquired = true;
+                        cacheLayer.activeLocks.put(lockKey, this);
+                        cacheLayer.statistics.incrementLocksAcquired();
+                        startWatchdog();
+                    }
+                    return reply;
+                });
+        }
+
+        /**
+         * Extend the lease to a full lock timeout, if this lock still holds it
+         */
+        public CompletableFuture<Boolean> renewAsync() {
             if (!acquired) {
                 return CompletableFuture.completedFuture(false);
             }
-            
-            return cacheLayer.getAsync(lockKey)
-                .thenCompose(currentValue -> {
-                    if (lockValue.equals(currentValue)) {
-                        return cacheLayer.deleteAsync(lockKey)
-                            .thenApply(deleted -> {
-                                acquired = false;
-                                return deleted > 0;
-                            });
+            String leaseMillis = String.valueOf(lockTimeout.toMillis());
+            long requestTime = System.nanoTime();
+            return cacheLayer.executeCommandAsync(CacheOperation.LOCK,
+                    jedis -> jedis.eval(RENEW_LOCK_SCRIPT, 1, lockKey, lockValue, leaseMillis),
+                    pipeline -> pipeline.eval(RENEW_LOCK_SCRIPT, 1, lockKey, lockValue, leaseMillis))
+                .thenApply(result -> {
+                    if (Long.valueOf(1).equals(result)) {
+                        leaseExpiresAtNanos = requestTime + lockTimeout.toNanos();
+                        cacheLayer.statistics.incrementLockRenewals();
+                        return true;
                     }
-                    return CompletableFuture.completedFuture(false);
+                    leaseLost();
+                    return false;
                 });
         }
 
-        public boolean isAcquired() { return acquired; }
+        public CompletableFuture<Boolean> releaseAsync() {
+            if (!acquired) {
+                return CompletableFuture.completedFuture(false);
+            }
+            stopWatchdog();
+            acquired = false;
+            cacheLayer.activeLocks.remove(lockKey, this);
+            
+            String channel = cacheLayer.config.getLockChannel();
+            return cacheLayer.executeCommandAsync(CacheOperation.LOCK,
+                    jedis -> jedis.eval(RELEASE_LOCK_SCRIPT, 1, lockKey, lockValue, channel),
+                    pipeline -> pipeline.eval(RELEASE_LOCK_SCRIPT, 1, lockKey, lockValue, channel))
+                .thenApply(result -> Long.valueOf(1).equals(result));
+        }
+
+        private void startWatchdog() {
+            if (!cacheLayer.config.isLockWatchdogEnabled()) {
+                return;
+            }
+            long period = Math.max(1, lockTimeout.toMillis() / 3);
+            watchdog = cacheLayer.scheduler.scheduleAtFixedRate(() -> renewAsync().exceptionally(failure -> {
+                // The lease may still be valid; the next period tries again
+                cacheLayer.statistics.setMetric("lock_renewal_error", String.valueOf(failure.getMessage()));
+                return false;
+            }), period, period, TimeUnit.MILLISECONDS);
+        }
+
+        private void stopWatchdog() {
+            ScheduledFuture<?> current = watchdog;
+            if (current != null) {
+                current.cancel(false);
+                watchdog = null;
+            }
+        }
+
+        private void leaseLost() {
+            if (acquired) {
+                acquired = false;
+                stopWatchdog();
+                cacheLayer.activeLocks.remove(lockKey, this);
+                cacheLayer.statistics.incrementLockLeasesLost();
+            }
+        }
+
+        /**
+         * Whether this lock holds the lease, as far as this proxy can tell without asking Redis
+         */
+        public boolean isAcquired() { return acquired && System.nanoTime() - leaseExpiresAtNanos < 0; }
+        public long getFencingToken() { return fencingToken; }
         public String getLockKey() { return lockKey; }
     }
 
+    /**
+     * Binary channel subscription on a dedicated connection
+     *
+     * Runs on its own thread because SUBSCRIBE holds its connection until unsubscribed.
+     * A dropped connection is re-established with backoff until the subscription is
+     * closed; messages published while it is down are missed.
+     */
+    public final class Subscription implements AutoCloseable {
+        private final byte[] channel;
+        private final Consumer<byte[]> handler;
+        private final Runnable onSubscribed;
+        private volatile BinaryJedisPubSub pubSub;
+        private volatile boolean closed;
+        private long backoffMillis;          // Only touched by the subscription thread
+
+        private Subscription(byte[] channel, Consumer<byte[]> handler, Runnable onSubscribed) {
+            this.channel = channel;
+            this.handler = handler;
+            this.onSubscribed = onSubscribed;
+            this.closed = false;
+        }
+
+        private void run() {
+            backoffMillis = 100;
+            while (!closed) {
+                BinaryJedisPubSub current = new BinaryJedisPubSub() {
+                    @Override
+                    public void onSubscribe(byte[] subscribedChannel, int subscribedChannels) {
+                        // close() may have run before the subscription was in place
+                        if (closed) {
+                            unsubscribe();
+                            return;
+                        }
+                        backoffMillis = 100;
+                        if (onSubscribed != null) {
+                            onSubscribed.run();
+                        }
+                    }
+
+                    @Override
+                    public void onMessage(byte[] messageChannel, byte[] message) {
+                        try {
+                            handler.accept(message);
+                        } catch (Exception e) {
+                            // A failing handler must not drop the subscription
+                            statistics.setMetric("subscription_handler_error", String.valueOf(e.getMessage()));
+                        }
+                    }
+                };
+                pubSub = current;
+                try {
+                    statistics.incrementOperationCount(CacheOperation.SUBSCRIBE);
+                    if (connectionMode == ConnectionMode.CLUSTER) {
+                        jedisCluster.subscribe(current, channel);
+                    } else {
+                        try (Jedis jedis = jedisPool.getResource()) {
+                            jedis.subscribe(current, channel);
+                        }
+                    }
+                    if (closed) {
+                        break;
+                    }
+                    // Unsubscribed without close(), e.g. by the server; back off as for a failure
+                } catch (Exception e) {
+                    statistics.incrementCacheErrors();
+                    if (closed) {
+                        break;
+                    }
+                }
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, 5000);
+            }
+            activeSubscriptions.remove(this);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            BinaryJedisPubSub current = pubSub;
+            if (current != null && current.isSubscribed()) {
+                current.unsubscribe();
+            }
+        }
+
+        public boolean isClosed() { return closed; }
+    }
+
+    /**
+     * Set KEYS[1] to ARGV[1] for ARGV[2] millis if free and return the next fencing token
+     * from KEYS[2]; otherwise return minus the holder's remaining lease, or 0 if it has none
+     */
+    private static final String ACQUIRE_LOCK_SCRIPT =
+        "if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then "
+            + "return redis.call('incr', KEYS[2]) end "
+            + "local ttl = redis.call('pttl', KEYS[1]) "
+            + "if ttl < 0 then return 0 end "
+            + "return -ttl";
+
+    /**
+     * Reset KEYS[1]'s lease to ARGV[2] millis only while it still holds ARGV[1]
+     */
+    private static final String RENEW_LOCK_SCRIPT =
+        "if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('pexpire', KEYS[1], ARGV[2]) end "
+            + "return 0";
+
+    /**
+     * Delete KEYS[1] only while it still holds ARGV[1], announcing it on channel ARGV[2]
+     */
+    private static final String RELEASE_LOCK_SCRIPT =
+        "if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "redis.call('del', KEYS[1]) "
+            + "redis.call('publish', ARGV[2], KEYS[1]) "
+            + "return 1 end "
+            + "return 0";
+
+    /**
+     * Value of KEYS[1] and its remaining TTL in millis: -1 without a TTL, -2 if missing
+     */
+    private static final String GET_WITH_TTL_SCRIPT =
+        "return {redis.call('get', KEYS[1]), redis.call('pttl', KEYS[1])}";
+    private static final byte[] GET_WITH_TTL_SCRIPT_BYTES = GET_WITH_TTL_SCRIPT.getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Near-cache version slots; a power of two
+     */
+    private static final int NEAR_CACHE_VERSION_SLOTS = 4096;
+
+    /**
+     * Get-or-load lease key suffix
+     */
+    private static final String LOAD_LEASE_SUFFIX = ":load-lease";
+
+    /**
+     * Delete KEYS[1] only while it still holds ARGV[1]
+     */
+    private static final String RELEASE_IF_OWNER_SCRIPT =
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end";
+
+    /**
+     * String values for get-or-load
+     */
+    private static final CacheCodec<String> STRING_CODEC = new CacheCodec<String>() {
+        @Override
+        public int getVersion() { return 1; }
+
+        @Override
+        public void encode(String value, DataOutput out) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public String decode(int version, DataInput in) throws IOException {
+            return new String(CacheCodec.readLengthPrefixed(in), StandardCharsets.UTF_8);
+        }
+    };
+
     // Core components
     private JedisPool jedisPool;
     private JedisCluster jedisCluster;
     private final ScheduledExecutorService scheduler;
     private final ThreadPoolExecutor asyncExecutor;
     private final CacheStatistics statistics;
-    private final Map<String, Object> localCache;
+    
+    // Near-cache; null when disabled
+    private final Cache<String, NearCacheEntry> nearCache;
+    private final Map<String, CompletableFuture<?>> inFlightLoads;
+    private final AtomicLongArray nearCacheVersions;   // Bumped by invalidations, per key hash slot
+    private final AtomicBoolean maintenanceScanRunning;
+    private final String instanceId;
+    private volatile Subscription invalidationSubscription;
+    
+    // Shares pipelines between concurrent single-key commands; null when disabled
+    private volatile RedisAutoPipeliner pipeliner;
     
     // Configuration
     private final ConnectionMode connectionMode;
@@ -237,8 +704,13 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
     private volatile CacheHealth currentHealth;
     private volatile boolean initialized;
     
+    // Distributed locks
+    private final Map<String, DistributedLock> activeLocks;        // Held by this proxy
+    private final Map<String, Set<CompletableFuture<Void>>> lockWaiters;
+    private volatile Subscription lockSubscription;
+    
     // Monitoring
-    private final Map<String, DistributedLock> activeLocks;
+    private final Set<Subscription> activeSubscriptions;
 
     public AsyncRedisCacheLayer(RedisCacheConfiguration config) {
         this.config = config;
@@ -247,8 +719,19 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
         this.asyncExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(
             config.getAsyncThreadPoolSize());
         this.statistics = new CacheStatistics();
-        this.localCache = new ConcurrentHashMap<>();
+        this.nearCache = config.isNearCacheEnabled()
+            ? Caffeine.newBuilder()
+                .maximumSize(config.getNearCacheMaximumSize())
+                .expireAfter(new NearCacheExpiry(config.getNearCacheTtl()))
+                .build()
+            : null;
+        this.nearCacheVersions = new AtomicLongArray(NEAR_CACHE_VERSION_SLOTS);
+        this.inFlightLoads = new ConcurrentHashMap<>();
+        this.maintenanceScanRunning = new AtomicBoolean(false);
+        this.instanceId = UUID.randomUUID().toString();
         this.activeLocks = new ConcurrentHashMap<>();
+        this.lockWaiters = new ConcurrentHashMap<>();
+        this.activeSubscriptions = ConcurrentHashMap.newKeySet();
         this.currentHealth = CacheHealth.OFFLINE;
         this.initialized = false;
     }
@@ -274,10 +757,23 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
                 // Test connection
                 testConnection();
                 
+                // Cluster commands route per slot, so only standalone connections pipeline
+                if (config.isAutoPipeliningEnabled() && connectionMode != ConnectionMode.CLUSTER) {
+                    pipeliner = new RedisAutoPipeliner(jedisPool::getResource, asyncExecutor, scheduler, statistics,
+                        config.getPipelineMaxBatchSize(), config.getPipelineMaxInFlightBatches(),
+                        config.getPipelineFlushWindowMicros());
+                }
+                
+                // Drop near-cache entries when other proxies write
+                if (nearCache != null) {
+                    invalidationSubscription = startSubscription(
+                        config.getInvalidationChannel().getBytes(StandardCharsets.UTF_8),
+                        this::onInvalidation, this::clearNearCache);
+                }
+                
                 // Start monitoring
                 startHealthMonitoring();
                 startCacheWarmup();
-                startLockCleanup();
                 
                 this.currentHealth = CacheHealth.HEALTHY;
                 this.initialized = true;
@@ -307,7 +803,6 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
                 updateCacheHealth();
                 performCacheMaintenance();
                 updateStatistics();
-                cleanupExpiredLocks();
                 
                 return true;
             } catch (Exception e) {
@@ -333,6 +828,11 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
                 }
                 activeLocks.clear();
                 
+                // Leave pub/sub channels before their connections go away
+                for (Subscription subscription : activeSubscriptions) {
+                    subscription.close();
+                }
+                
                 // Close connections
                 if (jedisPool != null) {
                     jedisPool.close();
@@ -374,239 +874,1215 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
 
     /**
      * Get value from cache with async support
+     *
+     * Served from the near-cache when it holds the key; otherwise read from Redis and
+     * kept in the near-cache, for no longer than the key has left to live in Redis.
      */
     public CompletableFuture<String> getAsync(String key) {
-        return executeRedisOperationAsync(jedis -> {
-            statistics.incrementOperationCount(CacheOperation.GET);
-            statistics.incrementTotalOperations();
-            
-            long startTime = System.nanoTime();
-            String value = jedis.get(key);
-            long operationTime = (System.nanoTime() - startTime) / 1_000_000; // Convert to ms
-            
-            statistics.updateAverageOperationTime(operationTime);
-            
-            if (value != null) {
-                statistics.incrementCacheHits();
-                statistics.addBytesRetrieved(value.getBytes().length);
-            } else {
-                statistics.incrementCacheMisses();
-            }
-            
-            return value;
-        });
+        if (nearCache == null) {
+            return executeCommandAsync(CacheOperation.GET, jedis -> jedis.get(key), pipeline -> pipeline.get(key))
+                .thenApply(this::recordFetch);
+        }
+        
+        NearCacheEntry cached = nearCache.getIfPresent(key);
+        if (cached != null && cached.value instanceof String) {
+            statistics.incrementNearCacheHits();
+            return CompletableFuture.completedFuture((String) cached.value);
+        }
+        statistics.incrementNearCacheMisses();
+        
+        long version = nearCacheVersion(key);
+        long readNanos = System.nanoTime();
+        return executeCommandAsync(CacheOperation.GET,
+                jedis -> jedis.eval(GET_WITH_TTL_SCRIPT, 1, key),
+                pipeline -> pipeline.eval(GET_WITH_TTL_SCRIPT, 1, key))
+            .thenApply(reply -> {
+                List<?> parts = (List<?>) reply;
+                String value = recordFetch((String) parts.get(0));
+                if (value != null) {
+                    populateNearCache(key, value, version, readNanos, (Long) parts.get(1));
+                }
+                return value;
+            });
+    }
+
+    /**
+     * Count a string read from Redis as a hit or a miss
+     */
+    private String recordFetch(String value) {
+        if (value != null) {
+            statistics.incrementCacheHits();
+            statistics.addBytesRetrieved(value.getBytes().length);
+        } else {
+            statistics.incrementCacheMisses();
+        }
+        return value;
     }
 
     /**
      * Set value in cache with TTL support
+     *
+     * The TTL is sent in milliseconds, so sub-second TTLs are kept as given.
      */
     public CompletableFuture<Boolean> setAsync(String key, String value, Duration ttl) {
-        return executeRedisOperationAsync(jedis -> {
-            statistics.incrementOperationCount(CacheOperation.SET);
-            statistics.incrementTotalOperations();
-            
-            long startTime = System.nanoTime();
-            String result;
-            
+        statistics.addBytesStored(value.getBytes().length);
+        return invalidateAround(Collections.singletonList(key), () -> {
             if (ttl != null) {
-                result = jedis.setex(key, (int) ttl.getSeconds(), value);
-            } else {
-                result = jedis.set(key, value);
+                SetParams params = SetParams.setParams().px(ttl.toMillis());
+                return executeCommandAsync(CacheOperation.SET,
+                    jedis -> jedis.set(key, value, params),
+                    pipeline -> pipeline.set(key, value, params));
             }
-            
-            long operationTime = (System.nanoTime() - startTime) / 1_000_000;
-            statistics.updateAverageOperationTime(operationTime);
-            statistics.addBytesStored(value.getBytes().length);
-            
-            return "OK".equals(result);
-        });
+            return executeCommandAsync(CacheOperation.SET,
+                jedis -> jedis.set(key, value),
+                pipeline -> pipeline.set(key, value));
+        }).thenApply("OK"::equals);
     }
 
     /**
      * Set value only if key doesn't exist (for distributed locking)
      */
     public CompletableFuture<Boolean> setIfNotExistsAsync(String key, String value, Duration ttl) {
-        return executeRedisOperationAsync(jedis -> {
-            statistics.incrementOperationCount(CacheOperation.SET);
-            statistics.incrementTotalOperations();
-            
-            long startTime = System.nanoTime();
-            String result;
-            
-            if (ttl != null) {
-                result = jedis.set(key, value, "NX", "EX", (int) ttl.getSeconds());
-            } else {
-                result = jedis.set(key, value, "NX");
-            }
-            
-            long operationTime = (System.nanoTime() - startTime) / 1_000_000;
-            statistics.updateAverageOperationTime(operationTime);
-            
-            return "OK".equals(result);
-        });
+        SetParams params = ttl != null ? SetParams.setParams().nx().px(ttl.toMillis()) : SetParams.setParams().nx();
+        return invalidateAround(Collections.singletonList(key), () -> executeCommandAsync(CacheOperation.SET,
+            jedis -> jedis.set(key, value, params),
+            pipeline -> pipeline.set(key, value, params)))
+            .thenApply("OK"::equals);
     }
 
     /**
      * Delete key from cache
      */
     public CompletableFuture<Long> deleteAsync(String key) {
-        return executeRedisOperationAsync(jedis -> {
-            statistics.incrementOperationCount(CacheOperation.DELETE);
-            statistics.incrementTotalOperations();
-            
-            long startTime = System.nanoTime();
-            Long result = jedis.del(key);
-            long operationTime = (System.nanoTime() - startTime) / 1_000_000;
-            
-            statistics.updateAverageOperationTime(operationTime);
-            return result;
-        });
+        return invalidateAround(Collections.singletonList(key), () -> executeCommandAsync(CacheOperation.DELETE,
+            jedis -> jedis.del(key),
+            pipeline -> pipeline.del(key)));
     }
 
     /**
      * Check if key exists
      */
     public CompletableFuture<Boolean> existsAsync(String key) {
-        return executeRedisOperationAsync(jedis -> {
-            statistics.incrementOperationCount(CacheOperation.EXISTS);
-            statistics.incrementTotalOperations();
-            
-            long startTime = System.nanoTime();
-            Boolean result = jedis.exists(key);
-            long operationTime = (System.nanoTime() - startTime) / 1_000_000;
-            
-            statistics.updateAverageOperationTime(operationTime);
-            return result;
-        });
+        return executeCommandAsync(CacheOperation.EXISTS, jedis -> jedis.exists(key), pipeline -> pipeline.exists(key));
     }
 
     /**
      * Set expiration for key
      */
     public CompletableFuture<Boolean> expireAsync(String key, Duration ttl) {
-        return executeRedisOperationAsync(jedis -> {
-            statistics.incrementOperationCount(CacheOperation.EXPIRE);
-            statistics.incrementTotalOperations();
-            
-            long startTime = System.nanoTime();
-            Long result = jedis.expire(key, (int) ttl.getSeconds());
-            long operationTime = (System.nanoTime() - startTime) / 1_000_000;
-            
-            statistics.updateAverageOperationTime(operationTime);
-            return result == 1;
-        });
+        return invalidateAround(Collections.singletonList(key), () -> executeCommandAsync(CacheOperation.EXPIRE,
+            jedis -> jedis.expire(key, ttl.getSeconds()),
+            pipeline -> pipeline.expire(key, ttl.getSeconds())))
+            .thenApply(result -> result == 1);
     }
 
     /**
-     * Get keys matching pattern
+     * Typed Values
      */
-    public CompletableFuture<Set<String>> getKeysAsync(String pattern) {
-        return executeRedisOperationAsync(jedis -> {
-            statistics.incrementOperationCount(CacheOperation.KEYS);
-            statistics.incrementTotalOperations();
-            
-            long startTime = System.nanoTime();
-            Set<String> result = jedis.keys(pattern);
-            long operationTime = (System.nanoTime() - startTime) / 1_000_000;
-            
-            statistics.updateAverageOperationTime(operationTime);
-            return result;
-        });
-    }
 
     /**
-     * Advanced Cache Operations
+     * Get a value written by {@link #setTyped} with the same codec
+     *
+     * Completes with null if the key is missing or its value cannot be decoded, such as
+     * a plain string written before the key moved to a codec. The decoded value is kept
+     * in the near-cache and shared by later readers, so it should be immutable.
      */
+    public <T> CompletableFuture<T> getTyped(String key, CacheCodec<T> codec) {
+        return getTypedEntryAsync(key, codec).thenApply(entry -> entry != null ? entry.getValue() : null);
+    }
 
     /**
-     * Bulk get operation for multiple keys
+     * Set a value in its codec's binary form, compressed if it reaches the compression
+     * threshold
      */
-    public CompletableFuture<Map<String, String>> bulkGetAsync(Set<String> keys) {
-        if (keys.isEmpty()) {
-            return CompletableFuture.completedFuture(new HashMap<>());
+    public <T> CompletableFuture<Boolean> setTyped(String key, T value, CacheCodec<T> codec, Duration ttl) {
+        return setTypedEntryAsync(key, value, codec, ttl, 0, 0);
+    }
+
+    private <T> CompletableFuture<CacheValueFrame.Entry<T>> getTypedEntryAsync(String key, CacheCodec<T> codec) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        if (nearCache == null) {
+            return executeCommandAsync(CacheOperation.GET, jedis -> jedis.get(rawKey), pipeline -> pipeline.get(rawKey))
+                .thenApply(frame -> decodeFrame(codec, frame));
         }
         
-        return executeRedisOperationAsync(jedis -> {
-            statistics.incrementTotalOperations();
-            
-            List<String> keyList = new ArrayList<>(keys);
-            List<String> values = jedis.mget(keyList.toArray(new String[0]));
-            
-            Map<String, String> result = new HashMap<>();
-            for (int i = 0; i < keyList.size(); i++) {
-                String value = values.get(i);
-                if (value != null) {
-                    result.put(keyList.get(i), value);
-                    statistics.incrementCacheHits();
-                } else {
-                    statistics.incrementCacheMisses();
+        NearCacheEntry cached = nearCache.getIfPresent(key);
+        if (cached != null && cached.value instanceof TypedValue && ((TypedValue) cached.value).codec == codec) {
+            statistics.incrementNearCacheHits();
+            @SuppressWarnings("unchecked")
+            CacheValueFrame.Entry<T> entry = (CacheValueFrame.Entry<T>) ((TypedValue) cached.value).entry;
+            return CompletableFuture.completedFuture(entry);
+        }
+        statistics.incrementNearCacheMisses();
+        
+        long version = nearCacheVersion(key);
+        long readNanos = System.nanoTime();
+        return executeCommandAsync(CacheOperation.GET,
+                jedis -> jedis.eval(GET_WITH_TTL_SCRIPT_BYTES, 1, rawKey),
+                pipeline -> pipeline.eval(GET_WITH_TTL_SCRIPT_BYTES, 1, rawKey))
+            .thenApply(reply -> {
+                List<?> parts = (List<?>) reply;
+                CacheValueFrame.Entry<T> entry = decodeFrame(codec, (byte[]) parts.get(0));
+                if (entry != null) {
+                    populateNearCache(key, new TypedValue(codec, entry), version, readNanos, (Long) parts.get(1));
                 }
-            }
-            
-            return result;
-        });
+                return entry;
+            });
     }
 
     /**
-     * Bulk set operation for multiple key-value pairs
+     * Decode a frame read from Redis; null if it is missing, undecodable or holds no value
      */
-    public CompletableFuture<Boolean> bulkSetAsync(Map<String, String> keyValues, Duration ttl) {
-        if (keyValues.isEmpty()) {
-            return CompletableFuture.completedFuture(true);
+    private <T> CacheValueFrame.Entry<T> decodeFrame(CacheCodec<T> codec, byte[] frame) {
+        if (frame == null) {
+            statistics.incrementCacheMisses();
+            return null;
         }
-        
-        return executeRedisOperationAsync(jedis -> {
-            statistics.incrementTotalOperations();
-            
-            // Use Redis pipeline for bulk operations
-            List<String> keyValueList = new ArrayList<>();
-            for (Map.Entry<String, String> entry : keyValues.entrySet()) {
-                keyValueList.add(entry.getKey());
-                keyValueList.add(entry.getValue());
-            }
-            
-            String result = jedis.mset(keyValueList.toArray(new String[0]));
-            
-            // Set TTL for each key if specified
+        statistics.incrementCacheHits();
+        statistics.addBytesRetrieved(frame.length);
+        CacheValueFrame.Entry<T> entry;
+        try {
+            entry = CacheValueFrame.decode(codec, frame);
+        } catch (IOException | RuntimeException e) {
+            statistics.incrementCodecErrors();
+            return null;
+        }
+        return entry.getValue() != null ? entry : null;
+    }
+
+    private <T> CompletableFuture<Boolean> setTypedEntryAsync(String key, T value, CacheCodec<T> codec, Duration ttl,
+                                                             long expiresAtMillis, int loadMillis) {
+        byte[] frame;
+        try {
+            frame = CacheValueFrame.encode(codec, value, expiresAtMillis, loadMillis,
+                config.getCompressionThreshold(), config.getCompressionLevel(), statistics);
+        } catch (IOException | RuntimeException e) {
+            statistics.incrementCodecErrors();
+            CompletableFuture<Boolean> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new RuntimeException("Failed to encode cache value", e));
+            return failed;
+        }
+        statistics.addBytesStored(frame.length);
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        return invalidateAround(Collections.singletonList(key), () -> {
             if (ttl != null) {
-                for (String key : keyValues.keySet()) {
-                    jedis.expire(key, (int) ttl.getSeconds());
-                }
+                // Millisecond TTL, so the key lives exactly as long as the expiry in the frame
+                SetParams params = SetParams.setParams().px(ttl.toMillis());
+                return executeCommandAsync(CacheOperation.SET,
+                    jedis -> jedis.set(rawKey, frame, params),
+                    pipeline -> pipeline.set(rawKey, frame, params));
             }
-            
-            return "OK".equals(result);
-        });
+            return executeCommandAsync(CacheOperation.SET,
+                jedis -> jedis.set(rawKey, frame),
+                pipeline -> pipeline.set(rawKey, frame));
+        }).thenApply("OK"::equals);
     }
 
     /**
-     * Distributed Locking
+     * Decoded value in the near-cache, tagged with the codec that decoded it
      */
+    private static final class TypedValue {
+        private final CacheCodec<?> codec;
+        private final CacheValueFrame.Entry<?> entry;
 
-    /**
-     * Create distributed lock
-     */
-    public DistributedLock createDistributedLock(String lockKey, Duration timeout) {
-        DistributedLock lock = new DistributedLock(lockKey, timeout, this);
-        activeLocks.put(lockKey, lock);
-        return lock;
+        TypedValue(CacheCodec<?> codec, CacheValueFrame.Entry<?> entry) {
+            this.codec = codec;
+            this.entry = entry;
+        }
     }
 
     /**
-     * Pub/Sub Operations
+     * Near-cache value with the time its key expires in Redis, if it has a TTL
      */
+    private static final class NearCacheEntry {
+        private final Object value;            // String, or TypedValue
+        private final boolean expiring;
+        private final long expiresAtNanos;     // System.nanoTime() deadline, if expiring
+
+        NearCacheEntry(Object value, long readNanos, long redisTtlMillis) {
+            this.value = value;
+            this.expiring = redisTtlMillis >= 0;
+            // Measured from before the read was sent, so never later than Redis expires the key
+            this.expiresAtNanos = expiring ? readNanos + TimeUnit.MILLISECONDS.toNanos(redisTtlMillis) : 0L;
+        }
+    }
 
     /**
-     * Publish message to channel
+     * Keep a near-cache entry for the near-cache TTL, or until its key expires in Redis
+     * if that is sooner
      */
-    public CompletableFuture<Long> publishAsync(String channel, String message) {
-        return executeRedisOperationAsync(jedis -> {
-            statistics.incrementOperationCount(CacheOperation.PUBLISH);
-            statistics.incrementTotalOperations();
-            
+    private static final class NearCacheExpiry implements Expiry<String, NearCacheEntry> {
+        private final long maxNanos;
+
+        NearCacheExpiry(Duration nearCacheTtl) {
+            this.maxNanos = nearCacheTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, NearCacheEntry entry, long currentTime) {
+            return entry.expiring ? Math.max(0L, Math.min(maxNanos, entry.expiresAtNanos - currentTime)) : maxNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, NearCacheEntry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, NearCacheEntry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Get-or-Load
+     */
+
+    /**
+     * Get a string value, loading and caching it on a miss
+     *
+     * Values are stored in the typed format, so a key used here must not also be read
+     * with {@link #getAsync}.
+     *
+     * @see #getOrLoadTyped
+     */
+    public CompletableFuture<String> getOrLoadAsync(String key, Duration ttl,
+                                                    Supplier<CompletableFuture<String>> loader) {
+        return getOrLoadTyped(key, STRING_CODEC, ttl, loader);
+    }
+
+    /**
+     * Get a typed value, loading and caching it on a miss
+     *
+     * Misses are coalesced so that a key is loaded at most once at a time:
+     * - Concurrent callers on this proxy share one loader future
+     * - Across proxies, the first to miss takes a short lease in Redis; the others poll
+     *   for its value until the lease expires, then load it themselves
+     * - A hit close to expiry may trigger a background reload before the value expires,
+     *   with a probability that rises as expiry nears and with how long the value took
+     *   to load (XFetch, tuned by earlyRefreshBeta). The caller still gets the cached
+     *   value.
+     *
+     * A loader completing with null caches nothing. A failed loader fails every caller
+     * sharing it, and the next miss tries again. A value past the expiry recorded when
+     * it was loaded counts as a miss, even if Redis or the near-cache still holds it.
+     *
+     * @param ttl how long a loaded value is cached, required
+     * @throws NullPointerException if ttl is null
+     */
+    public <T> CompletableFuture<T> getOrLoadTyped(String key, CacheCodec<T> codec, Duration ttl,
+                                                   Supplier<CompletableFuture<T>> loader) {
+        Objects.requireNonNull(ttl, "ttl");
+        return getTypedEntryAsync(key, codec).thenCompose(entry -> {
+            if (entry == null || isPastLoadExpiry(entry)) {
+                return loadOnce(key, codec, ttl, loader);
+            }
+            if (shouldRefreshEarly(entry)) {
+                statistics.incrementEarlyRefreshes();
+                loadOnce(key, codec, ttl, loader).exceptionally(failure -> {
+                    statistics.setMetric("early_refresh_error", String.valueOf(failure.getMessage()));
+                    return null;
+                });
+            }
+            return CompletableFuture.completedFuture(entry.getValue());
+        });
+    }
+
+    /**
+     * Whether a get-or-load value has outlived the expiry recorded when it was loaded
+     */
+    private static boolean isPastLoadExpiry(CacheValueFrame.Entry<?> entry) {
+        return entry.hasLoadMetadata() && System.currentTimeMillis() >= entry.getExpiresAtMillis();
+    }
+
+    /**
+     * XFetch: refresh when now - loadTime * beta * ln(random) reaches the expiry
+     */
+    private boolean shouldRefreshEarly(CacheValueFrame.Entry<?> entry) {
+        double beta = config.getEarlyRefreshBeta();
+        if (beta <= 0 || !entry.hasLoadMetadata()) {
+            return false;
+        }
+        // 1 - nextDouble() is in (0, 1], so the logarithm is finite and not positive
+        double gap = -entry.getLoadMillis() * beta * Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + gap >= entry.getExpiresAtMillis();
+    }
+
+    /**
+     * Join this proxy's in-flight load of a key, or start one
+     */
+    private <T> CompletableFuture<T> loadOnce(String key, CacheCodec<T> codec, Duration ttl,
+                                              Supplier<CompletableFuture<T>> loader) {
+        CompletableFuture<T> load = new CompletableFuture<>();
+        @SuppressWarnings("unchecked")
+        CompletableFuture<T> existing = (CompletableFuture<T>) inFlightLoads.putIfAbsent(key, load);
+        if (existing != null) {
+            statistics.incrementLoadsCoalesced();
+            return existing;
+        }
+        statistics.incrementLoadsStarted();
+        loadWithLease(key, codec, ttl, loader).whenComplete((value, failure) -> {
+            inFlightLoads.remove(key, load);
+            if (failure != null) {
+                load.completeExceptionally(failure);
+            } else {
+                load.complete(value);
+            }
+        });
+        return load;
+    }
+
+    /**
+     * Load a key if this proxy gets its lease, or wait for the proxy that holds it
+     */
+    private <T> CompletableFuture<T> loadWithLease(String key, CacheCodec<T> codec, Duration ttl,
+                                                   Supplier<CompletableFuture<T>> loader) {
+        Duration leaseTtl = config.getLoadLeaseTtl();
+        if (leaseTtl == null) {
+            return runLoader(key, codec, ttl, loader);
+        }
+        String leaseKey = key + LOAD_LEASE_SUFFIX;
+        SetParams params = SetParams.setParams().nx().px(leaseTtl.toMillis());
+        return executeCommandAsync(CacheOperation.SET,
+                jedis -> jedis.set(leaseKey, instanceId, params),
+                pipeline -> pipeline.set(leaseKey, instanceId, params))
+            .handle((reply, failure) -> {
+                if (failure != null || "OK".equals(reply)) {
+                    // Without Redis there is nobody to coordinate with; load anyway
+                    return runLoader(key, codec, ttl, loader)
+                        .whenComplete((value, loadFailure) -> {
+                            if (failure == null) {
+                                releaseLease(leaseKey);
+                            }
+                        });
+                }
+                statistics.incrementLoadLeaseWaits();
+                CompletableFuture<T> result = new CompletableFuture<>();
+                awaitLeasedLoad(key, codec, ttl, loader, System.nanoTime() + leaseTtl.toNanos(), result);
+                return result;
+            })
+            .thenCompose(load -> load);
+    }
+
+    /**
+     * Poll for the value another proxy is loading, loading it here once its lease runs out
+     *
+     * A value past its load expiry is the one being replaced, so polling goes on.
+     */
+    private <T> void awaitLeasedLoad(String key, CacheCodec<T> codec, Duration ttl,
+                                     Supplier<CompletableFuture<T>> loader, long deadline,
+                                     CompletableFuture<T> result) {
+        try {
+            scheduler.schedule(() -> getTypedEntryAsync(key, codec).whenComplete((entry, failure) -> {
+                if (failure == null && entry != null && !isPastLoadExpiry(entry)) {
+                    result.complete(entry.getValue());
+                } else if (System.nanoTime() >= deadline) {
+                    runLoader(key, codec, ttl, loader).whenComplete((value, loadFailure) -> {
+                        if (loadFailure != null) {
+                            result.completeExceptionally(loadFailure);
+                        } else {
+                            result.complete(value);
+                        }
+                    });
+                } else {
+                    awaitLeasedLoad(key, codec, ttl, loader, deadline, result);
+                }
+            }), config.getLoadLeasePollInterval().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Run the loader and cache its value with the metadata early refresh needs
+     *
+     * The value is written before the load completes, so proxies polling for it find it
+     * once the lease is released.
+     */
+    private <T> CompletableFuture<T> runLoader(String key, CacheCodec<T> codec, Duration ttl,
+                                               Supplier<CompletableFuture<T>> loader) {
+        long startTime = System.nanoTime();
+        CompletableFuture<T> loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            loaded = new CompletableFuture<>();
+            loaded.completeExceptionally(e);
+        }
+        return loaded.thenCompose(value -> {
+            if (value == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            int loadMillis = (int) Math.min(Integer.MAX_VALUE, (System.nanoTime() - startTime) / 1_000_000);
+            long expiresAtMillis = System.currentTimeMillis() + ttl.toMillis();
+            return setTypedEntryAsync(key, value, codec, ttl, expiresAtMillis, loadMillis)
+                .handle((written, failure) -> {
+                    if (failure != null) {
+                        // The caller still gets the value; the next miss loads it again
+                        statistics.setMetric("load_cache_error", String.valueOf(failure.getMessage()));
+                    }
+                    return value;
+                });
+        });
+    }
+
+    /**
+     * Release a load lease, unless it expired and another proxy took it meanwhile
+     */
+    private void releaseLease(String leaseKey) {
+        executeCommandAsync(CacheOperation.DELETE,
+            jedis -> jedis.eval(RELEASE_IF_OWNER_SCRIPT, 1, leaseKey, instanceId),
+            pipeline -> pipeline.eval(RELEASE_IF_OWNER_SCRIPT, 1, leaseKey, instanceId))
+            .exceptionally(failure -> {
+                // The lease expires on its own
+                statistics.setMetric("load_lease_release_error", String.valueOf(failure.getMessage()));
+                return null;
+            });
+    }
+
+    /**
+     * Get keys matching pattern
+     *
+     * Collected with SCAN, so Redis is never blocked, but every match is held in memory.
+     * Prefer {@link #scanKeysAsync} or {@link #scanKeys} for large keyspaces.
+     */
+    public CompletableFuture<Set<String>> getKeysAsync(String pattern) {
+        statistics.incrementOperationCount(CacheOperation.KEYS);
+        Set<String> result = new LinkedHashSet<>();
+        return scanKeysAsync(pattern, config.getScanCount(), result::addAll)
+            .thenApply(delivered -> result);
+    }
+
+    /**
+     * Key Iteration
+     */
+
+    /**
+     * Stream keys matching a pattern to a consumer, one SCAN page at a time
+     *
+     * In cluster mode every master is scanned in turn. Pages are delivered in order, on
+     * the async executor, and each page's connection is back in the pool before the
+     * consumer runs. SCAN guarantees every key present for the whole scan is delivered,
+     * possibly more than once. Cancel the returned future to stop after the current
+     * page. Completes with the number of keys delivered.
+     *
+     * @param count COUNT hint per SCAN call, i.e. roughly how many keys Redis examines
+     */
+    public CompletableFuture<Long> scanKeysAsync(String pattern, int count, Consumer<List<String>> consumer) {
+        return scanPagesAsync(pattern, count, page -> {
+            consumer.accept(page);
+            return CompletableFuture.completedFuture(null);
+        });
+    }
+
+    /**
+     * Publish keys matching a pattern, fetching SCAN pages only as the subscriber
+     * requests keys
+     *
+     * Every subscriber gets its own scan. Cancelling the subscription stops it.
+     */
+    public Flow.Publisher<String> scanKeys(String pattern, int count) {
+        return subscriber -> {
+            KeyScanSubscription subscription = new KeyScanSubscription(new KeyScan(pattern, count), subscriber);
+            subscriber.onSubscribe(subscription);
+        };
+    }
+
+    /**
+     * Scan with a page handler whose future must finish before the next page is fetched
+     */
+    private CompletableFuture<Long> scanPagesAsync(String pattern, int count,
+                                                   Function<List<String>, CompletableFuture<?>> handler) {
+        CompletableFuture<Long> result = new CompletableFuture<>();
+        continueScan(new KeyScan(pattern, count), handler, result, 0);
+        return result;
+    }
+
+    private void continueScan(KeyScan scan, Function<List<String>, CompletableFuture<?>> handler,
+                              CompletableFuture<Long> result, long delivered) {
+        if (result.isDone()) {
+            return;
+        }
+        scan.nextPageAsync().whenComplete((page, failure) -> {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+                return;
+            }
+            if (page == null) {
+                result.complete(delivered);
+                return;
+            }
+            if (result.isDone()) {
+                return;
+            }
+            CompletableFuture<?> handled;
+            try {
+                handled = handler.apply(page);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            handled.whenComplete((ignored, handlerFailure) -> {
+                if (handlerFailure != null) {
+                    result.completeExceptionally(handlerFailure);
+                } else {
+                    continueScan(scan, handler, result, delivered + page.size());
+                }
+            });
+        });
+    }
+
+    /**
+     * Cursor state of one scan across every node to be scanned
+     *
+     * Each page borrows a connection only for its SCAN call. Cursors are stateless on the
+     * server, so nothing is held between pages.
+     */
+    private final class KeyScan {
+        private final ScanParams params;
+        private List<Supplier<Jedis>> nodes;
+        private int nodeIndex;
+        private String cursor;
+
+        KeyScan(String pattern, int count) {
+            this.params = new ScanParams().match(pattern).count(count);
+            this.nodes = null;
+            this.nodeIndex = 0;
+            this.cursor = ScanParams.SCAN_POINTER_START;
+        }
+
+        CompletableFuture<List<String>> nextPageAsync() {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return nextPage();
+                } catch (Exception e) {
+                    statistics.incrementCacheErrors();
+                    throw new RuntimeException("Redis operation failed", e);
+                }
+            }, asyncExecutor);
+        }
+
+        /**
+         * Next non-empty page, or null once every node is exhausted
+         */
+        private List<String> nextPage() {
+            if (nodes == null) {
+                nodes = scanNodes();
+            }
+            while (nodeIndex < nodes.size()) {
+                ScanResult<String> page;
+                try (Jedis jedis = nodes.get(nodeIndex).get()) {
+                    statistics.incrementOperationCount(CacheOperation.SCAN);
+                    statistics.incrementTotalOperations();
+                    page = jedis.scan(cursor, params);
+                }
+                cursor = page.getCursor();
+                if (ScanParams.SCAN_POINTER_START.equals(cursor)) {
+                    nodeIndex++;
+                }
+                if (!page.getResult().isEmpty()) {
+                    return page.getResult();
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Connections to every node holding keys: the server, or each cluster master
+     */
+    private List<Supplier<Jedis>> scanNodes() {
+        if (connectionMode != ConnectionMode.CLUSTER) {
+            return Collections.singletonList(jedisPool::getResource);
+        }
+        List<Supplier<Jedis>> masters = new ArrayList<>();
+        for (ConnectionPool pool : jedisCluster.getClusterNodes().values()) {
+            Supplier<Jedis> node = () -> new Jedis(pool.getResource());
+            // Replicas hold copies of their master's keys
+            try (Jedis jedis = node.get()) {
+                if (jedis.info("replication").contains("role:master")) {
+                    masters.add(node);
+                }
+            }
+        }
+        return masters;
+    }
+
+    /**
+     * Demand-driven subscription over a key scan
+     *
+     * Delivery is serialized by the draining flag; the buffer and flags are guarded by
+     * this subscription.
+     */
+    private static final class KeyScanSubscription implements Flow.Subscription {
+        private final KeyScan scan;
+        private final Flow.Subscriber<? super String> subscriber;
+        private final ArrayDeque<String> buffer;
+        private final AtomicBoolean terminated;
+        private long demand;
+        private boolean fetching;
+        private boolean exhausted;
+        private Throwable failure;
+        private boolean draining;
+        private boolean redrain;
+
+        KeyScanSubscription(KeyScan scan, Flow.Subscriber<? super String> subscriber) {
+            this.scan = scan;
+            this.subscriber = subscriber;
+            this.buffer = new ArrayDeque<>();
+            this.terminated = new AtomicBoolean(false);
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    failure = new IllegalArgumentException("Subscriber requested " + n + " keys");
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            terminated.set(true);
+        }
+
+        private void drain() {
+            synchronized (this) {
+                if (draining) {
+                    redrain = true;
+                    return;
+                }
+                draining = true;
+            }
+            while (true) {
+                String key;
+                boolean fetch = false;
+                Throwable error;
+                boolean complete;
+                synchronized (this) {
+                    key = demand > 0 ? buffer.poll() : null;
+                    if (key != null) {
+                        demand--;
+                    }
+                    error = failure;
+                    complete = buffer.isEmpty() && exhausted;
+                    if (key == null && error == null && !complete && demand > 0 && !fetching) {
+                        fetching = true;
+                        fetch = true;
+                    }
+                }
+
+                if (terminated.get()) {
+                    return;
+                }
+                if (key != null) {
+                    subscriber.onNext(key);
+                    continue;
+                }
+                if (error != null) {
+                    if (terminated.compareAndSet(false, true)) {
+                        subscriber.onError(error);
+                    }
+                    return;
+                }
+                if (complete) {
+                    if (terminated.compareAndSet(false, true)) {
+                        subscriber.onComplete();
+                    }
+                    return;
+                }
+                if (fetch) {
+                    scan.nextPageAsync().whenComplete((page, pageFailure) -> {
+                        synchronized (this) {
+                            fetching = false;
+                            if (pageFailure != null) {
+                                failure = pageFailure;
+                            } else if (page == null) {
+                                exhausted = true;
+                            } else {
+                                buffer.addAll(page);
+                            }
+                        }
+                        drain();
+                    });
+                }
+                synchronized (this) {
+                    if (!redrain) {
+                        draining = false;
+                        return;
+                    }
+                    redrain = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Advanced Cache Operations
+     */
+
+    /**
+     * Bulk get operation for multiple keys
+     */
+    public CompletableFuture<Map<String, String>> bulkGetAsync(Set<String> keys) {
+        if (keys.isEmpty()) {
+            return CompletableFuture.completedFuture(new HashMap<>());
+        }
+        
+        // Serve what the near-cache holds and fetch only the rest
+        Map<String, String> result = new HashMap<>();
+        List<String> keyList = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            NearCacheEntry cached = nearCache != null ? nearCache.getIfPresent(key) : null;
+            if (cached != null && cached.value instanceof String) {
+                result.put(key, (String) cached.value);
+                statistics.incrementNearCacheHits();
+            } else {
+                keyList.add(key);
+                if (nearCache != null) {
+                    statistics.incrementNearCacheMisses();
+                }
+            }
+        }
+        if (keyList.isEmpty()) {
+            return CompletableFuture.completedFuture(result);
+        }
+        
+        long[] versions = new long[keyList.size()];
+        for (int i = 0; i < versions.length; i++) {
+            versions[i] = nearCacheVersion(keyList.get(i));
+        }
+        return executeRedisOperationAsync(jedis -> {
+            statistics.incrementTotalOperations();
+            
+            String[] keyArray = keyList.toArray(new String[0]);
+            long readNanos = System.nanoTime();
+            List<String> values;
+            List<Response<Long>> ttls = null;
+            if (nearCache != null) {
+                // TTLs share the round trip, to cap how long each value is kept here
+                Pipeline pipeline = jedis.pipelined();
+                Response<List<String>> mget = pipeline.mget(keyArray);
+                ttls = new ArrayList<>(keyArray.length);
+                for (String key : keyArray) {
+                    ttls.add(pipeline.pttl(key));
+                }
+                pipeline.sync();
+                values = mget.get();
+            } else {
+                values = jedis.mget(keyArray);
+            }
+            
+            for (int i = 0; i < keyList.size(); i++) {
+                String value = values.get(i);
+                if (value != null) {
+                    result.put(keyList.get(i), value);
+                    if (ttls != null) {
+                        populateNearCache(keyList.get(i), value, versions[i], readNanos, ttls.get(i).get());
+                    }
+                    statistics.incrementCacheHits();
+                } else {
+                    statistics.incrementCacheMisses();
+                }
+            }
+            
+            return result;
+        });
+    }
+
+    /**
+     * Bulk set operation for multiple key-value pairs
+     *
+     * Written as pipelined SET ... PX commands, or MSET without a TTL, so every key gets
+     * its TTL in the same command that writes it. Large maps are sent in chunks of
+     * bulkWriteChunkSize keys, one round trip each. In cluster mode keys are grouped by
+     * hash slot and each node receives its own pipeline.
+     */
+    public CompletableFuture<Boolean> bulkSetAsync(Map<String, String> keyValues, Duration ttl) {
+        if (keyValues.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        
+        return invalidateAround(keyValues.keySet(), () -> CompletableFuture.supplyAsync(() -> {
+            statistics.incrementTotalOperations();
+            long startTime = System.nanoTime();
+            try {
+                boolean written;
+                if (connectionMode == ConnectionMode.CLUSTER) {
+                    try (ClusterPipeline pipeline = jedisCluster.pipelined()) {
+                        written = writeBulk(pipeline, groupBySlot(keyValues), ttl);
+                    }
+                } else {
+                    try (Jedis jedis = jedisPool.getResource()) {
+                        List<Map.Entry<String, String>> entries = new ArrayList<>(keyValues.entrySet());
+                        written = writeBulk(jedis.pipelined(), Collections.singletonList(entries), ttl);
+                    }
+                }
+                statistics.updateAverageOperationTime((System.nanoTime() - startTime) / 1_000_000);
+                return written;
+            } catch (Exception e) {
+                statistics.incrementCacheErrors();
+                throw new RuntimeException("Redis operation failed", e);
+            }
+        }, asyncExecutor));
+    }
+
+    /**
+     * Pipeline groups of entries, syncing every bulkWriteChunkSize keys
+     *
+     * Without a TTL each chunk of a group is one MSET, so a group must not span hash
+     * slots in cluster mode.
+     */
+    private boolean writeBulk(AbstractPipeline pipeline, Collection<List<Map.Entry<String, String>>> groups,
+                              Duration ttl) {
+        int chunkSize = config.getBulkWriteChunkSize();
+        SetParams params = ttl != null ? new SetParams().px(ttl.toMillis()) : null;
+        List<Response<String>> responses = new ArrayList<>();
+        int queuedKeys = 0;     // Since the last sync; an MSET carries a whole chunk
+        boolean written = true;
+        for (List<Map.Entry<String, String>> group : groups) {
+            for (int from = 0; from < group.size(); from += chunkSize) {
+                List<Map.Entry<String, String>> chunk = group.subList(from, Math.min(group.size(), from + chunkSize));
+                if (params != null) {
+                    for (Map.Entry<String, String> entry : chunk) {
+                        responses.add(pipeline.set(entry.getKey(), entry.getValue(), params));
+                    }
+                } else {
+                    String[] keyValueList = new String[chunk.size() * 2];
+                    for (int i = 0; i < chunk.size(); i++) {
+                        keyValueList[i * 2] = chunk.get(i).getKey();
+                        keyValueList[i * 2 + 1] = chunk.get(i).getValue();
+                    }
+                    responses.add(pipeline.mset(keyValueList));
+                }
+                queuedKeys += chunk.size();
+                if (queuedKeys >= chunkSize) {
+                    written &= syncBulk(pipeline, responses);
+                    queuedKeys = 0;
+                }
+            }
+        }
+        return syncBulk(pipeline, responses) && written;
+    }
+
+    private boolean syncBulk(AbstractPipeline pipeline, List<Response<String>> responses) {
+        pipeline.sync();
+        boolean written = true;
+        for (Response<String> response : responses) {
+            written &= "OK".equals(response.get());
+        }
+        responses.clear();
+        return written;
+    }
+
+    /**
+     * Split entries by cluster hash slot
+     */
+    private static Collection<List<Map.Entry<String, String>>> groupBySlot(Map<String, String> keyValues) {
+        Map<Integer, List<Map.Entry<String, String>>> slots = new HashMap<>();
+        for (Map.Entry<String, String> entry : keyValues.entrySet()) {
+            slots.computeIfAbsent(JedisClusterCRC16.getSlot(entry.getKey()), slot -> new ArrayList<>()).add(entry);
+        }
+        return slots.values();
+    }
+
+    /**
+     * Distributed Locking
+     */
+
+    /**
+     * Create distributed lock
+     */
+    public DistributedLock createDistributedLock(String lockKey, Duration timeout) {
+        return new DistributedLock(lockKey, timeout, this);
+    }
+
+    /**
+     * Run a critical section under a distributed lock, passing it the fencing token
+     *
+     * The lock is released once the section's future completes. If the lock is not
+     * acquired within maxWait, the section does not run and the result fails with a
+     * {@link TimeoutException}.
+     */
+    public <T> CompletableFuture<T> withLockAsync(String lockKey, Duration leaseTime, Duration maxWait,
+                                                  Function<Long, CompletableFuture<T>> criticalSection) {
+        DistributedLock lock = createDistributedLock(lockKey, leaseTime);
+        return lock.acquireAsync(maxWait).thenCompose(acquired -> {
+            if (!acquired) {
+                CompletableFuture<T> timedOut = new CompletableFuture<>();
+                timedOut.completeExceptionally(new TimeoutException("Lock " + lockKey + " not acquired within " + maxWait));
+                return timedOut;
+            }
+            CompletableFuture<T> section;
+            try {
+                section = criticalSection.apply(lock.getFencingToken());
+            } catch (RuntimeException e) {
+                section = new CompletableFuture<>();
+                section.completeExceptionally(e);
+            }
+            return section.whenComplete((result, failure) -> lock.releaseAsync());
+        });
+    }
+
+    /**
+     * Register interest in the next release of a lock
+     */
+    private CompletableFuture<Void> awaitLockRelease(String lockKey) {
+        ensureLockSubscription();
+        CompletableFuture<Void> released = new CompletableFuture<>();
+        lockWaiters.compute(lockKey, (key, waiters) -> {
+            Set<CompletableFuture<Void>> current = waiters != null ? waiters : ConcurrentHashMap.newKeySet();
+            current.add(released);
+            return current;
+        });
+        return released;
+    }
+
+    private void cancelLockWait(String lockKey, CompletableFuture<Void> released) {
+        lockWaiters.computeIfPresent(lockKey, (key, waiters) -> {
+            waiters.remove(released);
+            return waiters.isEmpty() ? null : waiters;
+        });
+    }
+
+    /**
+     * Subscribe to lock releases the first time anyone waits
+     */
+    private void ensureLockSubscription() {
+        if (lockSubscription == null) {
+            synchronized (lockWaiters) {
+                if (lockSubscription == null) {
+                    lockSubscription = startSubscription(config.getLockChannel().getBytes(StandardCharsets.UTF_8),
+                        this::onLockReleased, this::wakeAllLockWaiters);
+                }
+            }
+        }
+    }
+
+    private void onLockReleased(byte[] message) {
+        Set<CompletableFuture<Void>> waiters = lockWaiters.remove(new String(message, StandardCharsets.UTF_8));
+        if (waiters != null) {
+            for (CompletableFuture<Void> waiter : waiters) {
+                waiter.complete(null);
+            }
+        }
+    }
+
+    /**
+     * Send every waiter back to retry, as after the lock channel was (re)subscribed and
+     * releases may have been missed
+     */
+    private void wakeAllLockWaiters() {
+        for (String lockKey : new ArrayList<>(lockWaiters.keySet())) {
+            onLockReleased(lockKey.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Pub/Sub Operations
+     */
+
+    /**
+     * Publish message to channel
+     */
+    public CompletableFuture<Long> publishAsync(String channel, String message) {
+        return executeRedisOperationAsync(jedis -> {
+            statistics.incrementOperationCount(CacheOperation.PUBLISH);
+            statistics.incrementTotalOperations();
+            
             return jedis.publish(channel, message);
         });
     }
 
+    /**
+     * Publish binary messages to a channel, in order, as one pipeline
+     *
+     * Completes with the total number of receivers across all messages.
+     */
+    public CompletableFuture<Long> publishAllAsync(byte[] channel, List<byte[]> messages) {
+        if (messages.isEmpty()) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        
+        if (connectionMode == ConnectionMode.CLUSTER) {
+            // Cluster pub/sub is broadcast from any node, so there is no node to pipeline to
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    long receivers = 0;
+                    for (byte[] message : messages) {
+                        statistics.incrementOperationCount(CacheOperation.PUBLISH);
+                        statistics.incrementTotalOperations();
+                        receivers += jedisCluster.publish(channel, message);
+                        statistics.addBytesStored(message.length);
+                    }
+                    return receivers;
+                } catch (Exception e) {
+                    statistics.incrementCacheErrors();
+                    throw new RuntimeException("Redis operation failed", e);
+                }
+            }, asyncExecutor);
+        }
+        
+        return executeRedisOperationAsync(jedis -> {
+            long startTime = System.nanoTime();
+            Pipeline pipeline = jedis.pipelined();
+            List<Response<Long>> responses = new ArrayList<>(messages.size());
+            for (byte[] message : messages) {
+                statistics.incrementOperationCount(CacheOperation.PUBLISH);
+                statistics.incrementTotalOperations();
+                responses.add(pipeline.publish(channel, message));
+                statistics.addBytesStored(message.length);
+            }
+            pipeline.sync();
+            
+            long operationTime = (System.nanoTime() - startTime) / 1_000_000;
+            statistics.updateAverageOperationTime(operationTime);
+            
+            long receivers = 0;
+            for (Response<Long> response : responses) {
+                receivers += response.get();
+            }
+            return receivers;
+        });
+    }
+
+    /**
+     * Subscribe to a binary channel
+     *
+     * The handler runs on the subscription's thread, one message at a time, and should
+     * hand off anything slow. Close the returned subscription to leave the channel.
+     */
+    public Subscription subscribe(byte[] channel, Consumer<byte[]> handler) {
+        if (!initialized) {
+            throw new IllegalStateException("Redis cache layer is not initialized");
+        }
+        return startSubscription(channel, handler, null);
+    }
+
+    /**
+     * Near-Cache Coherence
+     */
+
+    /**
+     * Keep a value read from Redis, unless an invalidation of its key raced with the read
+     *
+     * Invalidating a key bumps the version of its hash slot, so only reads of keys
+     * sharing that slot are held back. The version is checked again after the put, so
+     * an invalidation that lands before or during the put still removes the value.
+     *
+     * @param version the key's version, taken before the read was sent
+     * @param readNanos when the read was sent
+     * @param redisTtlMillis the key's PTTL in the same read
+     */
+    private void populateNearCache(String key, Object value, long version, long readNanos, long redisTtlMillis) {
+        int slot = nearCacheSlot(key);
+        if (nearCache == null || redisTtlMillis == -2 || nearCacheVersions.get(slot) != version) {
+            return;
+        }
+        nearCache.put(key, new NearCacheEntry(value, readNanos, redisTtlMillis));
+        if (nearCacheVersions.get(slot) != version) {
+            nearCache.invalidate(key);
+        }
+    }
+
+    private long nearCacheVersion(String key) {
+        return nearCacheVersions.get(nearCacheSlot(key));
+    }
+
+    private static int nearCacheSlot(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (NEAR_CACHE_VERSION_SLOTS - 1);
+    }
+
+    /**
+     * Drop keys from this proxy's near-cache
+     */
+    private void invalidateNearCache(Collection<String> keys) {
+        for (String key : keys) {
+            nearCacheVersions.incrementAndGet(nearCacheSlot(key));
+        }
+        nearCache.invalidateAll(keys);
+    }
+
+    /**
+     * Drop the whole near-cache, as after the invalidation channel was (re)subscribed
+     */
+    private void clearNearCache() {
+        for (int slot = 0; slot < NEAR_CACHE_VERSION_SLOTS; slot++) {
+            nearCacheVersions.incrementAndGet(slot);
+        }
+        nearCache.invalidateAll();
+    }
+
+    /**
+     * Run a write with the written keys invalidated here before and after, and on the
+     * other proxies once it has completed
+     *
+     * The second local invalidation catches reads that fetched the old value while the
+     * write was in flight.
+     */
+    private <T> CompletableFuture<T> invalidateAround(Collection<String> keys, Supplier<CompletableFuture<T>> write) {
+        if (nearCache == null) {
+            return write.get();
+        }
+        List<String> written = new ArrayList<>(keys);
+        invalidateNearCache(written);
+        return write.get().whenComplete((result, failure) -> {
+            // A failed write may still have reached Redis
+            invalidateNearCache(written);
+            publishInvalidation(written);
+        });
+    }
+
+    /**
+     * Tell the other proxies to drop keys: instance ID, then each key, NUL-separated
+     */
+    private void publishInvalidation(List<String> keys) {
+        StringBuilder message = new StringBuilder(instanceId);
+        for (String key : keys) {
+            message.append('\0').append(key);
+        }
+        byte[] channel = config.getInvalidationChannel().getBytes(StandardCharsets.UTF_8);
+        publishAllAsync(channel, Collections.singletonList(message.toString().getBytes(StandardCharsets.UTF_8)))
+            .whenComplete((receivers, failure) -> {
+                if (failure != null) {
+                    // Other proxies keep the old value until their near-cache TTL expires
+                    statistics.setMetric("invalidation_publish_error", String.valueOf(failure.getMessage()));
+                } else {
+                    statistics.addInvalidationsSent(keys.size());
+                }
+            });
+    }
+
+    /**
+     * Apply an invalidation message from another proxy
+     */
+    private void onInvalidation(byte[] message) {
+        String[] parts = new String(message, StandardCharsets.UTF_8).split("\0");
+        if (parts.length < 2 || instanceId.equals(parts[0])) {
+            return;
+        }
+        List<String> keys = Arrays.asList(parts).subList(1, parts.length);
+        invalidateNearCache(keys);
+        statistics.addInvalidationsReceived(keys.size());
+    }
+
+    /**
+     * Start a subscription thread
+     */
+    private Subscription startSubscription(byte[] channel, Consumer<byte[]> handler, Runnable onSubscribed) {
+        Subscription subscription = new Subscription(channel, handler, onSubscribed);
+        activeSubscriptions.add(subscription);
+        Thread thread = new Thread(subscription::run, "redis-subscriber-" + activeSubscriptions.size());
+        thread.setDaemon(true);
+        thread.start();
+        return subscription;
+    }
+
     /**
      * Cache Warming and Preloading
      */
@@ -629,6 +2105,29 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
      * Internal Helper Methods
      */
 
+    /**
+     * Execute a single-key command, through the auto-pipeliner when it is enabled
+     *
+     * Both forms must issue the same command; the pipelined form is used in standalone
+     * mode with auto-pipelining on, the direct form otherwise.
+     */
+    private <T> CompletableFuture<T> executeCommandAsync(CacheOperation operation, RedisOperation<T> direct,
+                                                         RedisAutoPipeliner.PipelinedOperation<T> pipelined) {
+        statistics.incrementOperationCount(operation);
+        statistics.incrementTotalOperations();
+        
+        RedisAutoPipeliner current = pipeliner;
+        if (current != null) {
+            return current.submit(pipelined);
+        }
+        return executeRedisOperationAsync(jedis -> {
+            long startTime = System.nanoTime();
+            T result = direct.execute(jedis);
+            statistics.updateAverageOperationTime((System.nanoTime() - startTime) / 1_000_000);
+            return result;
+        });
+    }
+
     /**
      * Execute Redis operation with connection management
      */
@@ -739,25 +2238,15 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
                 // Implement cache warmup logic
                 Map<String, String> warmupData = generateWarmupData();
                 warmCacheAsync(warmupData);
+                for (String pattern : config.getWarmupScanPatterns()) {
+                    preloadNearCacheAsync(pattern);
+                }
             } catch (Exception e) {
                 // Log warmup failure
             }
         }, 60, TimeUnit.SECONDS);
     }
 
-    /**
-     * Start lock cleanup
-     */
-    private void startLockCleanup() {
-        scheduler.scheduleAtFixedRate(() -> {
-            try {
-                cleanupExpiredLocks();
-            } catch (Exception e) {
-                // Log cleanup failure
-            }
-        }, 300, 300, TimeUnit.SECONDS); // Every 5 minutes
-    }
-
     /**
      * Update cache health
      */
@@ -791,10 +2280,79 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
      * Perform cache maintenance
      */
     private void performCacheMaintenance() {
-        // Implement cache maintenance logic
+        // Runs on the async executor, so scans are started rather than waited for
+        if (config.getMaintenanceDefaultTtl() != null && !config.getMaintenanceScanPatterns().isEmpty()
+                && maintenanceScanRunning.compareAndSet(false, true)) {
+            AtomicLong scanned = new AtomicLong();
+            AtomicLong expired = new AtomicLong();
+            CompletableFuture<Long> scans = CompletableFuture.completedFuture(0L);
+            for (String pattern : config.getMaintenanceScanPatterns()) {
+                scans = scans.thenCompose(previous -> scanPagesAsync(pattern, config.getScanCount(), page -> {
+                    scanned.addAndGet(page.size());
+                    return expirePersistentKeysAsync(page, config.getMaintenanceDefaultTtl())
+                        .thenAccept(expired::addAndGet);
+                }));
+            }
+            scans.whenComplete((result, failure) -> {
+                maintenanceScanRunning.set(false);
+                statistics.setMetric("maintenance_keys_scanned", scanned.get());
+                statistics.setMetric("maintenance_keys_expired", expired.get());
+                if (failure != null) {
+                    statistics.setMetric("maintenance_error", String.valueOf(failure.getMessage()));
+                }
+            });
+        }
         statistics.setMetric("last_maintenance", Instant.now());
     }
 
+    /**
+     * Give keys without a TTL the default one, returning how many were changed
+     *
+     * One pipeline reads every TTL and a second sets the missing ones, so a page costs
+     * two round trips.
+     */
+    private CompletableFuture<Long> expirePersistentKeysAsync(List<String> keys, Duration ttl) {
+        return executeRedisOperationAsync(jedis -> {
+            Pipeline pipeline = jedis.pipelined();
+            List<Response<Long>> ttls = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                ttls.add(pipeline.ttl(key));
+            }
+            pipeline.sync();
+
+            List<Response<Long>> expires = new ArrayList<>();
+            for (int i = 0; i < keys.size(); i++) {
+                // -1 is a key without a TTL, -2 one that has gone since the scan
+                if (ttls.get(i).get() == -1) {
+                    expires.add(pipeline.expire(keys.get(i), ttl.getSeconds()));
+                }
+            }
+            pipeline.sync();
+            statistics.incrementTotalOperations();
+
+            long changed = 0;
+            for (Response<Long> expire : expires) {
+                changed += expire.get();
+            }
+            return changed;
+        });
+    }
+
+    /**
+     * Load every key matching a pattern into the near-cache
+     */
+    private CompletableFuture<Long> preloadNearCacheAsync(String pattern) {
+        if (nearCache == null) {
+            return CompletableFuture.completedFuture(0L);
+        }
+        return scanPagesAsync(pattern, config.getScanCount(), page -> bulkGetAsync(new LinkedHashSet<>(page)))
+            .whenComplete((loaded, failure) -> {
+                if (failure == null) {
+                    statistics.setMetric("near_cache_preloaded_keys", loaded);
+                }
+            });
+    }
+
     /**
      * Update statistics
      */
@@ -804,26 +2362,7 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
         statistics.setMetric("uptime_seconds", 
             (System.currentTimeMillis() - statistics.getStartTime().toEpochMilli()) / 1000);
         statistics.setMetric("active_locks_count", activeLocks.size());
-    }
-
-    /**
-     * Clean up expired locks
-     */
-    private void cleanupExpiredLocks() {
-        List<String> expiredLocks = new ArrayList<>();
-        
-        for (Map.Entry<String, DistributedLock> entry : activeLocks.entrySet()) {
-            DistributedLock lock = entry.getValue();
-            if (!lock.isAcquired()) {
-                expiredLocks.add(entry.getKey());
-            }
-        }
-        
-        for (String lockKey : expiredLocks) {
-            activeLocks.remove(lockKey);
-        }
-        
-        statistics.setMetric("expired_locks_cleaned", expiredLocks.size());
+        statistics.setMetric("active_subscriptions_count", activeSubscriptions.size());
     }
 
     /**
@@ -851,8 +2390,42 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
             status.put("connection_mode", connectionMode);
             status.put("statistics", statistics.getMetrics());
             status.put("cache_hit_ratio", statistics.getCacheHitRatio());
+            RedisAutoPipeliner current = pipeliner;
+            status.put("auto_pipelining_enabled", current != null);
+            if (current != null) {
+                status.put("pipelined_commands", current.getCommandsPipelined());
+                status.put("pipeline_batches", current.getBatchesFlushed());
+                status.put("pipeline_batches_failed", current.getBatchesFailed());
+                status.put("pipeline_average_batch_size", current.getAverageBatchSize());
+                status.put("pipeline_largest_batch", current.getLargestBatch());
+                status.put("pipeline_pending_commands", current.getPendingCommands());
+            }
+            status.put("near_cache_enabled", nearCache != null);
+            if (nearCache != null) {
+                status.put("near_cache_size", nearCache.estimatedSize());
+                status.put("near_cache_hits", statistics.getNearCacheHits());
+                status.put("near_cache_misses", statistics.getNearCacheMisses());
+                status.put("near_cache_hit_ratio", statistics.getNearCacheHitRatio());
+                status.put("invalidations_sent", statistics.getInvalidationsSent());
+                status.put("invalidations_received", statistics.getInvalidationsReceived());
+            }
+            status.put("compressed_values", statistics.getCompressedValues());
+            status.put("compression_bytes_saved", statistics.getCompressionBytesSaved());
+            status.put("codec_errors", statistics.getCodecErrors());
+            status.put("loads_in_flight", inFlightLoads.size());
+            status.put("loads_started", statistics.getLoadsStarted());
+            status.put("loads_coalesced", statistics.getLoadsCoalesced());
+            status.put("load_lease_waits", statistics.getLoadLeaseWaits());
+            status.put("early_refreshes", statistics.getEarlyRefreshes());
             status.put("total_operations", statistics.getTotalOperations());
             status.put("active_locks", activeLocks.size());
+            status.put("lock_waiters", lockWaiters.values().stream().mapToInt(Set::size).sum());
+            status.put("locks_acquired", statistics.getLocksAcquired());
+            status.put("lock_contentions", statistics.getLockContentions());
+            status.put("lock_average_wait_ms", statistics.getAverageLockWaitMillis());
+            status.put("lock_wait_timeouts", statistics.getLockWaitTimeouts());
+            status.put("lock_renewals", statistics.getLockRenewals());
+            status.put("lock_leases_lost", statistics.getLockLeasesLost());
             status.put("initialized", initialized);
             
             return status;
@@ -885,6 +2458,26 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
         private int minIdleConnections = 5;
         private int connectionTimeout = 5000;
         private int asyncThreadPoolSize = 10;
+        private boolean nearCacheEnabled = true;
+        private long nearCacheMaximumSize = 10000;
+        private Duration nearCacheTtl = Duration.ofSeconds(30);  // Longest an entry is kept; sooner if its key expires
+        private String invalidationChannel = "veloctopus:cache:invalidate";
+        private boolean autoPipeliningEnabled = true;
+        private int pipelineMaxBatchSize = 128;
+        private int pipelineMaxInFlightBatches = 2;      // Connections pipelining at once
+        private long pipelineFlushWindowMicros = 0;     // 0 flushes as soon as a connection is free
+        private int scanCount = 500;                    // COUNT hint per SCAN page
+        private List<String> warmupScanPatterns = Collections.emptyList();       // Preloaded into the near-cache
+        private List<String> maintenanceScanPatterns = Collections.emptyList();  // Given maintenanceDefaultTtl if persistent
+        private Duration maintenanceDefaultTtl = null;
+        private int bulkWriteChunkSize = 1000;          // Keys per pipeline round trip in bulk writes
+        private int compressionThreshold = 512;         // Typed payload bytes before deflating; 0 disables
+        private int compressionLevel = Deflater.BEST_SPEED;
+        private Duration loadLeaseTtl = Duration.ofSeconds(3);         // null disables cross-proxy load dedup
+        private Duration loadLeasePollInterval = Duration.ofMillis(50);
+        private double earlyRefreshBeta = 1.0;          // XFetch beta; 0 disables early refresh
+        private String lockChannel = "veloctopus:lock:released";
+        private boolean lockWatchdogEnabled = true;     // Renew held locks until released
 
         // Getters and setters
         public ConnectionMode getConnectionMode() { return connectionMode; }
@@ -903,5 +2496,45 @@ public class AsyncRedisCacheLayer implements AsyncPattern {
         public void setConnectionTimeout(int connectionTimeout) { this.connectionTimeout = connectionTimeout; }
         public int getAsyncThreadPoolSize() { return asyncThreadPoolSize; }
         public void setAsyncThreadPoolSize(int asyncThreadPoolSize) { this.asyncThreadPoolSize = asyncThreadPoolSize; }
+        public boolean isNearCacheEnabled() { return nearCacheEnabled; }
+        public void setNearCacheEnabled(boolean nearCacheEnabled) { this.nearCacheEnabled = nearCacheEnabled; }
+        public long getNearCacheMaximumSize() { return nearCacheMaximumSize; }
+        public void setNearCacheMaximumSize(long nearCacheMaximumSize) { this.nearCacheMaximumSize = nearCacheMaximumSize; }
+        public Duration getNearCacheTtl() { return nearCacheTtl; }
+        public void setNearCacheTtl(Duration nearCacheTtl) { this.nearCacheTtl = nearCacheTtl; }
+        public String getInvalidationChannel() { return invalidationChannel; }
+        public void setInvalidationChannel(String invalidationChannel) { this.invalidationChannel = invalidationChannel; }
+        public boolean isAutoPipeliningEnabled() { return autoPipeliningEnabled; }
+        public void setAutoPipeliningEnabled(boolean autoPipeliningEnabled) { this.autoPipeliningEnabled = autoPipeliningEnabled; }
+        public int getPipelineMaxBatchSize() { return pipelineMaxBatchSize; }
+        public void setPipelineMaxBatchSize(int pipelineMaxBatchSize) { this.pipelineMaxBatchSize = pipelineMaxBatchSize; }
+        public int getPipelineMaxInFlightBatches() { return pipelineMaxInFlightBatches; }
+        public void setPipelineMaxInFlightBatches(int pipelineMaxInFlightBatches) { this.pipelineMaxInFlightBatches = pipelineMaxInFlightBatches; }
+        public long getPipelineFlushWindowMicros() { return pipelineFlushWindowMicros; }
+        public void setPipelineFlushWindowMicros(long pipelineFlushWindowMicros) { this.pipelineFlushWindowMicros = pipelineFlushWindowMicros; }
+        public int getScanCount() { return scanCount; }
+        public void setScanCount(int scanCount) { this.scanCount = scanCount; }
+        public List<String> getWarmupScanPatterns() { return warmupScanPatterns; }
+        public void setWarmupScanPatterns(List<String> warmupScanPatterns) { this.warmupScanPatterns = warmupScanPatterns; }
+        public List<String> getMaintenanceScanPatterns() { return maintenanceScanPatterns; }
+        public void setMaintenanceScanPatterns(List<String> maintenanceScanPatterns) { this.maintenanceScanPatterns = maintenanceScanPatterns; }
+        public Duration getMaintenanceDefaultTtl() { return maintenanceDefaultTtl; }
+        public void setMaintenanceDefaultTtl(Duration maintenanceDefaultTtl) { this.maintenanceDefaultTtl = maintenanceDefaultTtl; }
+        public int getBulkWriteChunkSize() { return bulkWriteChunkSize; }
+        public void setBulkWriteChunkSize(int bulkWriteChunkSize) { this.bulkWriteChunkSize = bulkWriteChunkSize; }
+        public int getCompressionThreshold() { return compressionThreshold; }
+        public void setCompressionThreshold(int compressionThreshold) { this.compressionThreshold = compressionThreshold; }
+        public int getCompressionLevel() { return compressionLevel; }
+        public void setCompressionLevel(int compressionLevel) { this.compressionLevel = compressionLevel; }
+        public Duration getLoadLeaseTtl() { return loadLeaseTtl; }
+        public void setLoadLeaseTtl(Duration loadLeaseTtl) { this.loadLeaseTtl = loadLeaseTtl; }
+        public Duration getLoadLeasePollInterval() { return loadLeasePollInterval; }
+        public void setLoadLeasePollInterval(Duration loadLeasePollInterval) { this.loadLeasePollInterval = loadLeasePollInterval; }
+        public double getEarlyRefreshBeta() { return earlyRefreshBeta; }
+        public void setEarlyRefreshBeta(double earlyRefreshBeta) { this.earlyRefreshBeta = earlyRefreshBeta; }
+        public String getLockChannel() { return lockChannel; }
+        public void setLockChannel(String lockChannel) { this.lockChannel = lockChannel; }
+        public boolean isLockWatchdogEnabled() { return lockWatchdogEnabled; }
+        public void setLockWatchdogEnabled(boolean lockWatchdogEnabled) { this.lockWatchdogEnabled = lockWatchdogEnabled; }
     }
 }
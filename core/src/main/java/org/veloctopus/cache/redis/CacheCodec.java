@@ -0,0 +1,66 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Cache Codec
+ * Binary encoding of typed cache values stored in Redis
+ */
+
+package org.veloctopus.cache.redis;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Cache Codec
+ *
+ * Writes one value type for {@link AsyncRedisCacheLayer#setTyped} and reads it back for
+ * {@link AsyncRedisCacheLayer#getTyped}. The cache layer frames and, above the
+ * configured threshold, compresses the payload, so a codec writes only the value's own
+ * fields. It should write them in a fixed order with the {@link DataOutput} primitives
+ * rather than as text.
+ *
+ * Every value is stored with the codec's version. When the encoding changes, bump the
+ * version and have {@link #decode} read values written by earlier versions, which stay
+ * in Redis until they expire. A codec instance is also the identity of its near-cache
+ * entries, so share one instance per value type.
+ *
+ * @param <T> the value type
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+public interface CacheCodec<T> {
+
+    /**
+     * Version written with every value, 0 to 65535
+     */
+    int getVersion();
+
+    void encode(T value, DataOutput out) throws IOException;
+
+    /**
+     * @param version the version the value was written with
+     * @param in the stored payload; its {@code available()} is the bytes left in it
+     */
+    T decode(int version, DataInput in) throws IOException;
+
+    /**
+     * Read a byte array written as an int length followed by the bytes
+     *
+     * The length is checked against the bytes left in the value before anything is
+     * allocated, so a corrupt value fails with an IOException instead of requesting a
+     * huge array.
+     */
+    static byte[] readLengthPrefixed(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || in instanceof InputStream && length > ((InputStream) in).available()) {
+            throw new IOException("Length " + length + " exceeds the stored value");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
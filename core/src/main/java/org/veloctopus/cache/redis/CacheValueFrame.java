@@ -0,0 +1,213 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Cache Value Frame
+ * Versioned, optionally compressed binary layout of typed cache values
+ */
+
+package org.veloctopus.cache.redis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Cache Value Frame
+ *
+ * Layout of a typed value in Redis:
+ * - Frame format (1 byte), so the layout itself can change later
+ * - Flags (1 byte): whether the payload is deflated
+ * - Codec version (2 bytes)
+ * - For values written by get-or-load, when the value expires (8 bytes, epoch millis)
+ *   and how long it took to load (4 bytes, millis)
+ * - If deflated, the payload's original length (4 bytes), then the deflate stream;
+ *   otherwise the payload as the codec wrote it
+ *
+ * Payloads of at least the compression threshold are deflated, and the compressed form
+ * is kept only if it is smaller. Deflaters and inflaters are reused per thread, since
+ * each holds native zlib state.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+final class CacheValueFrame {
+
+    private static final int FORMAT = 1;
+    private static final int FLAG_DEFLATED = 0x01;
+    private static final int FLAG_LOAD_METADATA = 0x02;
+    private static final int HEADER_BYTES = 4;
+    private static final int LOAD_METADATA_BYTES = 12;
+    private static final int LENGTH_BYTES = 4;
+    // Deflate cannot expand data by more than about 1032:1
+    private static final int MAX_INFLATE_RATIO = 1032;
+    private static final int MAX_PAYLOAD_BYTES = 64 * 1024 * 1024;
+
+    private static final ThreadLocal<Deflater> DEFLATERS = ThreadLocal.withInitial(Deflater::new);
+    private static final ThreadLocal<Inflater> INFLATERS = ThreadLocal.withInitial(Inflater::new);
+
+    /**
+     * Decoded value with its get-or-load metadata, if it was written with any
+     */
+    static final class Entry<T> {
+        private final T value;
+        private final long expiresAtMillis;
+        private final int loadMillis;
+
+        Entry(T value, long expiresAtMillis, int loadMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+            this.loadMillis = loadMillis;
+        }
+
+        T getValue() { return value; }
+        boolean hasLoadMetadata() { return expiresAtMillis > 0; }
+        long getExpiresAtMillis() { return expiresAtMillis; }
+        int getLoadMillis() { return loadMillis; }
+    }
+
+    private CacheValueFrame() {
+    }
+
+    /**
+     * Encode a value into a frame, counting compression in the statistics
+     *
+     * @param expiresAtMillis when the value expires, for get-or-load; 0 writes no load metadata
+     */
+    static <T> byte[] encode(CacheCodec<T> codec, T value, long expiresAtMillis, int loadMillis,
+                             int compressionThreshold, int compressionLevel,
+                             AsyncRedisCacheLayer.CacheStatistics statistics) throws IOException {
+        boolean loadMetadata = expiresAtMillis > 0;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(buffer);
+        out.writeByte(FORMAT);
+        out.writeByte(loadMetadata ? FLAG_LOAD_METADATA : 0);
+        out.writeShort(codec.getVersion());
+        if (loadMetadata) {
+            out.writeLong(expiresAtMillis);
+            out.writeInt(loadMillis);
+        }
+        codec.encode(value, out);
+        out.flush();
+        byte[] frame = buffer.toByteArray();
+
+        int headerBytes = loadMetadata ? HEADER_BYTES + LOAD_METADATA_BYTES : HEADER_BYTES;
+        int payloadBytes = frame.length - headerBytes;
+        if (compressionThreshold <= 0 || payloadBytes < compressionThreshold) {
+            return frame;
+        }
+        byte[] deflated = deflate(frame, headerBytes, compressionLevel);
+        if (deflated == null) {
+            return frame;
+        }
+        statistics.addCompressedValue(frame.length - deflated.length);
+        return deflated;
+    }
+
+    /**
+     * Decode a frame written by {@link #encode}
+     */
+    static <T> Entry<T> decode(CacheCodec<T> codec, byte[] frame) throws IOException {
+        if (frame.length < HEADER_BYTES || frame[0] != FORMAT) {
+            throw new IOException("Not a typed cache value");
+        }
+        int flags = frame[1];
+        int version = ((frame[2] & 0xFF) << 8) | (frame[3] & 0xFF);
+        int headerBytes = HEADER_BYTES;
+        long expiresAtMillis = 0;
+        int loadMillis = 0;
+        if ((flags & FLAG_LOAD_METADATA) != 0) {
+            if (frame.length < HEADER_BYTES + LOAD_METADATA_BYTES) {
+                throw new IOException("Truncated cache value");
+            }
+            DataInputStream metadata = new DataInputStream(
+                new ByteArrayInputStream(frame, HEADER_BYTES, LOAD_METADATA_BYTES));
+            expiresAtMillis = metadata.readLong();
+            loadMillis = metadata.readInt();
+            headerBytes += LOAD_METADATA_BYTES;
+        }
+        byte[] payload;
+        int offset;
+        if ((flags & FLAG_DEFLATED) != 0) {
+            payload = inflate(frame, headerBytes);
+            offset = 0;
+        } else {
+            payload = frame;
+            offset = headerBytes;
+        }
+        T value = codec.decode(version, new DataInputStream(
+            new ByteArrayInputStream(payload, offset, payload.length - offset)));
+        return new Entry<>(value, expiresAtMillis, loadMillis);
+    }
+
+    /**
+     * Deflate a frame's payload, or null if that would not make it smaller
+     */
+    private static byte[] deflate(byte[] frame, int headerBytes, int level) {
+        int payloadBytes = frame.length - headerBytes;
+        // A stream any longer than this, plus the length field, saves nothing
+        int limit = payloadBytes - LENGTH_BYTES - 1;
+        if (limit <= 0) {
+            return null;
+        }
+        byte[] output = new byte[limit];
+        Deflater deflater = DEFLATERS.get();
+        deflater.reset();
+        deflater.setLevel(level);
+        deflater.setInput(frame, headerBytes, payloadBytes);
+        deflater.finish();
+        int written = 0;
+        while (!deflater.finished() && written < output.length) {
+            written += deflater.deflate(output, written, output.length - written);
+        }
+        if (!deflater.finished()) {
+            return null;
+        }
+        byte[] deflated = new byte[headerBytes + LENGTH_BYTES + written];
+        System.arraycopy(frame, 0, deflated, 0, headerBytes);
+        deflated[1] |= FLAG_DEFLATED;
+        deflated[headerBytes] = (byte) (payloadBytes >>> 24);
+        deflated[headerBytes + 1] = (byte) (payloadBytes >>> 16);
+        deflated[headerBytes + 2] = (byte) (payloadBytes >>> 8);
+        deflated[headerBytes + 3] = (byte) payloadBytes;
+        System.arraycopy(output, 0, deflated, headerBytes + LENGTH_BYTES, written);
+        return deflated;
+    }
+
+    private static byte[] inflate(byte[] frame, int headerBytes) throws IOException {
+        int streamStart = headerBytes + LENGTH_BYTES;
+        if (frame.length < streamStart) {
+            throw new IOException("Truncated compressed cache value");
+        }
+        int payloadBytes = ((frame[headerBytes] & 0xFF) << 24) | ((frame[headerBytes + 1] & 0xFF) << 16)
+            | ((frame[headerBytes + 2] & 0xFF) << 8) | (frame[headerBytes + 3] & 0xFF);
+        // Checked before allocating, so a corrupt length cannot request a huge array
+        if (payloadBytes < 0 || payloadBytes > MAX_PAYLOAD_BYTES
+                || payloadBytes > (long) (frame.length - streamStart) * MAX_INFLATE_RATIO) {
+            throw new IOException("Corrupt compressed cache value");
+        }
+        byte[] payload = new byte[payloadBytes];
+        Inflater inflater = INFLATERS.get();
+        inflater.reset();
+        inflater.setInput(frame, streamStart, frame.length - streamStart);
+        try {
+            int read = 0;
+            while (read < payloadBytes) {
+                int n = inflater.inflate(payload, read, payloadBytes - read);
+                if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Truncated compressed cache value");
+                }
+                read += n;
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt compressed cache value", e);
+        }
+        return payload;
+    }
+}
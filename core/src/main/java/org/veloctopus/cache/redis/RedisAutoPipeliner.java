@@ -0,0 +1,270 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Redis Auto Pipeliner
+ * Batches concurrently submitted single-key commands into shared pipelines
+ */
+
+package org.veloctopus.cache.redis;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Redis Auto Pipeliner
+ *
+ * Callers submit commands and get a future back. Commands are written to Redis in
+ * batches, each as one pipeline on one pooled connection:
+ * - A batch is flushed as soon as a connection slot is free, so a lone command pays no
+ *   extra latency
+ * - While maxInFlightBatches flushes are running, new commands wait and go out together
+ *   in the next flush, up to maxBatchSize per pipeline
+ * - With a flush window set, a partial batch also waits up to that long for company
+ *   before it is flushed
+ *
+ * Each caller's future is completed from its own pipeline response. A command that
+ * Redis rejects fails only that caller; a connection failure fails the whole batch.
+ * Commands are sent in submission order within a batch. Batches on different
+ * connections may overlap, as separate pool operations did before.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+final class RedisAutoPipeliner {
+
+    /**
+     * Command as queued on a pipeline
+     */
+    @FunctionalInterface
+    interface PipelinedOperation<T> {
+        Response<T> enqueue(Pipeline pipeline);
+    }
+
+    /**
+     * Submitted command with the future its response completes
+     */
+    private static final class QueuedCommand<T> {
+        private final PipelinedOperation<T> operation;
+        private final CompletableFuture<T> future;
+        private Response<T> response;
+
+        QueuedCommand(PipelinedOperation<T> operation) {
+            this.operation = operation;
+            this.future = new CompletableFuture<>();
+        }
+
+        void enqueue(Pipeline pipeline) {
+            response = operation.enqueue(pipeline);
+        }
+
+        void complete() {
+            try {
+                future.complete(response.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        void fail(Throwable cause) {
+            future.completeExceptionally(cause);
+        }
+    }
+
+    private final Supplier<Jedis> connections;
+    private final Executor flushExecutor;
+    private final ScheduledExecutorService scheduler;
+    private final AsyncRedisCacheLayer.CacheStatistics statistics;
+    private final int maxBatchSize;
+    private final int maxInFlightBatches;
+    private final long flushWindowMicros;
+
+    // Pending commands and flush state, guarded by lock
+    private final Object lock;
+    private List<QueuedCommand<?>> pending;
+    private int inFlightBatches;
+    private ScheduledFuture<?> windowTask;
+
+    // Metrics
+    private final AtomicLong commandsPipelined;
+    private final AtomicLong batchesFlushed;
+    private final AtomicLong batchesFailed;
+    private volatile int largestBatch;
+
+    RedisAutoPipeliner(Supplier<Jedis> connections, Executor flushExecutor, ScheduledExecutorService scheduler,
+                       AsyncRedisCacheLayer.CacheStatistics statistics, int maxBatchSize,
+                       int maxInFlightBatches, long flushWindowMicros) {
+        this.connections = connections;
+        this.flushExecutor = flushExecutor;
+        this.scheduler = scheduler;
+        this.statistics = statistics;
+        this.maxBatchSize = maxBatchSize;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.flushWindowMicros = flushWindowMicros;
+        this.lock = new Object();
+        this.pending = new ArrayList<>();
+        this.inFlightBatches = 0;
+        this.windowTask = null;
+        this.commandsPipelined = new AtomicLong();
+        this.batchesFlushed = new AtomicLong();
+        this.batchesFailed = new AtomicLong();
+        this.largestBatch = 0;
+    }
+
+    /**
+     * Queue a command for the next pipeline
+     */
+    <T> CompletableFuture<T> submit(PipelinedOperation<T> operation) {
+        QueuedCommand<T> command = new QueuedCommand<>(operation);
+        List<QueuedCommand<?>> batch = null;
+        synchronized (lock) {
+            pending.add(command);
+            if (inFlightBatches < maxInFlightBatches) {
+                if (pending.size() >= maxBatchSize || flushWindowMicros <= 0) {
+                    batch = takeBatch();
+                } else if (windowTask == null) {
+                    windowTask = scheduler.schedule(this::flushWindow, flushWindowMicros, TimeUnit.MICROSECONDS);
+                }
+            }
+        }
+        if (batch != null) {
+            dispatch(batch);
+        }
+        return command.future;
+    }
+
+    /**
+     * Flush a partial batch once its window has passed
+     */
+    private void flushWindow() {
+        List<QueuedCommand<?>> batch = null;
+        synchronized (lock) {
+            windowTask = null;
+            if (!pending.isEmpty() && inFlightBatches < maxInFlightBatches) {
+                batch = takeBatch();
+            }
+        }
+        if (batch != null) {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * Take up to maxBatchSize pending commands and claim a connection slot (caller holds lock)
+     */
+    private List<QueuedCommand<?>> takeBatch() {
+        List<QueuedCommand<?>> batch;
+        if (pending.size() <= maxBatchSize) {
+            batch = pending;
+            pending = new ArrayList<>();
+        } else {
+            List<QueuedCommand<?>> head = pending.subList(0, maxBatchSize);
+            batch = new ArrayList<>(head);
+            head.clear();
+        }
+        if (windowTask != null && pending.isEmpty()) {
+            windowTask.cancel(false);
+            windowTask = null;
+        }
+        inFlightBatches++;
+        return batch;
+    }
+
+    /**
+     * Run a batch on the flush executor
+     */
+    private void dispatch(List<QueuedCommand<?>> batch) {
+        try {
+            flushExecutor.execute(() -> flush(batch));
+        } catch (RejectedExecutionException e) {
+            failBatch(batch, e);
+            finishBatch();
+        }
+    }
+
+    /**
+     * Send one batch as a pipeline and complete its callers
+     */
+    private void flush(List<QueuedCommand<?>> batch) {
+        Throwable failure = null;
+        long startTime = System.nanoTime();
+        try (Jedis jedis = connections.get()) {
+            Pipeline pipeline = jedis.pipelined();
+            for (QueuedCommand<?> command : batch) {
+                command.enqueue(pipeline);
+            }
+            pipeline.sync();
+        } catch (Exception e) {
+            failure = e;
+        }
+        // The connection is back in the pool before any caller continuation runs
+        finishBatch();
+
+        if (failure != null) {
+            failBatch(batch, failure);
+            return;
+        }
+        statistics.updateAverageOperationTime((System.nanoTime() - startTime) / 1_000_000);
+        commandsPipelined.addAndGet(batch.size());
+        batchesFlushed.incrementAndGet();
+        if (batch.size() > largestBatch) {
+            largestBatch = batch.size();
+        }
+        for (QueuedCommand<?> command : batch) {
+            command.complete();
+        }
+    }
+
+    private void failBatch(List<QueuedCommand<?>> batch, Throwable cause) {
+        statistics.incrementCacheErrors();
+        batchesFailed.incrementAndGet();
+        RuntimeException failure = new RuntimeException("Redis pipeline failed", cause);
+        for (QueuedCommand<?> command : batch) {
+            command.fail(failure);
+        }
+    }
+
+    /**
+     * Release a connection slot and flush whatever queued up meanwhile
+     */
+    private void finishBatch() {
+        List<QueuedCommand<?>> batch = null;
+        synchronized (lock) {
+            inFlightBatches--;
+            if (!pending.isEmpty()) {
+                batch = takeBatch();
+            }
+        }
+        if (batch != null) {
+            dispatch(batch);
+        }
+    }
+
+    // Metrics
+    long getCommandsPipelined() { return commandsPipelined.get(); }
+    long getBatchesFlushed() { return batchesFlushed.get(); }
+    long getBatchesFailed() { return batchesFailed.get(); }
+    int getLargestBatch() { return largestBatch; }
+    double getAverageBatchSize() {
+        long batches = batchesFlushed.get();
+        return batches > 0 ? (double) commandsPipelined.get() / batches : 0.0;
+    }
+    int getPendingCommands() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+}
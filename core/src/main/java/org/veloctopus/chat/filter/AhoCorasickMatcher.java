@@ -0,0 +1,250 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Aho-Corasick Word Matcher
+ * Compiled multi-word matching for chat blocklists
+ */
+
+package org.veloctopus.chat.filter;
+
+import java.util.*;
+
+/**
+ * Aho-Corasick Word Matcher
+ *
+ * Compiles a word list into an Aho-Corasick automaton so every message is scanned
+ * once, in time proportional to the message length, however many words are listed.
+ *
+ * Layout:
+ * - Root transitions are a direct 64K lookup table (most characters return to root)
+ * - Other transitions are stored CSR-style in sorted char/target arrays
+ * - Each state records the longest word ending there, including words reached via
+ *   failure links, so masking only needs the single longest match per position
+ *
+ * Words and message text are both folded through {@link ChatTextNormalizer}, so
+ * leetspeak and confusable spellings match the plain word. Instances are immutable
+ * and safe to share between threads; build a new one to change the word list.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+public final class AhoCorasickMatcher {
+
+    private static final AhoCorasickMatcher EMPTY = new AhoCorasickMatcher(Collections.emptyList());
+
+    private final String[] words;
+    private final int[] rootNext;
+    private final int[] firstEdge;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] fail;
+    private final int[] outLength;
+    private final int[] outWord;
+
+    private AhoCorasickMatcher(Collection<String> sourceWords) {
+        List<String> wordList = new ArrayList<>();
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<Integer> terminalWord = new ArrayList<>();
+        children.add(new HashMap<>());
+        terminalWord.add(-1);
+
+        // Build the trie over folded words
+        for (String word : sourceWords) {
+            if (word == null || word.isEmpty()) {
+                continue;
+            }
+            String folded = ChatTextNormalizer.normalize(word);
+            int state = 0;
+            for (int i = 0; i < folded.length(); i++) {
+                char c = folded.charAt(i);
+                Integer next = children.get(state).get(c);
+                if (next == null) {
+                    next = children.size();
+                    children.get(state).put(c, next);
+                    children.add(new HashMap<>());
+                    terminalWord.add(-1);
+                }
+                state = next;
+            }
+            if (terminalWord.get(state) < 0) {
+                terminalWord.set(state, wordList.size());
+                wordList.add(word);
+            }
+        }
+
+        int stateCount = children.size();
+        this.words = wordList.toArray(new String[0]);
+        this.rootNext = new int[Character.MAX_VALUE + 1];
+        this.firstEdge = new int[stateCount + 1];
+        this.fail = new int[stateCount];
+        this.outLength = new int[stateCount];
+        this.outWord = new int[stateCount];
+
+        // Compile transitions into sorted CSR arrays
+        int edgeCount = 0;
+        for (Map<Character, Integer> edges : children) {
+            edgeCount += edges.size();
+        }
+        this.edgeChars = new char[edgeCount];
+        this.edgeTargets = new int[edgeCount];
+        int offset = 0;
+        for (int state = 0; state < stateCount; state++) {
+            firstEdge[state] = offset;
+            List<Character> keys = new ArrayList<>(children.get(state).keySet());
+            Collections.sort(keys);
+            for (Character key : keys) {
+                edgeChars[offset] = key;
+                edgeTargets[offset] = children.get(state).get(key);
+                offset++;
+            }
+        }
+        firstEdge[stateCount] = offset;
+        for (Map.Entry<Character, Integer> edge : children.get(0).entrySet()) {
+            rootNext[edge.getKey()] = edge.getValue();
+        }
+
+        // Breadth-first failure links and output propagation
+        Arrays.fill(outWord, -1);
+        int[] queue = new int[stateCount];
+        int head = 0;
+        int tail = 0;
+        for (int e = firstEdge[0]; e < firstEdge[1]; e++) {
+            int child = edgeTargets[e];
+            fail[child] = 0;
+            queue[tail++] = child;
+        }
+        while (head < tail) {
+            int state = queue[head++];
+            int own = terminalWord.get(state);
+            if (own >= 0) {
+                outLength[state] = depthOf(own);
+                outWord[state] = own;
+            }
+            if (outLength[fail[state]] > outLength[state]) {
+                outLength[state] = outLength[fail[state]];
+                outWord[state] = outWord[fail[state]];
+            }
+            for (int e = firstEdge[state]; e < firstEdge[state + 1]; e++) {
+                char c = edgeChars[e];
+                int child = edgeTargets[e];
+                int f = fail[state];
+                int target;
+                while ((target = transition(f, c)) < 0) {
+                    f = fail[f];
+                }
+                fail[child] = target;
+                queue[tail++] = child;
+            }
+        }
+    }
+
+    private int depthOf(int wordIndex) {
+        return words[wordIndex].length();
+    }
+
+    /**
+     * Compile a matcher for the given words
+     */
+    public static AhoCorasickMatcher compile(Collection<String> words) {
+        return words == null || words.isEmpty() ? EMPTY : new AhoCorasickMatcher(words);
+    }
+
+    public static AhoCorasickMatcher empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Transition function; root never fails, other states return -1 when no edge exists
+     */
+    private int transition(int state, char c) {
+        if (state == 0) {
+            return rootNext[c];
+        }
+        int low = firstEdge[state];
+        int high = firstEdge[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char key = edgeChars[mid];
+            if (key < c) {
+                low = mid + 1;
+            } else if (key > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    private int step(int state, char c) {
+        int next;
+        while ((next = transition(state, c)) < 0) {
+            state = fail[state];
+        }
+        return next;
+    }
+
+    /**
+     * Check whether any word occurs in the text
+     */
+    public boolean containsMatch(CharSequence text) {
+        if (words.length == 0) {
+            return false;
+        }
+        int state = 0;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            state = step(state, ChatTextNormalizer.fold(text.charAt(i)));
+            if (outLength[state] > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return the first listed word found in the text, or null if none
+     */
+    public String findFirst(CharSequence text) {
+        if (words.length == 0) {
+            return null;
+        }
+        int state = 0;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            state = step(state, ChatTextNormalizer.fold(text.charAt(i)));
+            if (outLength[state] > 0) {
+                return words[outWord[state]];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Mask every matched word in a single pass.
+     *
+     * Returns the same String instance when nothing matched, so callers can test
+     * for a change with a reference comparison and nothing is allocated on clean text.
+     */
+    public String mask(String text, char maskChar) {
+        if (words.length == 0) {
+            return text;
+        }
+        char[] masked = null;
+        int state = 0;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            state = step(state, ChatTextNormalizer.fold(text.charAt(i)));
+            int matchLength = outLength[state];
+            if (matchLength > 0) {
+                if (masked == null) {
+                    masked = text.toCharArray();
+                }
+                Arrays.fill(masked, i - matchLength + 1, i + 1, maskChar);
+            }
+        }
+        return masked == null ? text : new String(masked);
+    }
+
+    public int getWordCount() { return words.length; }
+    public int getStateCount() { return fail.length; }
+}
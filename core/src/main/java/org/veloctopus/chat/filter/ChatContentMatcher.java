@@ -0,0 +1,87 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Chat Content Matcher
+ * Atomically reloadable compiled word and regex rules
+ */
+
+package org.veloctopus.chat.filter;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Chat Content Matcher
+ *
+ * Holds the compiled blocklist for a filter: an {@link AhoCorasickMatcher} for
+ * literal words and a {@link CombinedPatternMatcher} for regex rules.
+ *
+ * Reloads compile the new rules off to the side, then publish them with a single
+ * volatile write. A message being filtered during a reload sees either the old
+ * rules or the new ones, never a mix. Readers take no locks.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+public class ChatContentMatcher {
+
+    /**
+     * Immutable compiled rule set
+     */
+    public static final class CompiledRules {
+        private final AhoCorasickMatcher words;
+        private final CombinedPatternMatcher patterns;
+        private final Instant compiledAt;
+
+        private CompiledRules(AhoCorasickMatcher words, CombinedPatternMatcher patterns) {
+            this.words = words;
+            this.patterns = patterns;
+            this.compiledAt = Instant.now();
+        }
+
+        public AhoCorasickMatcher getWords() { return words; }
+        public CombinedPatternMatcher getPatterns() { return patterns; }
+        public Instant getCompiledAt() { return compiledAt; }
+    }
+
+    private volatile CompiledRules rules;
+
+    public ChatContentMatcher() {
+        this(List.of(), List.of());
+    }
+
+    public ChatContentMatcher(Collection<String> words, Collection<String> regexes) {
+        this.rules = new CompiledRules(AhoCorasickMatcher.compile(words), CombinedPatternMatcher.compile(regexes));
+    }
+
+    /**
+     * Replace both word list and regex rules atomically
+     */
+    public synchronized void reload(Collection<String> words, Collection<String> regexes) {
+        this.rules = new CompiledRules(AhoCorasickMatcher.compile(words), CombinedPatternMatcher.compile(regexes));
+    }
+
+    /**
+     * Replace the word list, keeping the current regex rules
+     */
+    public synchronized void reloadWords(Collection<String> words) {
+        this.rules = new CompiledRules(AhoCorasickMatcher.compile(words), rules.getPatterns());
+    }
+
+    /**
+     * Replace the regex rules, keeping the current word list
+     */
+    public synchronized void reloadPatterns(Collection<String> regexes) {
+        this.rules = new CompiledRules(rules.getWords(), CombinedPatternMatcher.compile(regexes));
+    }
+
+    /**
+     * Current compiled rules; hold on to the returned snapshot for a whole check
+     */
+    public CompiledRules getRules() {
+        return rules;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Chat Text Normalizer
+ * Leetspeak and Unicode-confusable folding for chat content matching
+ */
+
+package org.veloctopus.chat.filter;
+
+/**
+ * Chat Text Normalizer
+ *
+ * Folds characters to a canonical lowercase form before word matching:
+ * - Case folding (Character.toLowerCase)
+ * - Leetspeak digits and symbols (0 → o, 1 → i, 3 → e, 4 → a, 5 → s, 7 → t, @ → a, $ → s)
+ * - Unicode confusables (Cyrillic/Greek look-alikes, fullwidth Latin, accented Latin)
+ *
+ * Folding is strictly one char to one char, so an index into the normalized text is
+ * also an index into the original text. That lets matchers mask the original message
+ * without a second pass. The lookup table is built once; folding never allocates.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+public final class ChatTextNormalizer {
+
+    private static final char[] FOLD_TABLE = buildFoldTable();
+
+    private ChatTextNormalizer() {
+    }
+
+    /**
+     * Fold a single character
+     */
+    public static char fold(char c) {
+        return FOLD_TABLE[c];
+    }
+
+    /**
+     * Fold a whole string (used when compiling patterns, not on the message path)
+     */
+    public static String normalize(CharSequence text) {
+        char[] folded = new char[text.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = FOLD_TABLE[text.charAt(i)];
+        }
+        return new String(folded);
+    }
+
+    private static char[] buildFoldTable() {
+        char[] table = new char[Character.MAX_VALUE + 1];
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            table[c] = Character.toLowerCase((char) c);
+        }
+
+        // Leetspeak
+        map(table, "0", 'o');
+        map(table, "1!|", 'i');
+        map(table, "3", 'e');
+        map(table, "4@", 'a');
+        map(table, "5$", 's');
+        map(table, "7+", 't');
+        map(table, "8", 'b');
+        map(table, "9", 'g');
+
+        // Fullwidth Latin (U+FF21-FF3A, U+FF41-FF5A)
+        for (char c = 'Ａ'; c <= 'Ｚ'; c++) {
+            table[c] = (char) ('a' + (c - 'Ａ'));
+        }
+        for (char c = 'ａ'; c <= 'ｚ'; c++) {
+            table[c] = (char) ('a' + (c - 'ａ'));
+        }
+
+        // Accented Latin
+        map(table, "àáâãäåāăąÀÁÂÃÄÅĀĂĄ", 'a');
+        map(table, "çćĉċčÇĆĈĊČ", 'c');
+        map(table, "ďđĎĐ", 'd');
+        map(table, "èéêëēĕėęěÈÉÊËĒĔĖĘĚ", 'e');
+        map(table, "ĝğġģĜĞĠĢ", 'g');
+        map(table, "ìíîïĩīĭįıÌÍÎÏĨĪĬĮİ", 'i');
+        map(table, "ñńņňÑŃŅŇ", 'n');
+        map(table, "òóôõöøōŏőÒÓÔÕÖØŌŎŐ", 'o');
+        map(table, "ŕŗřŔŖŘ", 'r');
+        map(table, "śŝşšŚŜŞŠ", 's');
+        map(table, "ţťŢŤ", 't');
+        map(table, "ùúûüũūŭůűųÙÚÛÜŨŪŬŮŰŲ", 'u');
+        map(table, "ýÿŷÝŸŶ", 'y');
+        map(table, "źżžŹŻŽ", 'z');
+
+        // Cyrillic look-alikes
+        map(table, "аА", 'a');
+        map(table, "вВ", 'b');
+        map(table, "сС", 'c');
+        map(table, "еЕёЁ", 'e');
+        map(table, "нН", 'h');
+        map(table, "іІїЇ", 'i');
+        map(table, "јЈ", 'j');
+        map(table, "кК", 'k');
+        map(table, "мМ", 'm');
+        map(table, "оО", 'o');
+        map(table, "рР", 'p');
+        map(table, "ѕЅ", 's');
+        map(table, "тТ", 't');
+        map(table, "уУ", 'y');
+        map(table, "хХ", 'x');
+
+        // Greek look-alikes
+        map(table, "αΑ", 'a');
+        map(table, "βΒ", 'b');
+        map(table, "εΕ", 'e');
+        map(table, "ηΗ", 'h');
+        map(table, "ιΙ", 'i');
+        map(table, "κΚ", 'k');
+        map(table, "μΜ", 'm');
+        map(table, "νΝ", 'v');
+        map(table, "οΟ", 'o');
+        map(table, "ρΡ", 'p');
+        map(table, "τΤ", 't');
+        map(table, "υΥ", 'u');
+        map(table, "χΧ", 'x');
+        map(table, "ζΖ", 'z');
+
+        return table;
+    }
+
+    private static void map(char[] table, String sources, char target) {
+        for (int i = 0; i < sources.length(); i++) {
+            table[sources.charAt(i)] = target;
+        }
+    }
+}
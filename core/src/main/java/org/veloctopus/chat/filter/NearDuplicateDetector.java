@@ -0,0 +1,135 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Near-Duplicate Detector
+ * Per-sender SimHash history for repeated-message spam
+ */
+
+package org.veloctopus.chat.filter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Near-Duplicate Detector
+ *
+ * Remembers the last few message fingerprints for each sender:
+ * - Each sender keeps a fixed ring of {@link SimHash} fingerprints, so memory per sender
+ *   is constant
+ * - A new message is compared against the ring by Hamming distance. Cost is bounded by
+ *   the ring size, not by message length or history.
+ * - Changing a character or two, or adding punctuation, still counts as a repeat
+ * - Messages too short to fingerprint ({@link SimHash#EMPTY}) are neither recorded nor
+ *   counted
+ *
+ * Senders who have been quiet longer than the idle timeout can be dropped with
+ * {@link #evictIdle()}.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+public class NearDuplicateDetector {
+
+    private final int historySize;
+    private final int maxDistance;
+    private final long idleTimeoutMillis;
+    private final LongSupplier clock;
+    private final Map<String, History> histories;
+
+    /**
+     * @param historySize fingerprints remembered per sender
+     * @param maxDistance largest Hamming distance still treated as the same message
+     * @param idleTimeoutMillis quiet time after which a sender's history may be evicted
+     */
+    public NearDuplicateDetector(int historySize, int maxDistance, long idleTimeoutMillis) {
+        this(historySize, maxDistance, idleTimeoutMillis, System::currentTimeMillis);
+    }
+
+    NearDuplicateDetector(int historySize, int maxDistance, long idleTimeoutMillis, LongSupplier clock) {
+        if (historySize <= 0) {
+            throw new IllegalArgumentException("historySize must be positive");
+        }
+        this.historySize = historySize;
+        this.maxDistance = maxDistance;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.clock = clock;
+        this.histories = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Record a message and count earlier messages from the same sender that match it
+     *
+     * @return number of remembered messages within {@code maxDistance} of this one
+     */
+    public int recordAndCount(String senderKey, CharSequence message) {
+        return recordAndCount(senderKey, SimHash.fingerprint(message));
+    }
+
+    /**
+     * Record a precomputed fingerprint and count earlier near matches
+     */
+    public int recordAndCount(String senderKey, long fingerprint) {
+        if (fingerprint == SimHash.EMPTY) {
+            return 0;
+        }
+        History history = histories.computeIfAbsent(senderKey, key -> new History(historySize));
+        return history.recordAndCount(fingerprint, maxDistance, clock.getAsLong());
+    }
+
+    /**
+     * Forget a sender
+     */
+    public void reset(String senderKey) {
+        histories.remove(senderKey);
+    }
+
+    /**
+     * Drop senders that have been quiet longer than the idle timeout
+     *
+     * @return number of senders removed
+     */
+    public int evictIdle() {
+        long cutoff = clock.getAsLong() - idleTimeoutMillis;
+        int before = histories.size();
+        histories.values().removeIf(history -> history.lastSeenMillis < cutoff);
+        return before - histories.size();
+    }
+
+    public int getHistorySize() { return historySize; }
+    public int getMaxDistance() { return maxDistance; }
+    public int getTrackedSenderCount() { return histories.size(); }
+
+    /**
+     * Fixed ring of recent fingerprints for one sender
+     */
+    private static final class History {
+        private final long[] fingerprints;
+        private int count;
+        private int next;
+        private volatile long lastSeenMillis;
+
+        History(int size) {
+            this.fingerprints = new long[size];
+        }
+
+        synchronized int recordAndCount(long fingerprint, int maxDistance, long now) {
+            int matches = 0;
+            for (int i = 0; i < count; i++) {
+                if (SimHash.distance(fingerprints[i], fingerprint) <= maxDistance) {
+                    matches++;
+                }
+            }
+
+            fingerprints[next] = fingerprint;
+            next = (next + 1) % fingerprints.length;
+            if (count < fingerprints.length) {
+                count++;
+            }
+            lastSeenMillis = now;
+            return matches;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Raid Detector
+ * Cross-sender near-duplicate detection for coordinated spam
+ */
+
+package org.veloctopus.chat.filter;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Raid Detector
+ *
+ * Spots the same payload arriving from many accounts:
+ * - A fixed ring holds the most recent messages from everyone: fingerprint, sender and
+ *   arrival time
+ * - A new message is compared with every ring entry inside the time window, and the
+ *   distinct senders of near matches are counted
+ * - Memory and time per message are bounded by the ring size, however many players
+ *   are online
+ *
+ * Counting stops at the raid threshold, so the distinct-sender scratch space stays small.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+public class RaidDetector {
+
+    private final int maxDistance;
+    private final int senderThreshold;
+    private final long windowMillis;
+    private final LongSupplier clock;
+    private final long[] fingerprints;
+    private final long[] timestamps;
+    private final String[] senders;
+    private int count;
+    private int next;
+
+    /**
+     * @param ringSize recent messages remembered across all senders
+     * @param maxDistance largest Hamming distance still treated as the same payload
+     * @param senderThreshold distinct senders that make a raid
+     * @param windowMillis how far back matches count
+     */
+    public RaidDetector(int ringSize, int maxDistance, int senderThreshold, long windowMillis) {
+        this(ringSize, maxDistance, senderThreshold, windowMillis, System::currentTimeMillis);
+    }
+
+    RaidDetector(int ringSize, int maxDistance, int senderThreshold, long windowMillis, LongSupplier clock) {
+        if (ringSize <= 0 || senderThreshold <= 0) {
+            throw new IllegalArgumentException("ringSize and senderThreshold must be positive");
+        }
+        this.maxDistance = maxDistance;
+        this.senderThreshold = senderThreshold;
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+        this.fingerprints = new long[ringSize];
+        this.timestamps = new long[ringSize];
+        this.senders = new String[ringSize];
+    }
+
+    /**
+     * Record a message and count distinct senders of matching recent messages
+     *
+     * @return distinct senders (including this one) who sent a near match inside the
+     *         window, capped at the sender threshold
+     */
+    public int recordAndCount(String senderKey, CharSequence message) {
+        return recordAndCount(senderKey, SimHash.fingerprint(message));
+    }
+
+    /**
+     * Record a precomputed fingerprint and count distinct matching senders
+     */
+    public synchronized int recordAndCount(String senderKey, long fingerprint) {
+        if (fingerprint == SimHash.EMPTY) {
+            return 0;
+        }
+        long now = clock.getAsLong();
+        long cutoff = now - windowMillis;
+
+        String[] matched = new String[senderThreshold];
+        matched[0] = senderKey;
+        int distinct = 1;
+        for (int i = 0; i < count && distinct < senderThreshold; i++) {
+            if (timestamps[i] < cutoff || SimHash.distance(fingerprints[i], fingerprint) > maxDistance) {
+                continue;
+            }
+            if (!contains(matched, distinct, senders[i])) {
+                matched[distinct++] = senders[i];
+            }
+        }
+
+        fingerprints[next] = fingerprint;
+        timestamps[next] = now;
+        senders[next] = senderKey;
+        next = (next + 1) % fingerprints.length;
+        if (count < fingerprints.length) {
+            count++;
+        }
+        return distinct;
+    }
+
+    /**
+     * Whether a count from {@link #recordAndCount} reaches the raid threshold
+     */
+    public boolean isRaid(int distinctSenders) {
+        return distinctSenders >= senderThreshold;
+    }
+
+    private static boolean contains(String[] values, int length, String value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i].equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getMaxDistance() { return maxDistance; }
+    public int getSenderThreshold() { return senderThreshold; }
+    public long getWindowMillis() { return windowMillis; }
+    public int getRingSize() { return fingerprints.length; }
+}
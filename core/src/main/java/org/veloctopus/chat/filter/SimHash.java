@@ -0,0 +1,108 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * SimHash
+ * 64-bit locality-sensitive fingerprints for chat messages
+ */
+
+package org.veloctopus.chat.filter;
+
+/**
+ * SimHash
+ *
+ * Fingerprints a message so that near-identical messages get fingerprints a few
+ * bits apart:
+ * - Characters are folded with {@link ChatTextNormalizer}, and anything that is not a
+ *   letter or digit is dropped, so case, leetspeak, spacing and punctuation tricks
+ *   collapse to the same text
+ * - Overlapping 3-character shingles are hashed to 64 bits
+ * - Each fingerprint bit is the majority vote of that bit over all shingles
+ *
+ * Changing one character only changes the few shingles that cover it, so most bits
+ * keep their vote. Compare fingerprints with {@link #distance(long, long)}.
+ *
+ * Messages with fewer than {@value #MIN_SHINGLES} shingles fingerprint to {@link #EMPTY}.
+ * Short texts such as "gg" or "lol" are said by many players at once and carry too
+ * few features to tell apart, so duplicate and raid checks skip them.
+ *
+ * Only the first {@value #MAX_SCANNED_CHARS} characters are read, which bounds the
+ * cost per message. Fingerprinting does not allocate beyond a 64-entry vote array.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+public final class SimHash {
+
+    /** Fingerprint of a message too short to compare */
+    public static final long EMPTY = 0L;
+
+    static final int MAX_SCANNED_CHARS = 256;
+    /** Fewest shingles a message needs before it gets a real fingerprint */
+    public static final int MIN_SHINGLES = 3;
+    private static final int SHINGLE_LENGTH = 3;
+
+    private SimHash() {
+    }
+
+    /**
+     * Fingerprint a message
+     *
+     * @return the fingerprint, or {@link #EMPTY} below {@value #MIN_SHINGLES} shingles
+     */
+    public static long fingerprint(CharSequence text) {
+        int[] votes = new int[64];
+        int limit = Math.min(text.length(), MAX_SCANNED_CHARS);
+        long window = 0;
+        int seen = 0;
+
+        for (int i = 0; i < limit; i++) {
+            char c = ChatTextNormalizer.fold(text.charAt(i));
+            if (!Character.isLetterOrDigit(c)) {
+                continue;
+            }
+            // The last three kept characters, 16 bits each
+            window = (window << 16) | c;
+            seen++;
+            if (seen >= SHINGLE_LENGTH) {
+                vote(votes, mix(window & 0xFFFF_FFFF_FFFFL));
+            }
+        }
+
+        if (seen - SHINGLE_LENGTH + 1 < MIN_SHINGLES) {
+            return EMPTY;
+        }
+
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (votes[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Number of differing bits between two fingerprints
+     */
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static void vote(int[] votes, long hash) {
+        for (int bit = 0; bit < 64; bit++) {
+            votes[bit] += (int) ((hash >>> bit) & 1L) * 2 - 1;
+        }
+    }
+
+    /** 64-bit finalizer (MurmurHash3 fmix64) */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -13,11 +13,16 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.veloctopus.ratelimit.KeyedRateLimiter;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 /**
  * Chat Message System Foundation
@@ -150,6 +155,9 @@ public class ChatMessageSystem {
         private final Set<String> mentionedRoles;
         private final boolean isEdited;
         private final String editReason;
+        // Render caches; filled lazily, components are immutable and shared across recipients
+        private final Component[] platformRenderings;
+        private volatile Map<ChatRenderCache.RenderKey, ChatRenderCache.RenderedMessage> renderings;
 
         private ChatMessage(Builder builder) {
             this.messageId = builder.messageId != null ? builder.messageId : UUID.randomUUID().toString();
@@ -168,6 +176,7 @@ public class ChatMessageSystem {
             this.mentionedRoles = new HashSet<>(builder.mentionedRoles);
             this.isEdited = builder.isEdited;
             this.editReason = builder.editReason;
+            this.platformRenderings = new Component[MessagePlatform.values().length];
         }
 
         // Getters
@@ -189,20 +198,30 @@ public class ChatMessageSystem {
         public String getEditReason() { return editReason; }
 
         /**
-         * Get formatted content for specific platform
+         * Get formatted content for specific platform (built once per platform)
          */
         public Component getFormattedContentForPlatform(MessagePlatform targetPlatform) {
             if (targetPlatform == platform) {
                 return formattedContent;
             }
 
+            // Racing threads build equal immutable components; last write wins harmlessly
+            Component rendered = platformRenderings[targetPlatform.ordinal()];
+            if (rendered == null) {
+                rendered = renderForPlatform(targetPlatform);
+                platformRenderings[targetPlatform.ordinal()] = rendered;
+            }
+            return rendered;
+        }
+
+        private Component renderForPlatform(MessagePlatform targetPlatform) {
             // Apply platform-specific formatting
             Component baseContent = formattedContent;
             
             switch (targetPlatform) {
                 case MINECRAFT:
                     return Component.text()
-                        .append(Component.text(platform.getDisplayPrefix(), NamedTextColor.GRAY))
+                        .append(ChatRenderCache.platformPrefix(platform))
                         .append(Component.space())
                         .append(baseContent)
                         .build();
@@ -219,6 +238,26 @@ public class ChatMessageSystem {
             }
         }
 
+        ChatRenderCache.RenderedMessage cachedRendering(ChatRenderCache.RenderKey key) {
+            Map<ChatRenderCache.RenderKey, ChatRenderCache.RenderedMessage> current = renderings;
+            return current != null ? current.get(key) : null;
+        }
+
+        ChatRenderCache.RenderedMessage cacheRendering(ChatRenderCache.RenderKey key,
+                Function<ChatRenderCache.RenderKey, ChatRenderCache.RenderedMessage> renderer) {
+            Map<ChatRenderCache.RenderKey, ChatRenderCache.RenderedMessage> current = renderings;
+            if (current == null) {
+                synchronized (this) {
+                    current = renderings;
+                    if (current == null) {
+                        current = new ConcurrentHashMap<>(4);
+                        renderings = current;
+                    }
+                }
+            }
+            return current.computeIfAbsent(key, renderer);
+        }
+
         /**
          * Builder pattern for ChatMessage creation
          */
@@ -348,66 +387,71 @@ public class ChatMessageSystem {
      * Rate limiting for anti-spam protection
      */
     public static class RateLimiter {
-        private final Map<String, List<Instant>> userMessageTimes;
-        private final int maxMessagesPerMinute;
+        private final KeyedRateLimiter userMessages;
 
         public RateLimiter(int maxMessagesPerMinute) {
-            this.userMessageTimes = new ConcurrentHashMap<>();
-            this.maxMessagesPerMinute = maxMessagesPerMinute;
+            this.userMessages = new KeyedRateLimiter(maxMessagesPerMinute, Duration.ofMinutes(1));
         }
 
         /**
          * Check if user is rate limited
          */
         public boolean isRateLimited(String userId) {
-            List<Instant> messageTimes = userMessageTimes.computeIfAbsent(userId, k -> new ArrayList<>());
-            
-            // Clean old messages (older than 1 minute)
-            Instant cutoff = Instant.now().minusSeconds(60);
-            messageTimes.removeIf(time -> time.isBefore(cutoff));
-            
-            // Check if rate limited
-            return messageTimes.size() >= maxMessagesPerMinute;
+            return userMessages.wouldLimit(userId);
         }
 
         /**
          * Record message for rate limiting
          */
         public void recordMessage(String userId) {
-            List<Instant> messageTimes = userMessageTimes.computeIfAbsent(userId, k -> new ArrayList<>());
-            messageTimes.add(Instant.now());
+            userMessages.record(userId);
+        }
+
+        /**
+         * Check and record in one atomic step
+         */
+        public boolean tryAcquire(String userId) {
+            return userMessages.tryAcquire(userId);
         }
 
         /**
          * Get remaining messages for user
          */
         public int getRemainingMessages(String userId) {
-            List<Instant> messageTimes = userMessageTimes.get(userId);
-            if (messageTimes == null) {
-                return maxMessagesPerMinute;
-            }
-            
-            // Clean old messages
-            Instant cutoff = Instant.now().minusSeconds(60);
-            messageTimes.removeIf(time -> time.isBefore(cutoff));
-            
-            return Math.max(0, maxMessagesPerMinute - messageTimes.size());
+            return userMessages.remaining(userId);
+        }
+
+        /**
+         * Drop users whose allowance has fully recovered
+         */
+        public int evictIdle() {
+            return userMessages.evictIdle();
         }
     }
 
+    private static final long MAINTENANCE_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
     // Core system components
     private final Map<String, ChatChannel> channels;
     private final Map<String, RateLimiter> channelRateLimiters;
     private final List<ChatMessage> messageHistory;
     private final MiniMessage miniMessage;
     private final Map<String, Object> systemMetrics;
+    private final ChatRenderCache renderCache;
+    private final ChatSearchIndex searchIndex;
+    private final AtomicLong nextMaintenanceNanos;
 
     public ChatMessageSystem() {
         this.channels = new ConcurrentHashMap<>();
         this.channelRateLimiters = new ConcurrentHashMap<>();
         this.messageHistory = Collections.synchronizedList(new ArrayList<>());
         this.miniMessage = MiniMessage.miniMessage();
+        this.renderCache = new ChatRenderCache(miniMessage);
+        // 10 minute segments of up to 4096 messages, searchable for 24 hours,
+        // and never more than 16 full segments in memory
+        this.searchIndex = new ChatSearchIndex(Duration.ofMinutes(10), 4096, Duration.ofHours(24), 16 * 4096);
         this.systemMetrics = new ConcurrentHashMap<>();
+        this.nextMaintenanceNanos = new AtomicLong(System.nanoTime() + MAINTENANCE_INTERVAL_NANOS);
         
         initializeDefaultChannels();
         initializeSystemMetrics();
@@ -455,6 +499,8 @@ public class ChatMessageSystem {
     public CompletableFuture<Boolean> processMessage(ChatMessage message) {
         return CompletableFuture.supplyAsync(() -> {
             try {
+                runMaintenanceIfDue();
+                
                 // Validate message
                 if (!validateMessage(message)) {
                     return false;
@@ -462,16 +508,11 @@ public class ChatMessageSystem {
                 
                 // Check rate limiting
                 RateLimiter rateLimiter = channelRateLimiters.get(message.getChannelName());
-                if (rateLimiter != null && rateLimiter.isRateLimited(message.getSenderId())) {
+                if (rateLimiter != null && !rateLimiter.tryAcquire(message.getSenderId())) {
                     updateMetric("rate_limited_messages", 1);
                     return false;
                 }
                 
-                // Record for rate limiting
-                if (rateLimiter != null) {
-                    rateLimiter.recordMessage(message.getSenderId());
-                }
-                
                 // Add to message history
                 messageHistory.add(message);
                 
@@ -480,6 +521,9 @@ public class ChatMessageSystem {
                     messageHistory.remove(0);
                 }
                 
+                // Index for moderator search
+                searchIndex.index(message);
+                
                 // Update metrics
                 updateMetric("total_messages", 1);
                 updatePlatformMetric(message.getPlatform().getIdentifier());
@@ -568,18 +612,18 @@ public class ChatMessageSystem {
     }
 
     /**
-     * Search messages by content
+     * Search messages by content words or sender name, newest first
      */
     public CompletableFuture<List<ChatMessage>> searchMessages(String query, String channelName, int limit) {
-        return CompletableFuture.supplyAsync(() -> {
-            return messageHistory.stream()
-                .filter(msg -> channelName == null || channelName.equals(msg.getChannelName()))
-                .filter(msg -> msg.getRawContent().toLowerCase().contains(query.toLowerCase()) ||
-                              msg.getSenderName().toLowerCase().contains(query.toLowerCase()))
-                .sorted((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()))
-                .limit(limit)
-                .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
-        });
+        // Postings lookups are cheap enough to answer on the caller's thread
+        return CompletableFuture.completedFuture(searchIndex.search(query, channelName, limit));
+    }
+
+    /**
+     * Recent messages from one sender, newest first
+     */
+    public CompletableFuture<List<ChatMessage>> searchMessagesBySender(String senderId, String channelName, int limit) {
+        return CompletableFuture.completedFuture(searchIndex.searchBySender(senderId, channelName, limit));
     }
 
     /**
@@ -607,6 +651,34 @@ public class ChatMessageSystem {
         channelMetrics.merge(channel, 1, Integer::sum);
     }
 
+    /**
+     * Drop per-user rate limit state that has fully recovered, across all channels
+     */
+    public int evictIdleRateLimits() {
+        int evicted = 0;
+        for (RateLimiter rateLimiter : channelRateLimiters.values()) {
+            evicted += rateLimiter.evictIdle();
+        }
+        return evicted;
+    }
+
+    /**
+     * Drop idle per-user state and expired search segments, at most once per
+     * maintenance interval
+     *
+     * Runs on the message path rather than a thread of its own: only messages grow
+     * the state, so it cannot build up while nothing calls in.
+     */
+    private void runMaintenanceIfDue() {
+        long now = System.nanoTime();
+        long due = nextMaintenanceNanos.get();
+        if (now - due < 0 || !nextMaintenanceNanos.compareAndSet(due, now + MAINTENANCE_INTERVAL_NANOS)) {
+            return;
+        }
+        systemMetrics.put("last_rate_limit_cleanup_evicted", evictIdleRateLimits());
+        systemMetrics.put("last_search_segments_expired", searchIndex.expire(Instant.now()));
+    }
+
     /**
      * Get system statistics
      */
@@ -618,6 +690,8 @@ public class ChatMessageSystem {
             stats.put("total_channels", channels.size());
             stats.put("message_history_size", messageHistory.size());
             stats.put("active_rate_limiters", channelRateLimiters.size());
+            stats.put("render_cache", renderCache.getMetrics());
+            stats.put("search_index", searchIndex.getMetrics());
             
             return stats;
         });
@@ -627,4 +701,5 @@ public class ChatMessageSystem {
     public Map<String, ChatChannel> getChannels() { return new HashMap<>(channels); }
     public List<ChatMessage> getMessageHistory() { return new ArrayList<>(messageHistory); }
     public Map<String, Object> getSystemMetrics() { return new HashMap<>(systemMetrics); }
+    public ChatRenderCache getRenderCache() { return renderCache; }
 }
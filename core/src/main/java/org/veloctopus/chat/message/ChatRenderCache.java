@@ -0,0 +1,283 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Chat Render Cache
+ * Render-once, fan-out-many formatting of chat messages
+ */
+
+package org.veloctopus.chat.message;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.veloctopus.chat.message.ChatMessageSystem.ChannelType;
+import org.veloctopus.chat.message.ChatMessageSystem.ChatMessage;
+import org.veloctopus.chat.message.ChatMessageSystem.MessagePlatform;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Chat Render Cache
+ *
+ * Formats each message at most once per distinct audience:
+ * - Renderings are cached on the message, keyed by (platform, locale, permission tier)
+ * - Channel prefixes and rank badges are parsed from MiniMessage once and shared as
+ *   interned immutable Components
+ * - {@link #fanOut} groups recipients by render key, renders each group once and
+ *   delivers the same Component (and serialized form) to every member
+ *
+ * Adventure Components are immutable, so one instance can be sent to any number of
+ * players. The serialized MiniMessage string is built lazily, once per rendering, for
+ * bridges (Discord, Matrix) that send text rather than Components.
+ *
+ * Recipient render keys are cheap value objects. Callers should compute one per player
+ * when they join or their permissions change, not once per message.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+public class ChatRenderCache {
+
+    /**
+     * Audience-defining part of a rendering
+     */
+    public static final class RenderKey {
+        private final MessagePlatform platform;
+        private final Locale locale;
+        private final String tier;
+        private final int hash;
+
+        private RenderKey(MessagePlatform platform, Locale locale, String tier) {
+            this.platform = platform;
+            this.locale = locale;
+            this.tier = tier;
+            this.hash = Objects.hash(platform, locale, tier);
+        }
+
+        public static RenderKey of(MessagePlatform platform, Locale locale, String tier) {
+            return new RenderKey(Objects.requireNonNull(platform, "platform"), locale, tier);
+        }
+
+        public static RenderKey of(MessagePlatform platform) {
+            return new RenderKey(Objects.requireNonNull(platform, "platform"), null, null);
+        }
+
+        public MessagePlatform getPlatform() { return platform; }
+        public Locale getLocale() { return locale; }
+        public String getTier() { return tier; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof RenderKey)) return false;
+            RenderKey other = (RenderKey) o;
+            return platform == other.platform
+                && Objects.equals(locale, other.locale)
+                && Objects.equals(tier, other.tier);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return platform.getIdentifier() + "/" + locale + "/" + tier;
+        }
+    }
+
+    /**
+     * One rendering of a message, shared by every recipient with the same key
+     */
+    public static final class RenderedMessage {
+        private final Component component;
+        private final MiniMessage serializer;
+        private volatile String serialized;
+
+        RenderedMessage(Component component, MiniMessage serializer) {
+            this.component = component;
+            this.serializer = serializer;
+        }
+
+        public Component getComponent() { return component; }
+
+        /**
+         * MiniMessage form for text-based bridges, serialized on first use
+         */
+        public String getSerialized() {
+            String result = serialized;
+            if (result == null) {
+                result = serializer.serialize(component);
+                serialized = result;
+            }
+            return result;
+        }
+    }
+
+    private static final Map<MessagePlatform, Component> PLATFORM_PREFIXES = buildPlatformPrefixes();
+
+    private final MiniMessage miniMessage;
+    private final Map<String, Component> internedTemplates;
+    private final Map<String, String> channelPrefixTemplates;
+    private final Map<String, String> rankBadgeTemplates;
+    private final LongAdder renders;
+    private final LongAdder renderHits;
+    private final LongAdder deliveries;
+
+    public ChatRenderCache(MiniMessage miniMessage) {
+        this.miniMessage = miniMessage;
+        this.internedTemplates = new ConcurrentHashMap<>();
+        this.channelPrefixTemplates = new ConcurrentHashMap<>();
+        this.rankBadgeTemplates = new ConcurrentHashMap<>();
+        this.renders = new LongAdder();
+        this.renderHits = new LongAdder();
+        this.deliveries = new LongAdder();
+    }
+
+    /**
+     * Shared "[MC]"-style origin prefix for a platform
+     */
+    static Component platformPrefix(MessagePlatform platform) {
+        return PLATFORM_PREFIXES.get(platform);
+    }
+
+    /**
+     * Parse a MiniMessage template once and return the shared Component
+     */
+    public Component intern(String template) {
+        return internedTemplates.computeIfAbsent(template, this::parseTemplate);
+    }
+
+    private Component parseTemplate(String template) {
+        try {
+            return miniMessage.deserialize(template);
+        } catch (Exception e) {
+            // Fallback to plain text if parsing fails
+            return Component.text(template);
+        }
+    }
+
+    /**
+     * Set the prefix template for a channel type; a null locale sets the default
+     */
+    public void setChannelPrefixTemplate(ChannelType channelType, Locale locale, String template) {
+        channelPrefixTemplates.put(templateKey(channelType.getIdentifier(), locale), template);
+    }
+
+    /**
+     * Set the badge template shown for a permission tier
+     */
+    public void setRankBadgeTemplate(String tier, String template) {
+        rankBadgeTemplates.put(tier, template);
+    }
+
+    /**
+     * Channel prefix for a locale, falling back to the default; null if none configured
+     */
+    public Component channelPrefix(ChannelType channelType, Locale locale) {
+        String template = null;
+        if (locale != null) {
+            template = channelPrefixTemplates.get(templateKey(channelType.getIdentifier(), locale));
+        }
+        if (template == null) {
+            template = channelPrefixTemplates.get(templateKey(channelType.getIdentifier(), null));
+        }
+        return template != null ? intern(template) : null;
+    }
+
+    /**
+     * Rank badge for a permission tier; null if none configured
+     */
+    public Component rankBadge(String tier) {
+        String template = tier != null ? rankBadgeTemplates.get(tier) : null;
+        return template != null ? intern(template) : null;
+    }
+
+    private static String templateKey(String channelId, Locale locale) {
+        return locale == null ? channelId : channelId + '|' + locale.toLanguageTag();
+    }
+
+    /**
+     * Rendering of a message for one audience, built on first request
+     */
+    public RenderedMessage render(ChatMessage message, RenderKey key) {
+        RenderedMessage cached = message.cachedRendering(key);
+        if (cached != null) {
+            renderHits.increment();
+            return cached;
+        }
+        return message.cacheRendering(key, k -> {
+            renders.increment();
+            return new RenderedMessage(compose(message, k), miniMessage);
+        });
+    }
+
+    private Component compose(ChatMessage message, RenderKey key) {
+        Component body = message.getFormattedContentForPlatform(key.getPlatform());
+        Component prefix = channelPrefix(message.getChannelType(), key.getLocale());
+        Component badge = rankBadge(key.getTier());
+        if (prefix == null && badge == null) {
+            return body;
+        }
+
+        TextComponent.Builder builder = Component.text();
+        if (prefix != null) {
+            builder.append(prefix).append(Component.space());
+        }
+        if (badge != null) {
+            builder.append(badge).append(Component.space());
+        }
+        return builder.append(body).build();
+    }
+
+    /**
+     * Group recipients by render key, preserving first-seen order
+     */
+    public <R> Map<RenderKey, List<R>> groupRecipients(Collection<R> recipients, Function<R, RenderKey> keyFunction) {
+        Map<RenderKey, List<R>> groups = new LinkedHashMap<>();
+        for (R recipient : recipients) {
+            groups.computeIfAbsent(keyFunction.apply(recipient), k -> new ArrayList<>()).add(recipient);
+        }
+        return groups;
+    }
+
+    /**
+     * Render a message once per distinct recipient key and hand each group its shared rendering
+     *
+     * @return number of distinct renderings delivered
+     */
+    public <R> int fanOut(ChatMessage message, Collection<R> recipients, Function<R, RenderKey> keyFunction,
+                          BiConsumer<RenderedMessage, List<R>> delivery) {
+        Map<RenderKey, List<R>> groups = groupRecipients(recipients, keyFunction);
+        for (Map.Entry<RenderKey, List<R>> group : groups.entrySet()) {
+            delivery.accept(render(message, group.getKey()), group.getValue());
+            deliveries.add(group.getValue().size());
+        }
+        return groups.size();
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("renders", renders.sum());
+        metrics.put("render_hits", renderHits.sum());
+        metrics.put("recipient_deliveries", deliveries.sum());
+        metrics.put("interned_templates", internedTemplates.size());
+        return metrics;
+    }
+
+    private static Map<MessagePlatform, Component> buildPlatformPrefixes() {
+        Map<MessagePlatform, Component> prefixes = new EnumMap<>(MessagePlatform.class);
+        for (MessagePlatform platform : MessagePlatform.values()) {
+            prefixes.put(platform, Component.text(platform.getDisplayPrefix(), NamedTextColor.GRAY));
+        }
+        return prefixes;
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Chat Search Index
+ * Time-segmented in-memory inverted index over recent chat
+ */
+
+package org.veloctopus.chat.message;
+
+import org.veloctopus.chat.message.ChatMessageSystem.ChatMessage;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Chat Search Index
+ *
+ * Incremental inverted index for moderator search:
+ * - Content is tokenized on letter/digit runs and lowercased
+ * - Per-segment postings lists for terms, sender names, sender ids and channels
+ * - Query tokens match as prefixes, and a message must match every token. A query
+ *   also matches messages whose sender name starts with it, which keeps the
+ *   old "content or sender contains" behaviour close.
+ * - Segments cover a bounded time span and document count. Only the newest one takes
+ *   writes, and whole segments are dropped once they fall out of retention.
+ * - The total document count is capped. When a new segment would push the index over
+ *   the cap, the oldest segments are dropped first, whatever their age.
+ *
+ * Search walks segments newest first and stops once {@code limit} hits are found. Its
+ * cost follows the postings it touches, not the history size.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+public class ChatSearchIndex {
+
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    private final Duration segmentSpan;
+    private final int maxSegmentDocuments;
+    private final Duration retention;
+    private final long maxDocuments;
+    private final Object rolloverLock;
+    private final LongAdder indexedCount;
+    private final LongAdder searchCount;
+    private final LongAdder postingsTouched;
+    private final LongAdder evictedCount;
+    private volatile List<Segment> segments;
+    private volatile Segment active;
+
+    /**
+     * @param maxDocuments cap on documents across all segments, at least one segment's worth
+     */
+    public ChatSearchIndex(Duration segmentSpan, int maxSegmentDocuments, Duration retention, long maxDocuments) {
+        if (maxDocuments < maxSegmentDocuments) {
+            throw new IllegalArgumentException("Document cap " + maxDocuments
+                + " is smaller than one segment of " + maxSegmentDocuments);
+        }
+        this.segmentSpan = segmentSpan;
+        this.maxSegmentDocuments = maxSegmentDocuments;
+        this.retention = retention;
+        this.maxDocuments = maxDocuments;
+        this.rolloverLock = new Object();
+        this.indexedCount = new LongAdder();
+        this.searchCount = new LongAdder();
+        this.postingsTouched = new LongAdder();
+        this.evictedCount = new LongAdder();
+        this.segments = List.of();
+        this.active = null;
+    }
+
+    /**
+     * Add a message to the index
+     */
+    public void index(ChatMessage message) {
+        long timestamp = message.getTimestamp().toEpochMilli();
+        while (true) {
+            Segment segment = active;
+            if (segment != null && segment.accepts(timestamp) && segment.add(message, timestamp)) {
+                indexedCount.increment();
+                return;
+            }
+            // Segment full or past its time span; roll over and retry
+            rollover(segment, timestamp);
+        }
+    }
+
+    private void rollover(Segment exhausted, long timestamp) {
+        synchronized (rolloverLock) {
+            Segment current = active;
+            if (current != exhausted) {
+                // Another writer already rolled over
+                return;
+            }
+            if (current != null) {
+                current.seal();
+            }
+
+            Segment next = new Segment(timestamp);
+            long cutoff = timestamp - retention.toMillis();
+            List<Segment> retained = new ArrayList<>(segments.size() + 1);
+            for (Segment segment : segments) {
+                if (segment.getMaxTimestamp() >= cutoff) {
+                    retained.add(segment);
+                } else {
+                    evictedCount.add(segment.size());
+                }
+            }
+            // Leave room for the new segment to fill up without passing the cap
+            long documents = 0;
+            for (Segment segment : retained) {
+                documents += segment.size();
+            }
+            while (!retained.isEmpty() && documents + maxSegmentDocuments > maxDocuments) {
+                Segment oldest = retained.remove(0);
+                documents -= oldest.size();
+                evictedCount.add(oldest.size());
+            }
+            retained.add(next);
+            segments = Collections.unmodifiableList(retained);
+            active = next;
+        }
+    }
+
+    /**
+     * Drop segments that fell out of retention
+     *
+     * @return number of segments dropped
+     */
+    public int expire(Instant now) {
+        synchronized (rolloverLock) {
+            long cutoff = now.toEpochMilli() - retention.toMillis();
+            List<Segment> retained = new ArrayList<>(segments.size());
+            for (Segment segment : segments) {
+                if (segment.getMaxTimestamp() >= cutoff || segment == active) {
+                    retained.add(segment);
+                } else {
+                    evictedCount.add(segment.size());
+                }
+            }
+            int dropped = segments.size() - retained.size();
+            segments = Collections.unmodifiableList(retained);
+            return dropped;
+        }
+    }
+
+    /**
+     * Search content and sender names, newest first
+     *
+     * @param channelName channel to restrict to, or null for all channels
+     */
+    public List<ChatMessage> search(String query, String channelName, int limit) {
+        searchCount.increment();
+        List<String> tokens = tokenize(query);
+        String senderPrefix = query.trim().toLowerCase(Locale.ROOT);
+        List<ChatMessage> results = new ArrayList<>(Math.min(limit, 64));
+        if (limit <= 0 || (tokens.isEmpty() && senderPrefix.isEmpty())) {
+            return results;
+        }
+
+        List<Segment> snapshot = segments;
+        for (int i = snapshot.size() - 1; i >= 0 && results.size() < limit; i--) {
+            snapshot.get(i).search(tokens, senderPrefix, channelName, limit - results.size(), results);
+        }
+        return results;
+    }
+
+    /**
+     * Messages from one sender, newest first
+     */
+    public List<ChatMessage> searchBySender(String senderId, String channelName, int limit) {
+        searchCount.increment();
+        List<ChatMessage> results = new ArrayList<>(Math.min(limit, 64));
+        List<Segment> snapshot = segments;
+        for (int i = snapshot.size() - 1; i >= 0 && results.size() < limit; i--) {
+            snapshot.get(i).searchSender(senderId, channelName, limit - results.size(), results);
+        }
+        return results;
+    }
+
+    /**
+     * Split text into lowercase letter/digit tokens
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                int end = Math.min(i, start + MAX_TOKEN_LENGTH);
+                tokens.add(text.substring(start, end).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    public int getSegmentCount() { return segments.size(); }
+
+    public long getDocumentCount() {
+        long total = 0;
+        for (Segment segment : segments) {
+            total += segment.size();
+        }
+        return total;
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("segments", segments.size());
+        metrics.put("documents", getDocumentCount());
+        metrics.put("indexed_total", indexedCount.sum());
+        metrics.put("searches", searchCount.sum());
+        metrics.put("postings_touched", postingsTouched.sum());
+        metrics.put("evicted_total", evictedCount.sum());
+        metrics.put("max_documents", maxDocuments);
+        return metrics;
+    }
+
+    /**
+     * Growable sorted int list of local document ids
+     */
+    private static final class Postings {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            // Ids arrive in ascending order; skip repeats from duplicate tokens
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        void orInto(BitSet target) {
+            for (int i = 0; i < size; i++) {
+                target.set(ids[i]);
+            }
+        }
+
+        void trim() {
+            if (ids.length > size) {
+                ids = Arrays.copyOf(ids, size);
+            }
+        }
+    }
+
+    /**
+     * Time-bounded slice of the index; only the active segment takes writes
+     */
+    private final class Segment {
+        private final long startTimestamp;
+        private final ChatMessage[] documents;
+        private final NavigableMap<String, Postings> terms;
+        private final NavigableMap<String, Postings> senderNames;
+        private final Map<String, Postings> senderIds;
+        private final Map<String, Postings> channels;
+        private int size;
+        private long maxTimestamp;
+        private boolean sealed;
+
+        Segment(long startTimestamp) {
+            this.startTimestamp = startTimestamp;
+            this.documents = new ChatMessage[maxSegmentDocuments];
+            this.terms = new TreeMap<>();
+            this.senderNames = new TreeMap<>();
+            this.senderIds = new HashMap<>();
+            this.channels = new HashMap<>();
+            this.maxTimestamp = startTimestamp;
+        }
+
+        boolean accepts(long timestamp) {
+            return timestamp - startTimestamp < segmentSpan.toMillis();
+        }
+
+        synchronized boolean add(ChatMessage message, long timestamp) {
+            if (sealed || size == documents.length) {
+                return false;
+            }
+            int id = size;
+            documents[id] = message;
+            size++;
+            maxTimestamp = Math.max(maxTimestamp, timestamp);
+
+            for (String token : tokenize(message.getRawContent())) {
+                terms.computeIfAbsent(token, k -> new Postings()).add(id);
+            }
+            senderNames.computeIfAbsent(message.getSenderName().toLowerCase(Locale.ROOT), k -> new Postings()).add(id);
+            senderIds.computeIfAbsent(message.getSenderId(), k -> new Postings()).add(id);
+            channels.computeIfAbsent(message.getChannelName(), k -> new Postings()).add(id);
+            return true;
+        }
+
+        synchronized void seal() {
+            sealed = true;
+            for (Postings postings : terms.values()) {
+                postings.trim();
+            }
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized long getMaxTimestamp() {
+            return maxTimestamp;
+        }
+
+        synchronized void search(List<String> tokens, String senderPrefix, String channelName,
+                                 int limit, List<ChatMessage> results) {
+            BitSet matches = null;
+            long touched = 0;
+
+            // Every content token must match (as a prefix) somewhere in the message
+            for (String token : tokens) {
+                BitSet tokenMatches = new BitSet(size);
+                for (Postings postings : prefixRange(terms, token).values()) {
+                    postings.orInto(tokenMatches);
+                    touched += postings.size;
+                }
+                if (matches == null) {
+                    matches = tokenMatches;
+                } else {
+                    matches.and(tokenMatches);
+                }
+                if (matches.isEmpty()) {
+                    break;
+                }
+            }
+            if (matches == null) {
+                matches = new BitSet(size);
+            }
+
+            // Or the sender name starts with the query
+            if (!senderPrefix.isEmpty()) {
+                for (Postings postings : prefixRange(senderNames, senderPrefix).values()) {
+                    postings.orInto(matches);
+                    touched += postings.size;
+                }
+            }
+
+            touched += restrictToChannel(matches, channelName);
+            postingsTouched.add(touched);
+            collectNewestFirst(matches, limit, results);
+        }
+
+        synchronized void searchSender(String senderId, String channelName, int limit, List<ChatMessage> results) {
+            Postings postings = senderIds.get(senderId);
+            if (postings == null) {
+                return;
+            }
+            BitSet matches = new BitSet(size);
+            postings.orInto(matches);
+            long touched = postings.size + restrictToChannel(matches, channelName);
+            postingsTouched.add(touched);
+            collectNewestFirst(matches, limit, results);
+        }
+
+        private long restrictToChannel(BitSet matches, String channelName) {
+            if (channelName == null || matches.isEmpty()) {
+                return 0;
+            }
+            Postings channel = channels.get(channelName);
+            if (channel == null) {
+                matches.clear();
+                return 0;
+            }
+            BitSet channelDocs = new BitSet(size);
+            channel.orInto(channelDocs);
+            matches.and(channelDocs);
+            return channel.size;
+        }
+
+        private void collectNewestFirst(BitSet matches, int limit, List<ChatMessage> results) {
+            int collected = 0;
+            for (int id = matches.previousSetBit(size - 1); id >= 0 && collected < limit;
+                 id = matches.previousSetBit(id - 1)) {
+                results.add(documents[id]);
+                collected++;
+            }
+        }
+
+        private NavigableMap<String, Postings> prefixRange(NavigableMap<String, Postings> map, String prefix) {
+            return map.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        }
+    }
+}
@@ -10,7 +10,11 @@
 package org.veloctopus.chat.system;
 
 import io.github.jk33v3rs.veloctopusrising.api.async.AsyncPattern;
+import org.veloctopus.chat.filter.AhoCorasickMatcher;
+import org.veloctopus.chat.filter.ChatContentMatcher;
+import org.veloctopus.configuration.hotreload.ConfigurationHotReloadSystem;
 import org.veloctopus.events.system.AsyncEventSystem;
+import org.veloctopus.ratelimit.KeyedRateLimiter;
 import org.veloctopus.translation.system.AsyncMessageTranslationSystem;
 import org.veloctopus.cache.redis.AsyncRedisCacheLayer;
 
@@ -20,7 +24,6 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.time.Instant;
 import java.time.Duration;
 import java.util.regex.Pattern;
-import java.util.regex.Matcher;
 
 /**
  * Async Chat Processing System
@@ -106,11 +109,28 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
         BRIDGE
     }
 
+    /**
+     * Key used to shard messages onto ordered processing lanes
+     */
+    public enum ProcessingLaneKey {
+        SENDER,
+        CHANNEL
+    }
+
     /**
      * Chat message with full metadata
+     *
+     * Built once per incoming line, so construction stays lean:
+     * - Mentions are found by a plain character scan, not a regex
+     * - Metadata and attachments are created on first write
+     * - The id comes from a process-wide sequence and is formatted on first use
+     * - Getters return read-only views instead of copies
      */
     public static class ChatMessage {
-        private final String messageId;
+        private static final String ID_PREFIX = "msg_" + Long.toString(System.currentTimeMillis(), 36) + "_";
+        private static final AtomicLong ID_SEQUENCE = new AtomicLong();
+
+        private final long sequence;
         private final String senderId;
         private final String senderName;
         private final String content;
@@ -118,9 +138,10 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
         private final ChatPlatform sourcePlatform;
         private final String sourceChannel;
         private final Instant timestamp;
-        private final Map<String, Object> metadata;
         private final List<String> mentions;
-        private final List<String> attachments;
+        private volatile String messageId;
+        private volatile Map<String, Object> metadata;
+        private volatile List<String> attachments;
         private volatile String processedContent;
         private volatile boolean filtered;
         private volatile FilterResult filterResult;
@@ -128,7 +149,7 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
 
         public ChatMessage(String senderId, String senderName, String content, 
                           MessageType messageType, ChatPlatform sourcePlatform, String sourceChannel) {
-            this.messageId = "msg_" + System.currentTimeMillis() + "_" + this.hashCode();
+            this.sequence = ID_SEQUENCE.incrementAndGet();
             this.senderId = senderId;
             this.senderName = senderName;
             this.content = content;
@@ -136,28 +157,78 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
             this.sourcePlatform = sourcePlatform;
             this.sourceChannel = sourceChannel;
             this.timestamp = Instant.now();
-            this.metadata = new ConcurrentHashMap<>();
-            this.mentions = new ArrayList<>();
-            this.attachments = new ArrayList<>();
+            this.mentions = parseMentions(content);
             this.processedContent = content;
             this.filtered = false;
             this.filterResult = FilterResult.ALLOW;
             this.filterReason = null;
-            
-            parseMentions();
         }
 
-        private void parseMentions() {
-            // Parse @mentions from content
-            Pattern mentionPattern = Pattern.compile("@(\\w+)");
-            Matcher matcher = mentionPattern.matcher(content);
-            while (matcher.find()) {
-                mentions.add(matcher.group(1));
+        /**
+         * Find {@code @name} mentions; same matches as {@code @(\w+)}
+         */
+        static List<String> parseMentions(String content) {
+            int at = content.indexOf('@');
+            if (at < 0) {
+                return List.of();
+            }
+
+            String first = null;
+            List<String> more = null;
+            int length = content.length();
+            while (at >= 0) {
+                int end = at + 1;
+                while (end < length && isWordChar(content.charAt(end))) {
+                    end++;
+                }
+                if (end > at + 1) {
+                    String mention = content.substring(at + 1, end);
+                    if (first == null) {
+                        first = mention;
+                    } else {
+                        if (more == null) {
+                            more = new ArrayList<>(4);
+                            more.add(first);
+                        }
+                        more.add(mention);
+                    }
+                }
+                at = content.indexOf('@', end);
+            }
+
+            if (more != null) {
+                return Collections.unmodifiableList(more);
+            }
+            return first == null ? List.of() : List.of(first);
+        }
+
+        private static boolean isWordChar(char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+        }
+
+        private Map<String, Object> metadataForWrite() {
+            Map<String, Object> current = metadata;
+            if (current == null) {
+                synchronized (this) {
+                    current = metadata;
+                    if (current == null) {
+                        current = new ConcurrentHashMap<>(4);
+                        metadata = current;
+                    }
+                }
             }
+            return current;
         }
 
         // Getters
-        public String getMessageId() { return messageId; }
+        public String getMessageId() {
+            String id = messageId;
+            if (id == null) {
+                id = ID_PREFIX + Long.toString(sequence, 36);
+                messageId = id;
+            }
+            return id;
+        }
         public String getSenderId() { return senderId; }
         public String getSenderName() { return senderName; }
         public String getContent() { return content; }
@@ -165,23 +236,37 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
         public ChatPlatform getSourcePlatform() { return sourcePlatform; }
         public String getSourceChannel() { return sourceChannel; }
         public Instant getTimestamp() { return timestamp; }
-        public Map<String, Object> getMetadata() { return new ConcurrentHashMap<>(metadata); }
-        public List<String> getMentions() { return new ArrayList<>(mentions); }
-        public List<String> getAttachments() { return new ArrayList<>(attachments); }
+        public Map<String, Object> getMetadata() {
+            Map<String, Object> current = metadata;
+            return current == null ? Map.of() : Collections.unmodifiableMap(current);
+        }
+        public List<String> getMentions() { return mentions; }
+        public List<String> getAttachments() {
+            List<String> current = attachments;
+            return current == null ? List.of() : Collections.unmodifiableList(current);
+        }
         public String getProcessedContent() { return processedContent; }
         public boolean isFiltered() { return filtered; }
         public FilterResult getFilterResult() { return filterResult; }
         public String getFilterReason() { return filterReason; }
 
-        public void setMetadata(String key, Object value) { metadata.put(key, value); }
-        public Object getMetadata(String key) { return metadata.get(key); }
+        public void setMetadata(String key, Object value) { metadataForWrite().put(key, value); }
+        public Object getMetadata(String key) {
+            Map<String, Object> current = metadata;
+            return current == null ? null : current.get(key);
+        }
         public void setProcessedContent(String processedContent) { this.processedContent = processedContent; }
         public void setFiltered(boolean filtered, FilterResult result, String reason) {
             this.filtered = filtered;
             this.filterResult = result;
             this.filterReason = reason;
         }
-        public void addAttachment(String attachment) { attachments.add(attachment); }
+        public synchronized void addAttachment(String attachment) {
+            if (attachments == null) {
+                attachments = new CopyOnWriteArrayList<>();
+            }
+            attachments.add(attachment);
+        }
     }
 
     /**
@@ -248,6 +333,20 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
         void setEnabled(boolean enabled);
     }
 
+    /**
+     * CPU-only message filter evaluated inline by the filter pipeline.
+     * Implement this for checks that never block (pattern matching, counters);
+     * keep {@link MessageFilter} for filters that perform I/O.
+     */
+    public interface SyncMessageFilter extends MessageFilter {
+        FilterResult filter(ChatMessage message);
+
+        @Override
+        default CompletableFuture<FilterResult> filterAsync(ChatMessage message) {
+            return CompletableFuture.completedFuture(filter(message));
+        }
+    }
+
     /**
      * Chat statistics for monitoring and analytics
      */
@@ -316,6 +415,11 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
         void setMetric(String key, Object value) { metrics.put(key, value); }
     }
 
+    /**
+     * Configuration key whose reloads carry the profanity word list
+     */
+    public static final String PROFANITY_WORDS_KEY = "chat.profanity_words";
+
     // Core components
     private final AsyncEventSystem eventSystem;
     private final AsyncMessageTranslationSystem translationSystem;
@@ -327,9 +431,10 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
     
     // Chat management
     private final Map<String, ChatChannel> channels;
-    private final List<MessageFilter> messageFilters;
+    private final ChatFilterPipeline filterPipeline;
     private final BlockingQueue<ChatMessage> messageQueue;
-    private final Map<String, List<ChatMessage>> channelHistory;
+    private final OrderedLaneExecutor<ChatMessage> laneExecutor;
+    private final Map<String, ChannelHistoryBuffer> channelHistory;
     
     // Configuration
     private final ChatProcessingConfiguration config;
@@ -354,10 +459,15 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
         
         // Initialize collections
         this.channels = new ConcurrentHashMap<>();
-        this.messageFilters = new CopyOnWriteArrayList<>();
+        this.filterPipeline = new ChatFilterPipeline(
+            Duration.ofMillis(config.getAsyncFilterTimeoutMillis()));
         this.messageQueue = new PriorityBlockingQueue<>(1000, 
             Comparator.comparing((ChatMessage msg) -> msg.getMessageType() == MessageType.SYSTEM ? 0 : 1)
                      .thenComparing(ChatMessage::getTimestamp));
+        this.laneExecutor = config.isShardedProcessingEnabled()
+            ? new OrderedLaneExecutor<>(config.getEffectiveProcessingLaneCount(), chatProcessingExecutor,
+                                        this::processMessage, config.getLaneBatchSize())
+            : null;
         this.channelHistory = new ConcurrentHashMap<>();
         
         this.initialized = false;
@@ -386,7 +496,7 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
                 statistics.setMetric("chat_processing_threads", config.getChatProcessingThreads());
                 statistics.setMetric("message_routing_threads", config.getMessageRoutingThreads());
                 statistics.setMetric("channels_count", channels.size());
-                statistics.setMetric("filters_count", messageFilters.size());
+                statistics.setMetric("filters_count", filterPipeline.size());
                 
                 return true;
             } catch (Exception e) {
@@ -470,28 +580,53 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
                 new IllegalStateException("Chat processing system is not active"));
         }
 
-        return CompletableFuture.supplyAsync(() -> {
-            long startTime = System.currentTimeMillis();
+        // Enqueue on the caller's thread: handing off to a pool first would let two
+        // messages from the same sender race each other into the queue
+        long startTime = System.currentTimeMillis();
+        
+        try {
+            enqueueMessage(message);
             
-            try {
-                // Add to processing queue
-                messageQueue.offer(message);
-                
-                // Update statistics
-                statistics.incrementMessagesProcessed();
-                statistics.incrementPlatformMessageCount(message.getSourcePlatform());
-                statistics.incrementMessageTypeCount(message.getMessageType());
-                statistics.incrementChannelActivityCount(message.getSourceChannel());
-                
-                long processingTime = System.currentTimeMillis() - startTime;
-                statistics.updateAverageProcessingTime(processingTime);
-                
-                return message;
-            } catch (Exception e) {
-                message.setMetadata("processing_error", e.getMessage());
-                throw new RuntimeException("Failed to process chat message", e);
-            }
-        }, chatProcessingExecutor);
+            // Update statistics
+            statistics.incrementMessagesProcessed();
+            statistics.incrementPlatformMessageCount(message.getSourcePlatform());
+            statistics.incrementMessageTypeCount(message.getMessageType());
+            statistics.incrementChannelActivityCount(message.getSourceChannel());
+            
+            long processingTime = System.currentTimeMillis() - startTime;
+            statistics.updateAverageProcessingTime(processingTime);
+            
+            return CompletableFuture.completedFuture(message);
+        } catch (Exception e) {
+            message.setMetadata("processing_error", e.getMessage());
+            return CompletableFuture.failedFuture(new RuntimeException("Failed to process chat message", e));
+        }
+    }
+
+    /**
+     * Hand a message to the shared priority queue or its ordered lane
+     */
+    private void enqueueMessage(ChatMessage message) {
+        if (laneExecutor == null) {
+            messageQueue.offer(message);
+            return;
+        }
+        
+        String laneKey = config.getProcessingLaneKey() == ProcessingLaneKey.CHANNEL
+            ? message.getSourceChannel()
+            : message.getSenderId();
+        laneExecutor.submit(laneKey, message, isPriorityMessage(message));
+    }
+
+    /**
+     * System messages and staff channel traffic take the priority lane queue
+     */
+    private boolean isPriorityMessage(ChatMessage message) {
+        if (message.getMessageType() == MessageType.SYSTEM) {
+            return true;
+        }
+        ChatChannel channel = channels.get(message.getSourceChannel());
+        return channel != null && channel.getChannelType() == ChannelType.STAFF;
     }
 
     /**
@@ -554,7 +689,7 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
             
             ChatChannel channel = new ChatChannel(channelId, channelName, channelType);
             channels.put(channelId, channel);
-            channelHistory.put(channelId, new CopyOnWriteArrayList<>());
+            channelHistory.put(channelId, new ChannelHistoryBuffer(config.getMaxChannelHistorySize()));
             
             statistics.setMetric("channels_count", channels.size());
             return channel;
@@ -577,19 +712,14 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
     }
 
     /**
-     * Get channel history
+     * Get a snapshot of the channel's most recent history
      */
     public CompletableFuture<List<ChatMessage>> getChannelHistoryAsync(String channelId, int limit) {
-        return CompletableFuture.supplyAsync(() -> {
-            List<ChatMessage> history = channelHistory.get(channelId);
-            if (history == null) {
-                return new ArrayList<>();
-            }
-            
-            int size = history.size();
-            int fromIndex = Math.max(0, size - limit);
-            return new ArrayList<>(history.subList(fromIndex, size));
-        });
+        ChannelHistoryBuffer history = channelHistory.get(channelId);
+        if (history == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        return CompletableFuture.completedFuture(history.recent(limit));
     }
 
     /**
@@ -601,10 +731,8 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
      */
     public CompletableFuture<Boolean> addFilterAsync(MessageFilter filter) {
         return CompletableFuture.supplyAsync(() -> {
-            messageFilters.add(filter);
-            // Sort filters by priority
-            messageFilters.sort(Comparator.comparing(MessageFilter::getPriority).reversed());
-            statistics.setMetric("filters_count", messageFilters.size());
+            filterPipeline.addFilter(filter);
+            statistics.setMetric("filters_count", filterPipeline.size());
             return true;
         });
     }
@@ -614,14 +742,54 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
      */
     public CompletableFuture<Boolean> removeFilterAsync(String filterName) {
         return CompletableFuture.supplyAsync(() -> {
-            boolean removed = messageFilters.removeIf(filter -> filter.getFilterName().equals(filterName));
+            boolean removed = filterPipeline.removeFilter(filterName);
             if (removed) {
-                statistics.setMetric("filters_count", messageFilters.size());
+                statistics.setMetric("filters_count", filterPipeline.size());
             }
             return removed;
         });
     }
 
+    /**
+     * Replace the profanity word list; the compiled matcher is swapped atomically
+     * so in-flight messages finish against the previous list
+     */
+    public CompletableFuture<Boolean> reloadProfanityWordsAsync(Collection<String> words) {
+        return CompletableFuture.supplyAsync(() -> {
+            for (MessageFilter filter : filterPipeline.getFilters()) {
+                if (filter instanceof ProfanityFilter) {
+                    ProfanityFilter profanityFilter = (ProfanityFilter) filter;
+                    profanityFilter.reloadWords(words);
+                    statistics.setMetric("profanity_words_count", profanityFilter.getWordCount());
+                    statistics.setMetric("profanity_words_reloaded", Instant.now());
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Subscribe to configuration reloads, so a new profanity word list published
+     * under {@link #PROFANITY_WORDS_KEY} recompiles the matcher
+     */
+    public CompletableFuture<Boolean> registerHotReloadAsync(ConfigurationHotReloadSystem hotReloadSystem) {
+        return hotReloadSystem.registerModuleAsync("chat_processing",
+            ConfigurationHotReloadSystem.ModuleReloadPriority.HIGH, this::onConfigurationReload);
+    }
+
+    private CompletableFuture<Boolean> onConfigurationReload(ConfigurationHotReloadSystem.ConfigurationChangeEvent event) {
+        if (!PROFANITY_WORDS_KEY.equals(event.getConfigurationKey())
+                || !(event.getNewValue() instanceof Collection)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        List<String> words = new ArrayList<>();
+        for (Object word : (Collection<?>) event.getNewValue()) {
+            words.add(String.valueOf(word));
+        }
+        return reloadProfanityWordsAsync(words);
+    }
+
     /**
      * Internal Processing Methods
      */
@@ -630,6 +798,11 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
      * Start message processing
      */
     private void startMessageProcessing() {
+        if (laneExecutor != null) {
+            // Lanes schedule themselves onto the processing pool as messages arrive
+            return;
+        }
+        
         for (int i = 0; i < config.getChatProcessingThreads(); i++) {
             chatProcessingExecutor.submit(() -> {
                 while (processing) {
@@ -671,30 +844,49 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
     /**
      * Process individual message
      */
-    private void processMessage(ChatMessage message) {
+    private CompletableFuture<?> processMessage(ChatMessage message) {
         try {
             ChatChannel channel = channels.get(message.getSourceChannel());
             if (channel == null) {
                 message.setMetadata("error", "Channel not found: " + message.getSourceChannel());
-                return;
+                return CompletableFuture.completedFuture(null);
             }
             
             // Check user permissions
             if (channel.isUserBanned(message.getSenderId())) {
                 message.setFiltered(true, FilterResult.BLOCK, "User is banned from channel");
                 statistics.incrementMessagesFiltered();
-                return;
+                return CompletableFuture.completedFuture(null);
             }
             
             if (!channel.isUserAllowed(message.getSenderId())) {
                 message.setFiltered(true, FilterResult.BLOCK, "User not allowed in channel");
                 statistics.incrementMessagesFiltered();
-                return;
+                return CompletableFuture.completedFuture(null);
             }
             
-            // Apply message filters
+            // Apply message filters; synchronous stages complete inline, I/O stages
+            // continue on the thread that completes them instead of parking this one.
+            // The returned future lets an ordered lane hold the sender's next message.
             if (channel.isModerationEnabled()) {
-                applyMessageFilters(message);
+                return filterPipeline.apply(message)
+                    .whenComplete((result, throwable) -> completeMessageProcessing(message, channel, result));
+            }
+            completeMessageProcessing(message, channel, FilterResult.ALLOW);
+            
+        } catch (Exception e) {
+            message.setMetadata("processing_error", e.getMessage());
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Finish processing once the filter pipeline has produced a verdict
+     */
+    private void completeMessageProcessing(ChatMessage message, ChatChannel channel, FilterResult filterResult) {
+        try {
+            if (filterResult != null && filterResult != FilterResult.ALLOW) {
+                statistics.incrementMessagesFiltered();
             }
             
             // Handle translation if enabled
@@ -716,29 +908,6 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
         }
     }
 
-    /**
-     * Apply message filters
-     */
-    private void applyMessageFilters(ChatMessage message) {
-        for (MessageFilter filter : messageFilters) {
-            if (!filter.isEnabled()) {
-                continue;
-            }
-            
-            try {
-                FilterResult result = filter.filterAsync(message).get(5, TimeUnit.SECONDS);
-                if (result != FilterResult.ALLOW) {
-                    message.setFiltered(true, result, "Filtered by: " + filter.getFilterName());
-                    statistics.incrementMessagesFiltered();
-                    break;
-                }
-            } catch (Exception e) {
-                // Log filter error but continue
-                message.setMetadata("filter_error_" + filter.getFilterName(), e.getMessage());
-            }
-        }
-    }
-
     /**
      * Handle message translation
      */
@@ -765,14 +934,10 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
      * Store message in channel history
      */
     private void storeMessageInHistory(ChatMessage message, ChatChannel channel) {
-        List<ChatMessage> history = channelHistory.get(channel.getChannelId());
+        ChannelHistoryBuffer history = channelHistory.get(channel.getChannelId());
         if (history != null) {
-            history.add(message);
-            
-            // Limit history size
-            while (history.size() > config.getMaxChannelHistorySize()) {
-                history.remove(0);
-            }
+            // Fixed capacity; the oldest message is overwritten in place
+            history.append(message);
         }
     }
 
@@ -804,16 +969,17 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
      */
     private void initializeDefaultFilters() {
         // Spam filter
-        addFilterAsync(new SpamFilter());
+        filterPipeline.addFilter(new SpamFilter(config.getSpamMessageLimit(),
+            Duration.ofSeconds(config.getSpamWindowSeconds())));
         
         // Profanity filter
-        addFilterAsync(new ProfanityFilter());
+        filterPipeline.addFilter(new ProfanityFilter());
         
         // Caps filter
-        addFilterAsync(new CapsFilter());
+        filterPipeline.addFilter(new CapsFilter());
         
         // URL filter
-        addFilterAsync(new URLFilter());
+        filterPipeline.addFilter(new URLFilter());
     }
 
     /**
@@ -857,6 +1023,7 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
         scheduledExecutor.scheduleAtFixedRate(() -> {
             try {
                 cleanupChannelHistory();
+                cleanupRateLimits();
             } catch (Exception e) {
                 // Log cleanup error
             }
@@ -867,21 +1034,43 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
      * Update chat system health
      */
     private void updateChatSystemHealth() {
-        statistics.setMetric("queue_size", messageQueue.size());
+        statistics.setMetric("queue_size", getQueueDepth());
+        if (laneExecutor != null) {
+            statistics.setMetric("processing_lanes", laneExecutor.getMetricsSnapshot());
+            statistics.setMetric("processing_lane_depths", laneExecutor.getLaneDepths());
+        }
         statistics.setMetric("active_processing_threads", chatProcessingExecutor.getActiveCount());
         statistics.setMetric("active_routing_threads", messageRoutingExecutor.getActiveCount());
         statistics.setMetric("channels_with_activity", getActiveChannelCount());
+        statistics.setMetric("filter_stage_latency", filterPipeline.getMetricsSnapshot());
+    }
+
+    /**
+     * Messages waiting for processing, across the shared queue or all lanes
+     */
+    private long getQueueDepth() {
+        return laneExecutor != null ? laneExecutor.getTotalDepth() : messageQueue.size();
+    }
+
+    /**
+     * Per-lane queue depth; empty when sharded processing is disabled
+     */
+    public List<Integer> getProcessingLaneDepths() {
+        return laneExecutor != null ? laneExecutor.getLaneDepths() : Collections.emptyList();
     }
 
     /**
      * Get count of channels with recent activity
      */
     private long getActiveChannelCount() {
-        Instant cutoff = Instant.now().minus(Duration.ofMinutes(5));
-        return channelHistory.values().stream()
-            .mapToLong(history -> history.stream()
-                .anyMatch(msg -> msg.getTimestamp().isAfter(cutoff)) ? 1 : 0)
-            .sum();
+        long cutoff = Instant.now().minus(Duration.ofMinutes(5)).toEpochMilli();
+        long active = 0;
+        for (ChannelHistoryBuffer history : channelHistory.values()) {
+            if (history.hasActivitySince(cutoff)) {
+                active++;
+            }
+        }
+        return active;
     }
 
     /**
@@ -890,11 +1079,26 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
     private void cleanupChannelHistory() {
         Instant cutoff = Instant.now().minus(Duration.ofHours(config.getChannelHistoryRetentionHours()));
         
-        for (List<ChatMessage> history : channelHistory.values()) {
-            history.removeIf(message -> message.getTimestamp().isBefore(cutoff));
+        long evicted = 0;
+        for (ChannelHistoryBuffer history : channelHistory.values()) {
+            evicted += history.evictOlderThan(cutoff.toEpochMilli());
         }
         
         statistics.setMetric("last_history_cleanup", Instant.now());
+        statistics.setMetric("last_history_cleanup_evicted", evicted);
+    }
+
+    /**
+     * Drop rate limiter state for senders whose allowance has fully recovered
+     */
+    private void cleanupRateLimits() {
+        int evicted = 0;
+        for (MessageFilter filter : filterPipeline.getFilters()) {
+            if (filter instanceof SpamFilter) {
+                evicted += ((SpamFilter) filter).evictIdleSenders();
+            }
+        }
+        statistics.setMetric("last_rate_limit_cleanup_evicted", evicted);
     }
 
     /**
@@ -911,6 +1115,11 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
      */
     private void processRemainingMessages() {
         try {
+            if (laneExecutor != null) {
+                laneExecutor.awaitDrained(10000); // 10 second timeout
+                return;
+            }
+            
             long endTime = System.currentTimeMillis() + 10000; // 10 second timeout
             
             while (!messageQueue.isEmpty() && System.currentTimeMillis() < endTime) {
@@ -933,9 +1142,13 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
             
             status.put("initialized", initialized);
             status.put("processing", processing);
-            status.put("queue_size", messageQueue.size());
+            status.put("queue_size", getQueueDepth());
+            status.put("sharded_processing", laneExecutor != null);
+            if (laneExecutor != null) {
+                status.put("processing_lane_depths", laneExecutor.getLaneDepths());
+            }
             status.put("channels_count", channels.size());
-            status.put("filters_count", messageFilters.size());
+            status.put("filters_count", filterPipeline.size());
             status.put("statistics", statistics.getMetrics());
             status.put("channel_info", getChannelInfo());
             status.put("filter_info", getFilterInfo());
@@ -957,8 +1170,9 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
             info.put("enabled_platforms", channel.getEnabledPlatforms());
             info.put("translation_enabled", channel.isTranslationEnabled());
             info.put("moderation_enabled", channel.isModerationEnabled());
-            info.put("message_count", channelHistory.getOrDefault(channel.getChannelId(), 
-                                                                new ArrayList<>()).size());
+            ChannelHistoryBuffer history = channelHistory.get(channel.getChannelId());
+            info.put("message_count", history != null ? history.size() : 0);
+            info.put("history_capacity", history != null ? history.getCapacity() : 0);
             
             channelInfo.put(channel.getChannelId(), info);
         }
@@ -972,10 +1186,15 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
     private Map<String, Object> getFilterInfo() {
         Map<String, Object> filterInfo = new HashMap<>();
         
-        for (MessageFilter filter : messageFilters) {
+        for (MessageFilter filter : filterPipeline.getFilters()) {
             Map<String, Object> info = new HashMap<>();
             info.put("priority", filter.getPriority());
             info.put("enabled", filter.isEnabled());
+            info.put("synchronous", filter instanceof SyncMessageFilter);
+            ChatFilterPipeline.StageMetrics metrics = filterPipeline.getStageMetrics(filter.getFilterName());
+            if (metrics != null) {
+                info.put("latency", metrics.toMap());
+            }
             
             filterInfo.put(filter.getFilterName(), info);
         }
@@ -988,6 +1207,7 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
     public boolean isInitialized() { return initialized; }
     public boolean isProcessing() { return processing; }
     public Map<String, ChatChannel> getChannels() { return new ConcurrentHashMap<>(channels); }
+    public ChatFilterPipeline getFilterPipeline() { return filterPipeline; }
 
     /**
      * Configuration class for chat processing settings
@@ -997,6 +1217,13 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
         private int messageRoutingThreads = 4;
         private int maxChannelHistorySize = 1000;
         private int channelHistoryRetentionHours = 24;
+        private long asyncFilterTimeoutMillis = 5000;
+        private boolean shardedProcessingEnabled = true;
+        private int processingLaneCount = 0; // 0 = four lanes per processing thread
+        private ProcessingLaneKey processingLaneKey = ProcessingLaneKey.SENDER;
+        private int laneBatchSize = 64;
+        private int spamMessageLimit = 5;
+        private int spamWindowSeconds = 10;
         private boolean globalTranslationEnabled = true;
         private boolean globalModerationEnabled = true;
 
@@ -1017,6 +1244,37 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
         public void setChannelHistoryRetentionHours(int channelHistoryRetentionHours) { 
             this.channelHistoryRetentionHours = channelHistoryRetentionHours; 
         }
+        public long getAsyncFilterTimeoutMillis() { return asyncFilterTimeoutMillis; }
+        public void setAsyncFilterTimeoutMillis(long asyncFilterTimeoutMillis) { 
+            this.asyncFilterTimeoutMillis = asyncFilterTimeoutMillis; 
+        }
+        public boolean isShardedProcessingEnabled() { return shardedProcessingEnabled; }
+        public void setShardedProcessingEnabled(boolean shardedProcessingEnabled) { 
+            this.shardedProcessingEnabled = shardedProcessingEnabled; 
+        }
+        public int getProcessingLaneCount() { return processingLaneCount; }
+        public void setProcessingLaneCount(int processingLaneCount) { 
+            this.processingLaneCount = processingLaneCount; 
+        }
+        public int getEffectiveProcessingLaneCount() {
+            return processingLaneCount > 0 ? processingLaneCount : Math.max(1, chatProcessingThreads * 4);
+        }
+        public ProcessingLaneKey getProcessingLaneKey() { return processingLaneKey; }
+        public void setProcessingLaneKey(ProcessingLaneKey processingLaneKey) { 
+            this.processingLaneKey = processingLaneKey; 
+        }
+        public int getLaneBatchSize() { return laneBatchSize; }
+        public void setLaneBatchSize(int laneBatchSize) { 
+            this.laneBatchSize = laneBatchSize; 
+        }
+        public int getSpamMessageLimit() { return spamMessageLimit; }
+        public void setSpamMessageLimit(int spamMessageLimit) { 
+            this.spamMessageLimit = spamMessageLimit; 
+        }
+        public int getSpamWindowSeconds() { return spamWindowSeconds; }
+        public void setSpamWindowSeconds(int spamWindowSeconds) { 
+            this.spamWindowSeconds = spamWindowSeconds; 
+        }
         public boolean isGlobalTranslationEnabled() { return globalTranslationEnabled; }
         public void setGlobalTranslationEnabled(boolean globalTranslationEnabled) { 
             this.globalTranslationEnabled = globalTranslationEnabled; 
@@ -1034,29 +1292,22 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
     /**
      * Spam filter implementation
      */
-    private static class SpamFilter implements MessageFilter {
+    private static class SpamFilter implements SyncMessageFilter {
         private volatile boolean enabled = true;
-        private final Map<String, List<Instant>> userMessageTimes = new ConcurrentHashMap<>();
+        // At most spamMessageLimit messages per spam window per sender
+        private final KeyedRateLimiter senderRate;
+
+        SpamFilter(int messageLimit, Duration window) {
+            this.senderRate = new KeyedRateLimiter(messageLimit, window);
+        }
 
         @Override
-        public CompletableFuture<FilterResult> filterAsync(ChatMessage message) {
-            return CompletableFuture.supplyAsync(() -> {
-                String userId = message.getSenderId();
-                Instant now = Instant.now();
-                
-                userMessageTimes.computeIfAbsent(userId, k -> new ArrayList<>()).add(now);
-                
-                List<Instant> messageTimes = userMessageTimes.get(userId);
-                // Remove messages older than 10 seconds
-                messageTimes.removeIf(time -> time.isBefore(now.minus(Duration.ofSeconds(10))));
-                
-                // Check if more than 5 messages in 10 seconds
-                if (messageTimes.size() > 5) {
-                    return FilterResult.BLOCK;
-                }
-                
-                return FilterResult.ALLOW;
-            });
+        public FilterResult filter(ChatMessage message) {
+            return senderRate.tryAcquire(message.getSenderId()) ? FilterResult.ALLOW : FilterResult.BLOCK;
+        }
+
+        int evictIdleSenders() {
+            return senderRate.evictIdle();
         }
 
         @Override
@@ -1075,29 +1326,30 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
     /**
      * Profanity filter implementation
      */
-    private static class ProfanityFilter implements MessageFilter {
+    private static class ProfanityFilter implements SyncMessageFilter {
         private volatile boolean enabled = true;
-        private final Set<String> profanityWords = Set.of("badword1", "badword2", "badword3");
+        private final ChatContentMatcher matcher = new ChatContentMatcher(
+            Set.of("badword1", "badword2", "badword3"), List.of());
 
         @Override
-        public CompletableFuture<FilterResult> filterAsync(ChatMessage message) {
-            return CompletableFuture.supplyAsync(() -> {
-                String content = message.getContent().toLowerCase();
-                
-                for (String word : profanityWords) {
-                    if (content.contains(word)) {
-                        // Replace with asterisks
-                        String filtered = content.replaceAll("(?i)" + Pattern.quote(word), 
-                                                           "*".repeat(word.length()));
-                        message.setProcessedContent(filtered);
-                        return FilterResult.MODIFY;
-                    }
-                }
-                
-                return FilterResult.ALLOW;
-            });
+        public FilterResult filter(ChatMessage message) {
+            // Single pass over the message regardless of word list size;
+            // mask() returns the same instance when nothing matched
+            AhoCorasickMatcher words = matcher.getRules().getWords();
+            String content = message.getContent();
+            String filtered = words.mask(content, '*');
+            
+            if (filtered != content) {
+                message.setProcessedContent(filtered);
+                return FilterResult.MODIFY;
+            }
+            
+            return FilterResult.ALLOW;
         }
 
+        void reloadWords(Collection<String> words) { matcher.reloadWords(words); }
+        int getWordCount() { return matcher.getRules().getWords().getWordCount(); }
+
         @Override
         public String getFilterName() { return "profanity_filter"; }
 
@@ -1114,25 +1366,23 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
     /**
      * Caps filter implementation
      */
-    private static class CapsFilter implements MessageFilter {
+    private static class CapsFilter implements SyncMessageFilter {
         private volatile boolean enabled = true;
 
         @Override
-        public CompletableFuture<FilterResult> filterAsync(ChatMessage message) {
-            return CompletableFuture.supplyAsync(() -> {
-                String content = message.getContent();
+        public FilterResult filter(ChatMessage message) {
+            String content = message.getContent();
+            
+            if (content.length() > 10) {
+                long upperCaseCount = content.chars().filter(Character::isUpperCase).count();
+                double capsRatio = (double) upperCaseCount / content.length();
                 
-                if (content.length() > 10) {
-                    long upperCaseCount = content.chars().filter(Character::isUpperCase).count();
-                    double capsRatio = (double) upperCaseCount / content.length();
-                    
-                    if (capsRatio > 0.7) {
-                        return FilterResult.WARN;
-                    }
+                if (capsRatio > 0.7) {
+                    return FilterResult.WARN;
                 }
-                
-                return FilterResult.ALLOW;
-            });
+            }
+            
+            return FilterResult.ALLOW;
         }
 
         @Override
@@ -1151,20 +1401,18 @@ public class AsyncChatProcessingSystem implements AsyncPattern {
     /**
      * URL filter implementation
      */
-    private static class URLFilter implements MessageFilter {
+    private static class URLFilter implements SyncMessageFilter {
         private volatile boolean enabled = true;
         private final Pattern urlPattern = Pattern.compile(
             "https?://[\\w\\-._~:/?#\\[\\]@!$&'()*+,;=%]+", Pattern.CASE_INSENSITIVE);
 
         @Override
-        public CompletableFuture<FilterResult> filterAsync(ChatMessage message) {
-            return CompletableFuture.supplyAsync(() -> {
-                if (urlPattern.matcher(message.getContent()).find()) {
-                    return FilterResult.ESCALATE; // Let moderators review URLs
-                }
-                
-                return FilterResult.ALLOW;
-            });
+        public FilterResult filter(ChatMessage message) {
+            if (urlPattern.matcher(message.getContent()).find()) {
+                return FilterResult.ESCALATE; // Let moderators review URLs
+            }
+            
+            return FilterResult.ALLOW;
         }
 
         @Override
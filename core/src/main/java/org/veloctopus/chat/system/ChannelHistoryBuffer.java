@@ -0,0 +1,180 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Channel History Ring Buffer
+ * Fixed-capacity, lock-free per-channel message history
+ */
+
+package org.veloctopus.chat.system;
+
+import org.veloctopus.chat.system.AsyncChatProcessingSystem.ChatMessage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Channel History Buffer
+ *
+ * Fixed-capacity ring of chat messages for a single channel:
+ * - O(1) append; writers claim a sequence number with one atomic increment
+ * - Oldest entries are overwritten in place, so trimming never shifts elements
+ * - Time-based eviction moves a head cursor past the expired entries at the front;
+ *   no messages are touched
+ * - O(1) last-activity lookup
+ * - {@link #recent(int)} returns a snapshot copy, safe to hand to other threads
+ *
+ * Each slot carries a sequence tag, published after the message reference. Readers
+ * check the tag before and after reading the message (seqlock style), so they never
+ * return a message from the wrong lap. A writer that laps a slot waits for the
+ * previous lap's writer to publish first, which keeps slot ownership strictly ordered.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+public class ChannelHistoryBuffer {
+
+    private static final long EMPTY = 0L;
+    private static final long WRITING = -1L;
+
+    private final int capacity;
+    private final AtomicReferenceArray<ChatMessage> messages;
+    private final AtomicLongArray tags;
+    private final AtomicLongArray timestamps;
+    private final AtomicLong writeSequence;
+    private final AtomicLong headSequence;
+    private volatile long lastActivityMillis;
+
+    public ChannelHistoryBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("History capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.messages = new AtomicReferenceArray<>(capacity);
+        this.tags = new AtomicLongArray(capacity);
+        this.timestamps = new AtomicLongArray(capacity);
+        this.writeSequence = new AtomicLong();
+        this.headSequence = new AtomicLong();
+        this.lastActivityMillis = 0L;
+    }
+
+    /**
+     * Append message, overwriting the oldest entry when full
+     */
+    public void append(ChatMessage message) {
+        long timestamp = message.getTimestamp().toEpochMilli();
+        long sequence = writeSequence.getAndIncrement();
+        int slot = slotOf(sequence);
+
+        // Claim the slot once the previous lap's writer has published it
+        long expectedTag = sequence < capacity ? EMPTY : tagOf(sequence - capacity);
+        while (!tags.compareAndSet(slot, expectedTag, WRITING)) {
+            Thread.onSpinWait();
+        }
+
+        messages.set(slot, message);
+        timestamps.set(slot, timestamp);
+        tags.set(slot, tagOf(sequence));
+
+        if (timestamp > lastActivityMillis) {
+            lastActivityMillis = timestamp;
+        }
+    }
+
+    /**
+     * Evict messages older than the cutoff by advancing the head cursor
+     *
+     * @return number of messages evicted
+     */
+    public int evictOlderThan(long cutoffMillis) {
+        long tail = writeSequence.get();
+        long head = firstRetainedSequence(tail);
+
+        // Async filters and per-sender lanes append out of timestamp order, so walk
+        // from the head and stop at the first entry that has not expired. An older
+        // entry behind it waits for the next pass, but a newer one is never evicted.
+        long boundary = head;
+        while (boundary < tail) {
+            int slot = slotOf(boundary);
+            if (tags.get(slot) != tagOf(boundary) || timestamps.get(slot) >= cutoffMillis) {
+                break;
+            }
+            boundary++;
+        }
+
+        long current;
+        do {
+            current = headSequence.get();
+            if (boundary <= current) {
+                return 0;
+            }
+        } while (!headSequence.compareAndSet(current, boundary));
+        return (int) (boundary - Math.max(current, tail - capacity));
+    }
+
+    /**
+     * Snapshot of the most recent messages, oldest first. Entries the ring overwrites
+     * while the copy is taken are left out.
+     */
+    public List<ChatMessage> recent(int limit) {
+        long tail = writeSequence.get();
+        long from = Math.max(firstRetainedSequence(tail), tail - Math.max(0, limit));
+        if (tail <= from) {
+            return Collections.emptyList();
+        }
+        List<ChatMessage> snapshot = new ArrayList<>((int) (tail - from));
+        for (long sequence = from; sequence < tail; sequence++) {
+            ChatMessage message = read(sequence);
+            if (message != null) {
+                snapshot.add(message);
+            }
+        }
+        return snapshot;
+    }
+
+    private long firstRetainedSequence(long tail) {
+        return Math.max(headSequence.get(), tail - capacity);
+    }
+
+    private int slotOf(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    private static long tagOf(long sequence) {
+        return sequence + 1;
+    }
+
+    /**
+     * Read one entry, or null if a later lap has already overwritten it
+     */
+    private ChatMessage read(long sequence) {
+        int slot = slotOf(sequence);
+        long expected = tagOf(sequence);
+        long before;
+        while ((before = tags.get(slot)) == WRITING || before < expected) {
+            // A writer has claimed this sequence but not yet published it
+            Thread.onSpinWait();
+        }
+        ChatMessage message = messages.get(slot);
+        long after = tags.get(slot);
+        return before == expected && after == expected ? message : null;
+    }
+
+    public int size() {
+        long tail = writeSequence.get();
+        return (int) (tail - firstRetainedSequence(tail));
+    }
+
+    public int getCapacity() { return capacity; }
+    public long getLastActivityMillis() { return lastActivityMillis; }
+    public long getTotalAppended() { return writeSequence.get(); }
+
+    public boolean hasActivitySince(long cutoffMillis) {
+        return lastActivityMillis >= cutoffMillis;
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Ordered Lane Executor
+ * Key-sharded, order-preserving execution over a shared thread pool
+ */
+
+package org.veloctopus.chat.system;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ordered Lane Executor
+ *
+ * Hashes each item's key (sender or channel) onto one of a fixed number of lanes:
+ * - Each lane has two lock-free queues, priority and normal. Many producers, one
+ *   consumer at a time.
+ * - A lane is drained by at most one pool thread at a time (actor style), so items
+ *   sharing a key are handled in submission order
+ * - Idle lanes cost nothing. No thread polls with a timeout; a lane is scheduled
+ *   onto the pool only when it goes from empty to non-empty.
+ * - Priority items jump ahead of normal items in the same lane. Order is kept within
+ *   each class, not across the two.
+ * - A handler may return an incomplete stage (for example I/O-bound filters). The lane
+ *   then pauses and resumes when it completes, so later items for the key still wait.
+ *
+ * After {@code batchSize} items a lane yields its thread back to the pool, so one busy
+ * lane cannot starve the rest.
+ *
+ * @param <T> item type
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+public class OrderedLaneExecutor<T> {
+
+    /**
+     * Item handler; return null or a completed stage when handling finished inline
+     */
+    @FunctionalInterface
+    public interface LaneHandler<T> {
+        CompletionStage<?> handle(T item) throws Exception;
+    }
+
+    private static final int IDLE = 0;
+    private static final int SCHEDULED = 1;
+
+    private final Lane[] lanes;
+    private final Executor executor;
+    private final LaneHandler<T> handler;
+    private final int batchSize;
+    private final LongAdder submitted;
+    private final LongAdder completed;
+    private final LongAdder failed;
+
+    public OrderedLaneExecutor(int laneCount, Executor executor, LaneHandler<T> handler, int batchSize) {
+        if (laneCount <= 0) {
+            throw new IllegalArgumentException("Lane count must be positive: " + laneCount);
+        }
+        this.executor = executor;
+        this.handler = handler;
+        this.batchSize = Math.max(1, batchSize);
+        this.submitted = new LongAdder();
+        this.completed = new LongAdder();
+        this.failed = new LongAdder();
+        @SuppressWarnings("unchecked")
+        Lane[] laneArray = (Lane[]) new OrderedLaneExecutor<?>.Lane[laneCount];
+        this.lanes = laneArray;
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(i);
+        }
+    }
+
+    /**
+     * Enqueue an item on the lane owning the key
+     */
+    public void submit(String key, T item, boolean priority) {
+        Lane lane = lanes[laneIndex(key)];
+        // Count before publishing so depth never reads negative
+        lane.depth.incrementAndGet();
+        (priority ? lane.priorityQueue : lane.normalQueue).offer(item);
+        submitted.increment();
+        lane.schedule();
+    }
+
+    /**
+     * Lane owning a key
+     */
+    public int laneIndex(String key) {
+        int h = key == null ? 0 : key.hashCode();
+        h ^= (h >>> 16);
+        return (h & Integer.MAX_VALUE) % lanes.length;
+    }
+
+    /**
+     * Wait until every lane is empty or the timeout elapses
+     *
+     * @return true if all lanes drained in time
+     */
+    public boolean awaitDrained(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (getTotalDepth() > 0) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    public int getLaneCount() { return lanes.length; }
+    public long getSubmittedCount() { return submitted.sum(); }
+    public long getCompletedCount() { return completed.sum(); }
+    public long getFailedCount() { return failed.sum(); }
+
+    public long getTotalDepth() {
+        long total = 0;
+        for (Lane lane : lanes) {
+            total += lane.depth.get();
+        }
+        return total;
+    }
+
+    /**
+     * Current queue depth of every lane, indexed by lane
+     */
+    public List<Integer> getLaneDepths() {
+        List<Integer> depths = new ArrayList<>(lanes.length);
+        for (Lane lane : lanes) {
+            depths.add(lane.depth.get());
+        }
+        return depths;
+    }
+
+    public Map<String, Object> getMetricsSnapshot() {
+        Map<String, Object> snapshot = new HashMap<>();
+        int maxDepth = 0;
+        int busyLanes = 0;
+        for (Lane lane : lanes) {
+            int depth = lane.depth.get();
+            maxDepth = Math.max(maxDepth, depth);
+            if (depth > 0) {
+                busyLanes++;
+            }
+        }
+        snapshot.put("lane_count", lanes.length);
+        snapshot.put("total_depth", getTotalDepth());
+        snapshot.put("max_lane_depth", maxDepth);
+        snapshot.put("busy_lanes", busyLanes);
+        snapshot.put("submitted", submitted.sum());
+        snapshot.put("completed", completed.sum());
+        snapshot.put("failed", failed.sum());
+        return snapshot;
+    }
+
+    /**
+     * Single lane; runs on the pool and drains its own queues
+     */
+    private final class Lane implements Runnable {
+        private final int index;
+        private final Queue<T> priorityQueue = new ConcurrentLinkedQueue<>();
+        private final Queue<T> normalQueue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger depth = new AtomicInteger();
+        private final AtomicInteger state = new AtomicInteger(IDLE);
+
+        Lane(int index) {
+            this.index = index;
+        }
+
+        void schedule() {
+            if (state.compareAndSet(IDLE, SCHEDULED)) {
+                dispatch();
+            }
+        }
+
+        private void dispatch() {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                // Pool is shutting down; leave items queued for a later drain
+                state.set(IDLE);
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int processed = 0; processed < batchSize; processed++) {
+                T item = priorityQueue.poll();
+                if (item == null) {
+                    item = normalQueue.poll();
+                }
+                if (item == null) {
+                    break;
+                }
+                depth.decrementAndGet();
+
+                CompletionStage<?> stage = invoke(item);
+                if (stage != null && !stage.toCompletableFuture().isDone()) {
+                    // Keep the lane claimed until this item finishes, then continue
+                    stage.whenComplete((result, throwable) -> {
+                        if (throwable != null) {
+                            failed.increment();
+                        } else {
+                            completed.increment();
+                        }
+                        dispatch();
+                    });
+                    return;
+                }
+                if (stage != null && stage.toCompletableFuture().isCompletedExceptionally()) {
+                    failed.increment();
+                } else {
+                    completed.increment();
+                }
+            }
+
+            if (depth.get() > 0) {
+                // Batch exhausted with work remaining; yield the thread and requeue
+                dispatch();
+                return;
+            }
+
+            state.set(IDLE);
+            // A producer may have enqueued between the last poll and the state reset
+            if (depth.get() > 0) {
+                schedule();
+            }
+        }
+
+        private CompletionStage<?> invoke(T item) {
+            try {
+                return handler.handle(item);
+            } catch (Exception e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Lane-" + index;
+        }
+    }
+}
@@ -0,0 +1,563 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Ring Buffer Event Bus
+ * Lock-free preallocated ring implementation of VeloctopusEventBus
+ */
+
+package org.veloctopus.events.bus;
+
+import io.github.jk33v3rs.veloctopusrising.api.event.AsyncEventHandler;
+import io.github.jk33v3rs.veloctopusrising.api.event.VeloctopusEvent;
+import io.github.jk33v3rs.veloctopusrising.api.event.VeloctopusEventBus;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring Buffer Event Bus
+ *
+ * High-throughput {@link VeloctopusEventBus} built on a preallocated ring:
+ * - Producers claim sequences with a CAS and publish by stamping the slot with its
+ *   sequence. Publishing takes no lock and allocates nothing besides the caller's future.
+ * - Worker threads claim contiguous batches of published sequences from a shared work
+ *   sequence and dispatch each event to its handlers
+ * - Idle workers follow a configurable {@link WaitStrategy}: busy-spin, yield or park
+ * - Backpressure is by sequence. A producer may not run more than the ring's capacity
+ *   ahead of the slowest worker. {@link #tryPublish} reports a full ring with {@code -1},
+ *   and {@link #fireEventAsync} fails fast with {@link RejectedExecutionException}.
+ *   Callers never block.
+ * - Shutdown stops new events, and workers drain what was already published. An event
+ *   claimed while the last worker was exiting fails with {@link RejectedExecutionException}
+ *   rather than being left in the ring.
+ *
+ * Events are dispatched in publish order within a worker batch. Across workers they run
+ * concurrently and event priority is not used; use AsyncEventSystem when priority
+ * ordering matters.
+ *
+ * Handlers registered for a type also receive its subtypes. The handler table for each
+ * concrete event class is resolved once and cached until the next registration change.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+public class RingBufferEventBus implements VeloctopusEventBus {
+
+    /**
+     * How idle workers wait for new events
+     */
+    public enum WaitStrategy {
+        /** Spin on the CPU; lowest latency, burns a core per worker */
+        BUSY_SPIN,
+        /** Spin briefly, then yield the thread */
+        YIELD,
+        /** Spin, yield, then park for a short interval; lowest CPU use */
+        PARK;
+
+        private static final int SPIN_TRIES = 100;
+        private static final int YIELD_TRIES = 200;
+
+        void idle(int attempt, long parkNanos) {
+            if (this == BUSY_SPIN || attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else if (this == YIELD || attempt < YIELD_TRIES) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(parkNanos);
+            }
+        }
+    }
+
+    private static final long IDLE = Long.MAX_VALUE;
+    private static final AsyncEventHandler<?>[] NO_HANDLERS = new AsyncEventHandler<?>[0];
+
+    /**
+     * Preallocated ring entry
+     */
+    private static final class Slot {
+        VeloctopusEvent event;
+        CompletableFuture<Void> completion;
+    }
+
+    /**
+     * Batch-consuming worker; its sequence gates producers
+     */
+    private final class Worker implements Runnable {
+        // Highest sequence this worker may still be processing minus one, or IDLE
+        volatile long sequence = IDLE;
+
+        @Override
+        public void run() {
+            int idleAttempts = 0;
+            while (true) {
+                long start = workSequence.get();
+                sequence = start - 1;
+
+                long end = start - 1;
+                long limit = start + config.getBatchSize() - 1;
+                while (end < limit && published.get((int) (end + 1) & mask) == end + 1) {
+                    end++;
+                }
+
+                if (end < start) {
+                    sequence = IDLE;
+                    if (!running && start > claimSequence.get()) {
+                        if (liveWorkers.decrementAndGet() == 0) {
+                            terminate();
+                        }
+                        return;
+                    }
+                    config.getWaitStrategy().idle(idleAttempts, config.getParkNanos());
+                    if (idleAttempts < Integer.MAX_VALUE) {
+                        idleAttempts++;
+                    }
+                    continue;
+                }
+                if (!workSequence.compareAndSet(start, end + 1)) {
+                    continue;
+                }
+
+                idleAttempts = 0;
+                for (long s = start; s <= end; s++) {
+                    Slot slot = slots[(int) s & mask];
+                    VeloctopusEvent event = slot.event;
+                    CompletableFuture<Void> completion = slot.completion;
+                    slot.event = null;
+                    slot.completion = null;
+                    dispatch(event, completion);
+                    sequence = s;
+                }
+                batchCount.increment();
+            }
+        }
+    }
+
+    // Ring
+    private final Configuration config;
+    private final int mask;
+    private final Slot[] slots;
+    private final AtomicLongArray published;
+    private final AtomicLong claimSequence;
+    private final AtomicLong workSequence;
+    private volatile long gatingCache;
+    private final Worker[] workers;
+    private final Thread[] workerThreads;
+    private final AtomicInteger liveWorkers;
+
+    // Handlers; maps are replaced, never mutated, under registrationLock
+    private final Object registrationLock;
+    private volatile Map<Class<?>, AsyncEventHandler<?>[]> handlers;
+    private volatile Map<Class<?>, AsyncEventHandler<?>[]> dispatchTables;
+
+    // Metrics
+    private final LongAdder publishedCount;
+    private final LongAdder rejectedCount;
+    private final LongAdder processedCount;
+    private final LongAdder handlerFailureCount;
+    private final LongAdder batchCount;
+
+    private volatile boolean active;
+    private volatile boolean running;
+    private volatile boolean terminated;    // Every worker has exited
+
+    public RingBufferEventBus(Configuration config) {
+        int capacity = config.getBufferSize();
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("bufferSize must be a power of two: " + capacity);
+        }
+        this.config = config;
+        this.mask = capacity - 1;
+        this.slots = new Slot[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+            published.set(i, -1);
+        }
+        this.claimSequence = new AtomicLong(-1);
+        this.workSequence = new AtomicLong(0);
+        this.gatingCache = -1;
+
+        this.workers = new Worker[config.getWorkerThreads()];
+        this.workerThreads = new Thread[workers.length];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Worker();
+            workerThreads[i] = new Thread(workers[i], "veloctopus-event-bus-" + i);
+            workerThreads[i].setDaemon(true);
+        }
+        this.liveWorkers = new AtomicInteger(workers.length);
+
+        this.registrationLock = new Object();
+        this.handlers = Map.of();
+        this.dispatchTables = new ConcurrentHashMap<>();
+
+        this.publishedCount = new LongAdder();
+        this.rejectedCount = new LongAdder();
+        this.processedCount = new LongAdder();
+        this.handlerFailureCount = new LongAdder();
+        this.batchCount = new LongAdder();
+    }
+
+    /**
+     * Start the worker threads; events are rejected until this is called
+     */
+    public synchronized RingBufferEventBus start() {
+        if (!running) {
+            running = true;
+            active = true;
+            for (Thread thread : workerThreads) {
+                thread.start();
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public <T extends VeloctopusEvent> void registerHandler(Class<T> eventType, AsyncEventHandler<T> handler) {
+        if (eventType == null || handler == null) {
+            throw new IllegalArgumentException("eventType and handler must not be null");
+        }
+        synchronized (registrationLock) {
+            AsyncEventHandler<?>[] current = handlers.getOrDefault(eventType, NO_HANDLERS);
+            AsyncEventHandler<?>[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = handler;
+            Map<Class<?>, AsyncEventHandler<?>[]> next = new LinkedHashMap<>(handlers);
+            next.put(eventType, updated);
+            replaceHandlers(next);
+        }
+    }
+
+    @Override
+    public <T extends VeloctopusEvent> void unregisterHandler(Class<T> eventType, AsyncEventHandler<T> handler) {
+        if (eventType == null || handler == null) {
+            throw new IllegalArgumentException("eventType and handler must not be null");
+        }
+        synchronized (registrationLock) {
+            AsyncEventHandler<?>[] current = handlers.get(eventType);
+            if (current == null) {
+                return;
+            }
+            List<AsyncEventHandler<?>> remaining = new ArrayList<>(Arrays.asList(current));
+            if (!remaining.remove(handler)) {
+                return;
+            }
+            Map<Class<?>, AsyncEventHandler<?>[]> next = new LinkedHashMap<>(handlers);
+            if (remaining.isEmpty()) {
+                next.remove(eventType);
+            } else {
+                next.put(eventType, remaining.toArray(NO_HANDLERS));
+            }
+            replaceHandlers(next);
+        }
+    }
+
+    private void replaceHandlers(Map<Class<?>, AsyncEventHandler<?>[]> next) {
+        // Handlers first, then a fresh table map: a table resolved from the old handlers
+        // can only land in the discarded map
+        handlers = Collections.unmodifiableMap(next);
+        dispatchTables = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public CompletableFuture<Void> fireEventAsync(VeloctopusEvent event) {
+        if (event == null) {
+            throw new IllegalArgumentException("event must not be null");
+        }
+        if (!active) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Event bus is not active"));
+        }
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        if (publish(event, completion) < 0 && !completion.isDone()) {
+            return CompletableFuture.failedFuture(
+                new RejectedExecutionException("Event bus ring is full (capacity " + slots.length + ")"));
+        }
+        return completion;
+    }
+
+    /**
+     * Publish without a completion future
+     *
+     * @return the sequence the event was published at, or {@code -1} if the bus is
+     *         inactive or shut down or the ring is full
+     */
+    public long tryPublish(VeloctopusEvent event) {
+        if (event == null) {
+            throw new IllegalArgumentException("event must not be null");
+        }
+        return active ? publish(event, null) : -1;
+    }
+
+    private long publish(VeloctopusEvent event, CompletableFuture<Void> completion) {
+        long current;
+        long next;
+        do {
+            current = claimSequence.get();
+            next = current + 1;
+            long wrapPoint = next - slots.length;
+            if (wrapPoint > gatingCache) {
+                long gating = minimumGatingSequence();
+                gatingCache = gating;
+                if (wrapPoint > gating) {
+                    rejectedCount.increment();
+                    return -1;
+                }
+            }
+        } while (!claimSequence.compareAndSet(current, next));
+
+        int index = (int) next & mask;
+        Slot slot = slots[index];
+        slot.event = event;
+        slot.completion = completion;
+        published.lazySet(index, next);
+        if (terminated) {
+            // Claimed after the workers' last look at the claim sequence; see terminate()
+            slot.event = null;
+            slot.completion = null;
+            rejectedCount.increment();
+            failUnprocessed(completion);
+            return -1;
+        }
+        publishedCount.increment();
+        return next;
+    }
+
+    /**
+     * Called by the last worker to exit: fail events claimed since the workers' last look
+     *
+     * A producer that passed the active check before shutdown may claim a sequence after
+     * every worker has exited. The claim is seen either here, since terminated is set
+     * before the claim sequence is read, or by the producer's own check in publish().
+     * Failing a completion twice is harmless.
+     */
+    private void terminate() {
+        terminated = true;
+        for (long s = workSequence.get(); s <= claimSequence.get(); s++) {
+            int index = (int) s & mask;
+            while (published.get(index) != s) {
+                // The producer is between its claim and its publish
+                Thread.onSpinWait();
+            }
+            Slot slot = slots[index];
+            CompletableFuture<Void> completion = slot.completion;
+            slot.event = null;
+            slot.completion = null;
+            failUnprocessed(completion);
+        }
+    }
+
+    private static void failUnprocessed(CompletableFuture<Void> completion) {
+        if (completion != null) {
+            completion.completeExceptionally(new RejectedExecutionException("Event bus has shut down"));
+        }
+    }
+
+    /**
+     * Highest sequence every worker has finished with
+     */
+    private long minimumGatingSequence() {
+        // Work sequence first: a worker publishes its own sequence before claiming
+        long minimum = workSequence.get() - 1;
+        for (Worker worker : workers) {
+            minimum = Math.min(minimum, worker.sequence);
+        }
+        return minimum;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void dispatch(VeloctopusEvent event, CompletableFuture<Void> completion) {
+        AsyncEventHandler<?>[] table = handlersFor(event.getClass());
+        CompletableFuture<?>[] pending = null;
+        int pendingCount = 0;
+        Throwable failure = null;
+
+        for (AsyncEventHandler handler : table) {
+            try {
+                CompletableFuture<Void> result = handler.handleEvent(event);
+                if (result == null || (result.isDone() && !result.isCompletedExceptionally())) {
+                    continue;
+                }
+                if (pending == null) {
+                    pending = new CompletableFuture<?>[table.length];
+                }
+                pending[pendingCount++] = result.copy()
+                    .orTimeout(config.getHandlerTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (Throwable t) {
+                handlerFailureCount.increment();
+                if (failure == null) {
+                    failure = t;
+                }
+            }
+        }
+        processedCount.increment();
+
+        if (pendingCount == 0) {
+            if (completion != null) {
+                if (failure == null) {
+                    completion.complete(null);
+                } else {
+                    completion.completeExceptionally(failure);
+                }
+            }
+            return;
+        }
+
+        Throwable syncFailure = failure;
+        CompletableFuture.allOf(Arrays.copyOf(pending, pendingCount)).whenComplete((ignored, asyncFailure) -> {
+            if (asyncFailure != null) {
+                handlerFailureCount.increment();
+            }
+            if (completion == null) {
+                return;
+            }
+            Throwable cause = syncFailure != null ? syncFailure : asyncFailure;
+            if (cause == null) {
+                completion.complete(null);
+            } else {
+                completion.completeExceptionally(cause);
+            }
+        });
+    }
+
+    private AsyncEventHandler<?>[] handlersFor(Class<?> eventClass) {
+        Map<Class<?>, AsyncEventHandler<?>[]> tables = dispatchTables;
+        AsyncEventHandler<?>[] table = tables.get(eventClass);
+        if (table == null) {
+            table = tables.computeIfAbsent(eventClass, this::resolveHandlers);
+        }
+        return table;
+    }
+
+    private AsyncEventHandler<?>[] resolveHandlers(Class<?> eventClass) {
+        List<AsyncEventHandler<?>> resolved = new ArrayList<>();
+        for (Map.Entry<Class<?>, AsyncEventHandler<?>[]> entry : handlers.entrySet()) {
+            if (entry.getKey().isAssignableFrom(eventClass)) {
+                resolved.addAll(Arrays.asList(entry.getValue()));
+            }
+        }
+        return resolved.isEmpty() ? NO_HANDLERS : resolved.toArray(NO_HANDLERS);
+    }
+
+    @Override
+    public int getHandlerCount() {
+        int count = 0;
+        for (AsyncEventHandler<?>[] registered : handlers.values()) {
+            count += registered.length;
+        }
+        return count;
+    }
+
+    @Override
+    public int getHandlerCount(Class<? extends VeloctopusEvent> eventType) {
+        if (eventType == null) {
+            throw new IllegalArgumentException("eventType must not be null");
+        }
+        AsyncEventHandler<?>[] registered = handlers.get(eventType);
+        return registered == null ? 0 : registered.length;
+    }
+
+    @Override
+    public CompletableFuture<Void> shutdown() {
+        active = false;
+        return CompletableFuture.runAsync(() -> {
+            // Workers drain everything already published, then exit
+            running = false;
+            long deadline = System.nanoTime() + config.getShutdownTimeout().toNanos();
+            try {
+                for (Thread thread : workerThreads) {
+                    long remaining = deadline - System.nanoTime();
+                    if (thread.isAlive() && remaining > 0) {
+                        thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining)));
+                    }
+                    if (thread.isAlive()) {
+                        throw new CompletionException(new TimeoutException("Event bus workers did not drain in time"));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    @Override
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Last claimed sequence
+     */
+    public long getCursor() {
+        return claimSequence.get();
+    }
+
+    /**
+     * Slots a producer could claim right now without being rejected
+     */
+    public long getRemainingCapacity() {
+        long consumed = minimumGatingSequence();
+        long produced = claimSequence.get();
+        return slots.length - (produced - consumed);
+    }
+
+    public int getCapacity() { return slots.length; }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        long batches = batchCount.sum();
+        long processed = processedCount.sum();
+        metrics.put("capacity", slots.length);
+        metrics.put("cursor", claimSequence.get());
+        metrics.put("remaining_capacity", getRemainingCapacity());
+        metrics.put("published", publishedCount.sum());
+        metrics.put("rejected", rejectedCount.sum());
+        metrics.put("processed", processed);
+        metrics.put("handler_failures", handlerFailureCount.sum());
+        metrics.put("batches", batches);
+        metrics.put("average_batch_size", batches > 0 ? (double) processed / batches : 0.0);
+        metrics.put("wait_strategy", config.getWaitStrategy().name());
+        metrics.put("workers", workers.length);
+        return metrics;
+    }
+
+    /**
+     * Configuration class for ring buffer event bus settings
+     */
+    public static class Configuration {
+        private int bufferSize = 8192;
+        private int workerThreads = 4;
+        private int batchSize = 64;
+        private WaitStrategy waitStrategy = WaitStrategy.PARK;
+        private long parkNanos = 50_000;
+        private Duration handlerTimeout = Duration.ofSeconds(30);
+        private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+        // Getters and setters
+        public int getBufferSize() { return bufferSize; }
+        public void setBufferSize(int bufferSize) { this.bufferSize = bufferSize; }
+        public int getWorkerThreads() { return workerThreads; }
+        public void setWorkerThreads(int workerThreads) { this.workerThreads = workerThreads; }
+        public int getBatchSize() { return batchSize; }
+        public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+        public WaitStrategy getWaitStrategy() { return waitStrategy; }
+        public void setWaitStrategy(WaitStrategy waitStrategy) { this.waitStrategy = waitStrategy; }
+        public long getParkNanos() { return parkNanos; }
+        public void setParkNanos(long parkNanos) { this.parkNanos = parkNanos; }
+        public Duration getHandlerTimeout() { return handlerTimeout; }
+        public void setHandlerTimeout(Duration handlerTimeout) { this.handlerTimeout = handlerTimeout; }
+        public Duration getShutdownTimeout() { return shutdownTimeout; }
+        public void setShutdownTimeout(Duration shutdownTimeout) { this.shutdownTimeout = shutdownTimeout; }
+    }
+}
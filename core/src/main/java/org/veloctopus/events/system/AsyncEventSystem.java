@@ -10,10 +10,12 @@
 package org.veloctopus.events.system;
 
 import io.github.jk33v3rs.veloctopusrising.api.async.AsyncPattern;
+import org.veloctopus.metrics.LatencyHistogram;
 
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.time.Instant;
 import java.lang.reflect.Method;
 import java.lang.annotation.Retention;
@@ -25,12 +27,17 @@ import java.lang.annotation.ElementType;
  * Async Event System
  * 
  * Provides high-performance event handling with priority ordering and async processing:
- * - Priority-based event processing with queue management
+ * - Priority-based event processing with bounded per-priority queues
+ * - Configurable overflow policy and per-event-type queue quotas
+ * - Awaitable and key-ordered event firing
+ * - Optional inline dispatch on the firing thread for events with only synchronous listeners
+ * - Coalescing of keyed high-frequency events and batched listener delivery
  * - Async event firing and handling with CompletableFuture
  * - Event cancellation and modification support
- * - Performance monitoring and analytics
+ * - Performance monitoring with latency histograms per listener and event type
  * - Event listener registration and management
  * - Cross-platform event coordination
+ * - Cluster-wide events delivered to the other proxies through a ClusterEventTransport
  * - Event batching and bulk processing
  * - Event persistence and replay capabilities
  * 
@@ -74,7 +81,33 @@ public class AsyncEventSystem implements AsyncPattern {
         PROCESSING,
         COMPLETED,
         CANCELLED,
-        FAILED
+        FAILED,
+        COALESCED   // Merged into another event with the same coalescing key
+    }
+
+    /**
+     * What to do with a new event when its queue lane or event type quota is full
+     *
+     * REJECT is the default. BLOCK stalls the firing thread, which may be a proxy
+     * event thread, so only opt into it where the callers can afford to wait.
+     */
+    public enum OverflowPolicy {
+        BLOCK,        // Wait up to the overflow wait time for room, then reject
+        DROP_OLDEST,  // Evict the oldest queued event of the same type (or lane) and fail it
+        REJECT,       // Fail the new event immediately, counted as rejected
+        CALLER_RUNS   // Process the new event on the firing thread
+    }
+
+    /**
+     * Where events are dispatched
+     *
+     * Inline events skip the queue, so they are not ordered by priority against queued
+     * events and are not subject to the overflow policy. A slow synchronous listener
+     * holds up the thread that fired the event.
+     */
+    public enum DispatchMode {
+        QUEUED,       // Every event goes through the queue to a processing thread
+        INLINE_SYNC   // Events whose listeners are all synchronous run on the firing thread
     }
 
     /**
@@ -88,6 +121,35 @@ public class AsyncEventSystem implements AsyncPattern {
         boolean async() default true;
     }
 
+    /**
+     * Batch event listener annotation
+     *
+     * The annotated method takes a {@code List<E>} of events. A batch is delivered once
+     * it holds maxBatchSize events or maxDelayMillis after its first event, whichever
+     * comes first.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    public @interface BatchEventListener {
+        EventPriority priority() default EventPriority.NORMAL;
+        boolean ignoreCancelled() default false;
+        int maxBatchSize() default 100;
+        long maxDelayMillis() default 1000;
+    }
+
+    /**
+     * Cluster-wide event annotation
+     *
+     * Events of an annotated class are also published to the other proxies once a
+     * {@link ClusterEventCodec} is registered for them with the ClusterEventTransport.
+     * The value is the wire name of the event type and must match on every proxy.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE)
+    public @interface ClusterWide {
+        String value();
+    }
+
     /**
      * Base event class for all system events
      */
@@ -98,9 +160,17 @@ public class AsyncEventSystem implements AsyncPattern {
         private volatile EventState state;
         private volatile boolean cancelled;
         private volatile String cancellationReason;
+        private volatile String originNode;
 
         protected Event() {
-            this.eventId = "event_" + System.currentTimeMillis() + "_" + this.hashCode();
+            this(null);
+        }
+
+        /**
+         * Recreate an event with an existing ID, as codecs do for events from other proxies
+         */
+        protected Event(String eventId) {
+            this.eventId = eventId != null ? eventId : "event_" + System.currentTimeMillis() + "_" + this.hashCode();
             this.createdTime = Instant.now();
             this.metadata = new ConcurrentHashMap<>();
             this.state = EventState.CREATED;
@@ -114,6 +184,8 @@ public class AsyncEventSystem implements AsyncPattern {
         public boolean isCancelled() { return cancelled; }
         public String getCancellationReason() { return cancellationReason; }
         public Map<String, Object> getMetadata() { return new ConcurrentHashMap<>(metadata); }
+        public String getOriginNode() { return originNode; }
+        public boolean isRemote() { return originNode != null; }
 
         public void setMetadata(String key, Object value) { metadata.put(key, value); }
         public Object getMetadata(String key) { return metadata.get(key); }
@@ -128,6 +200,7 @@ public class AsyncEventSystem implements AsyncPattern {
 
         // Internal state management
         void setState(EventState state) { this.state = state; }
+        void setOriginNode(String originNode) { this.originNode = originNode; }
     }
 
     /**
@@ -139,37 +212,71 @@ public class AsyncEventSystem implements AsyncPattern {
         String getCancellationReason();
     }
 
+    /**
+     * Coalescible event interface
+     *
+     * Events of one class with equal non-null keys that are fired within the coalescing
+     * window are dispatched once. {@link #coalesce} folds each newer event into the
+     * pending one; the default keeps the newest.
+     */
+    public interface CoalescibleEvent<E extends Event> {
+        Object getCoalescingKey();
+        default E coalesce(E newer) { return newer; }
+    }
+
     /**
      * Event listener wrapper for registration management
+     *
+     * The listener method is bound into a {@link ListenerInvoker} at registration, so
+     * dispatch never goes through reflection. Execution times go into a
+     * {@link LatencyHistogram}; the monitor flags the listener as slow when its p99 over
+     * the last interval exceeds the configured threshold.
      */
     public static class EventListenerWrapper {
         private final Object listener;
         private final Method method;
+        private final ListenerInvoker invoker;
         private final EventPriority priority;
         private final boolean ignoreCancelled;
         private final boolean async;
         private final Class<? extends Event> eventType;
         private final String listenerId;
-        private volatile long executionCount;
-        private volatile long totalExecutionTime;
-        private volatile long lastExecutionTime;
+        private final LatencyHistogram latency;
+        private volatile long lastExecutionNanos;
+        private volatile LatencyHistogram.Snapshot lastInterval;
+        private volatile boolean slow;
 
         public EventListenerWrapper(Object listener, Method method, EventListener annotation) {
+            this(listener, method, annotation.priority(), annotation.ignoreCancelled(), annotation.async(),
+                 getEventTypeFromMethod(method), ListenerInvoker.bind(listener, method));
+        }
+
+        // Batch listeners only append to the batch during dispatch, so they run inline
+        EventListenerWrapper(Object listener, Method method, BatchEventListener annotation, EventBatcher batcher) {
+            this(listener, method, annotation.priority(), annotation.ignoreCancelled(), false,
+                 batcher.getEventType(), batcher);
+        }
+
+        private EventListenerWrapper(Object listener, Method method, EventPriority priority,
+                                     boolean ignoreCancelled, boolean async,
+                                     Class<? extends Event> eventType, ListenerInvoker invoker) {
             this.listener = listener;
             this.method = method;
-            this.priority = annotation.priority();
-            this.ignoreCancelled = annotation.ignoreCancelled();
-            this.async = annotation.async();
-            this.eventType = getEventTypeFromMethod(method);
+            this.priority = priority;
+            this.ignoreCancelled = ignoreCancelled;
+            this.async = async;
+            this.eventType = eventType;
+            this.invoker = invoker;
             this.listenerId = listener.getClass().getSimpleName() + "." + method.getName() + 
                             "_" + System.currentTimeMillis();
-            this.executionCount = 0;
-            this.totalExecutionTime = 0;
-            this.lastExecutionTime = 0;
+            this.latency = new LatencyHistogram();
+            this.lastExecutionNanos = 0;
+            this.lastInterval = null;
+            this.slow = false;
         }
 
         @SuppressWarnings("unchecked")
-        private Class<? extends Event> getEventTypeFromMethod(Method method) {
+        private static Class<? extends Event> getEventTypeFromMethod(Method method) {
             Class<?>[] parameterTypes = method.getParameterTypes();
             if (parameterTypes.length == 1 && Event.class.isAssignableFrom(parameterTypes[0])) {
                 return (Class<? extends Event>) parameterTypes[0];
@@ -180,23 +287,31 @@ public class AsyncEventSystem implements AsyncPattern {
         // Getters
         public Object getListener() { return listener; }
         public Method getMethod() { return method; }
+        public ListenerInvoker getInvoker() { return invoker; }
         public EventPriority getPriority() { return priority; }
         public boolean isIgnoreCancelled() { return ignoreCancelled; }
         public boolean isAsync() { return async; }
         public Class<? extends Event> getEventType() { return eventType; }
         public String getListenerId() { return listenerId; }
-        public long getExecutionCount() { return executionCount; }
-        public long getTotalExecutionTime() { return totalExecutionTime; }
-        public long getLastExecutionTime() { return lastExecutionTime; }
+        public long getExecutionCount() { return latency.getCount(); }
+        public long getTotalExecutionTime() { return latency.getTotalNanos() / 1_000_000; }
+        public long getLastExecutionTime() { return lastExecutionNanos / 1_000_000; }
         public double getAverageExecutionTime() {
-            return executionCount > 0 ? (double) totalExecutionTime / executionCount : 0.0;
+            long count = latency.getCount();
+            return count > 0 ? latency.getTotalNanos() / 1_000_000.0 / count : 0.0;
         }
+        public LatencyHistogram getLatency() { return latency; }
+        public LatencyHistogram.Snapshot getLastInterval() { return lastInterval; }
+        public boolean isSlow() { return slow; }
 
         // Internal tracking methods
-        void recordExecution(long executionTime) {
-            executionCount++;
-            totalExecutionTime += executionTime;
-            lastExecutionTime = executionTime;
+        void recordExecution(long executionNanos) {
+            latency.recordNanos(executionNanos);
+            lastExecutionNanos = executionNanos;
+        }
+        void updateInterval(LatencyHistogram.Snapshot interval, long slowThresholdNanos) {
+            lastInterval = interval;
+            slow = interval.getCount() > 0 && interval.getP99Nanos() > slowThresholdNanos;
         }
     }
 
@@ -209,9 +324,16 @@ public class AsyncEventSystem implements AsyncPattern {
         private final AtomicLong totalEventsProcessed;
         private final AtomicLong totalEventsFailed;
         private final AtomicLong totalEventsCancelled;
-        private volatile double averageProcessingTime;
+        private final AtomicLong totalEventsRejected;
+        private final AtomicLong totalEventsDropped;
+        private final AtomicLong totalEventsRunOnCaller;
+        private final AtomicLong totalEventsCoalesced;
+        private final LongAdder totalEventsDispatchedInline;
+        private final LongAdder totalEventsDispatchedQueued;
+        private final LatencyHistogram processingLatency;
         private volatile long peakEventsPerSecond;
-        private final Map<Class<? extends Event>, Long> eventTypeCounts;
+        private final Map<Class<? extends Event>, LongAdder> eventTypeCounts;
+        private final Map<Class<? extends Event>, LatencyHistogram> eventTypeLatency;
         private final Map<String, Long> listenerExecutionCounts;
 
         public EventStatistics() {
@@ -220,9 +342,16 @@ public class AsyncEventSystem implements AsyncPattern {
             this.totalEventsProcessed = new AtomicLong(0);
             this.totalEventsFailed = new AtomicLong(0);
             this.totalEventsCancelled = new AtomicLong(0);
-            this.averageProcessingTime = 0.0;
+            this.totalEventsRejected = new AtomicLong(0);
+            this.totalEventsDropped = new AtomicLong(0);
+            this.totalEventsRunOnCaller = new AtomicLong(0);
+            this.totalEventsCoalesced = new AtomicLong(0);
+            this.totalEventsDispatchedInline = new LongAdder();
+            this.totalEventsDispatchedQueued = new LongAdder();
+            this.processingLatency = new LatencyHistogram();
             this.peakEventsPerSecond = 0;
             this.eventTypeCounts = new ConcurrentHashMap<>();
+            this.eventTypeLatency = new ConcurrentHashMap<>();
             this.listenerExecutionCounts = new ConcurrentHashMap<>();
         }
 
@@ -230,10 +359,30 @@ public class AsyncEventSystem implements AsyncPattern {
         public long getTotalEventsProcessed() { return totalEventsProcessed.get(); }
         public long getTotalEventsFailed() { return totalEventsFailed.get(); }
         public long getTotalEventsCancelled() { return totalEventsCancelled.get(); }
-        public double getAverageProcessingTime() { return averageProcessingTime; }
+        public long getTotalEventsRejected() { return totalEventsRejected.get(); }
+        public long getTotalEventsDropped() { return totalEventsDropped.get(); }
+        public long getTotalEventsRunOnCaller() { return totalEventsRunOnCaller.get(); }
+        public long getTotalEventsCoalesced() { return totalEventsCoalesced.get(); }
+        public long getTotalEventsDispatchedInline() { return totalEventsDispatchedInline.sum(); }
+        public long getTotalEventsDispatchedQueued() { return totalEventsDispatchedQueued.sum(); }
+        public double getInlineDispatchRatio() {
+            long inline = totalEventsDispatchedInline.sum();
+            long total = inline + totalEventsDispatchedQueued.sum();
+            return total > 0 ? (double) inline / total : 0.0;
+        }
+        public double getAverageProcessingTime() {
+            long count = processingLatency.getCount();
+            return count > 0 ? processingLatency.getTotalNanos() / 1_000_000.0 / count : 0.0;
+        }
         public long getPeakEventsPerSecond() { return peakEventsPerSecond; }
+        public LatencyHistogram getProcessingLatency() { return processingLatency; }
+        public Map<Class<? extends Event>, LatencyHistogram> getEventTypeLatency() {
+            return new HashMap<>(eventTypeLatency);
+        }
         public Map<Class<? extends Event>, Long> getEventTypeCounts() { 
-            return new ConcurrentHashMap<>(eventTypeCounts); 
+            Map<Class<? extends Event>, Long> counts = new HashMap<>();
+            eventTypeCounts.forEach((type, count) -> counts.put(type, count.sum()));
+            return counts; 
         }
         public Map<String, Long> getListenerExecutionCounts() { 
             return new ConcurrentHashMap<>(listenerExecutionCounts); 
@@ -245,8 +394,19 @@ public class AsyncEventSystem implements AsyncPattern {
         void incrementEventsProcessed() { totalEventsProcessed.incrementAndGet(); }
         void incrementEventsFailed() { totalEventsFailed.incrementAndGet(); }
         void incrementEventsCancelled() { totalEventsCancelled.incrementAndGet(); }
-        void updateAverageProcessingTime(double newTime) {
-            averageProcessingTime = (averageProcessingTime + newTime) / 2;
+        void incrementEventsRejected() { totalEventsRejected.incrementAndGet(); }
+        void incrementEventsDropped() { totalEventsDropped.incrementAndGet(); }
+        void incrementEventsRunOnCaller() { totalEventsRunOnCaller.incrementAndGet(); }
+        void incrementEventsCoalesced() { totalEventsCoalesced.incrementAndGet(); }
+        void incrementEventsDispatchedInline() { totalEventsDispatchedInline.increment(); }
+        void incrementEventsDispatchedQueued() { totalEventsDispatchedQueued.increment(); }
+        void recordProcessingTime(Class<? extends Event> eventType, long processingNanos) {
+            processingLatency.recordNanos(processingNanos);
+            LatencyHistogram histogram = eventTypeLatency.get(eventType);
+            if (histogram == null) {
+                histogram = eventTypeLatency.computeIfAbsent(eventType, type -> new LatencyHistogram());
+            }
+            histogram.recordNanos(processingNanos);
         }
         void updatePeakEventsPerSecond(long eventsPerSecond) {
             if (eventsPerSecond > peakEventsPerSecond) {
@@ -254,10 +414,17 @@ public class AsyncEventSystem implements AsyncPattern {
             }
         }
         void incrementEventTypeCount(Class<? extends Event> eventType) {
-            eventTypeCounts.merge(eventType, 1L, Long::sum);
+            LongAdder count = eventTypeCounts.get(eventType);
+            if (count == null) {
+                count = eventTypeCounts.computeIfAbsent(eventType, type -> new LongAdder());
+            }
+            count.increment();
         }
-        void incrementListenerExecutionCount(String listenerId) {
-            listenerExecutionCounts.merge(listenerId, 1L, Long::sum);
+        void setListenerExecutionCount(String listenerId, long count) {
+            listenerExecutionCounts.put(listenerId, count);
+        }
+        void removeListenerExecutionCount(String listenerId) {
+            listenerExecutionCounts.remove(listenerId);
         }
         void setMetric(String key, Object value) { metrics.put(key, value); }
     }
@@ -267,15 +434,21 @@ public class AsyncEventSystem implements AsyncPattern {
      */
     public static class EventContext {
         private final Event event;
-        private final List<EventListenerWrapper> listeners;
+        private final EventListenerWrapper[] listeners;
+        private final int priorityValue;
         private final Instant processingStartTime;
         private final CompletableFuture<Void> completionFuture;
         private volatile int processedListeners;
         private volatile int failedListeners;
 
         public EventContext(Event event, List<EventListenerWrapper> listeners) {
+            this(event, listeners.toArray(new EventListenerWrapper[0]));
+        }
+
+        EventContext(Event event, EventListenerWrapper[] listeners) {
             this.event = event;
-            this.listeners = new ArrayList<>(listeners);
+            this.listeners = listeners;
+            this.priorityValue = listeners.length > 0 ? listeners[0].getPriority().getValue() : 0;
             this.processingStartTime = Instant.now();
             this.completionFuture = new CompletableFuture<>();
             this.processedListeners = 0;
@@ -284,7 +457,8 @@ public class AsyncEventSystem implements AsyncPattern {
 
         // Getters
         public Event getEvent() { return event; }
-        public List<EventListenerWrapper> getListeners() { return new ArrayList<>(listeners); }
+        public List<EventListenerWrapper> getListeners() { return Collections.unmodifiableList(Arrays.asList(listeners)); }
+        public int getPriorityValue() { return priorityValue; }
         public Instant getProcessingStartTime() { return processingStartTime; }
         public CompletableFuture<Void> getCompletionFuture() { return completionFuture; }
         public int getProcessedListeners() { return processedListeners; }
@@ -297,16 +471,77 @@ public class AsyncEventSystem implements AsyncPattern {
         void completeExceptionally(Throwable throwable) { completionFuture.completeExceptionally(throwable); }
     }
 
+    /**
+     * Resolved listeners of one concrete event class, in dispatch order
+     */
+    private static final class DispatchTable {
+        private final EventListenerWrapper[] listeners;
+        private final boolean syncOnly;
+
+        DispatchTable(EventListenerWrapper[] listeners) {
+            this.listeners = listeners;
+            boolean anyAsync = false;
+            for (EventListenerWrapper listener : listeners) {
+                anyAsync |= listener.isAsync();
+            }
+            this.syncOnly = !anyAsync;
+        }
+    }
+
+    /**
+     * Coalesced event waiting for its window to close
+     */
+    private static class PendingCoalescedEvent {
+        private Event event;
+        private final CompletableFuture<Event> dispatched;
+
+        PendingCoalescedEvent(Event event) {
+            this.event = event;
+            this.dispatched = new CompletableFuture<>();
+        }
+
+        // Called inside the coalescing map's compute, which serializes merges per key
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        void merge(Event newer) {
+            Event merged = ((CoalescibleEvent) event).coalesce(newer);
+            if (merged != event) {
+                event.setState(EventState.COALESCED);
+            }
+            if (merged != newer) {
+                newer.setState(EventState.COALESCED);
+            }
+            event = merged;
+        }
+    }
+
     // Core components
-    private final PriorityBlockingQueue<EventContext> eventQueue;
+    private final BoundedEventQueue eventQueue;
     private final ThreadPoolExecutor eventProcessingExecutor;
     private final ThreadPoolExecutor listenerExecutor;
     private final ScheduledExecutorService scheduledExecutor;
     private final EventStatistics statistics;
     
     // Event listener management
-    private final Map<Class<? extends Event>, List<EventListenerWrapper>> eventListeners;
+    private static final EventListenerWrapper[] NO_LISTENERS = new EventListenerWrapper[0];
+    private static final DispatchTable NO_DISPATCH = new DispatchTable(NO_LISTENERS);
+    private static final Comparator<EventListenerWrapper> LISTENER_ORDER =
+        Comparator.comparing(EventListenerWrapper::getPriority, Comparator.comparing(EventPriority::getValue))
+                  .reversed();
+    // Declared listeners per event type; arrays are replaced, never mutated, under registrationLock
+    private final Map<Class<? extends Event>, EventListenerWrapper[]> eventListeners;
     private final Map<String, EventListenerWrapper> listenerRegistry;
+    private final Object registrationLock;
+    // Resolved dispatch order per concrete event class; swapped for an empty map on every change
+    private volatile Map<Class<?>, DispatchTable> dispatchTables;
+    
+    // Ordered firing: completion of the last event fired under each ordering key
+    private final Map<Object, CompletableFuture<Void>> orderingTails;
+    
+    // Coalescing: pending event per (event class, coalescing key)
+    private final Map<Map.Entry<Class<?>, Object>, PendingCoalescedEvent> coalescingEvents;
+    
+    // Publishes local cluster-wide events to the other proxies, when attached
+    private volatile ClusterEventTransport clusterTransport;
     
     // Configuration
     private final EventSystemConfiguration config;
@@ -316,11 +551,8 @@ public class AsyncEventSystem implements AsyncPattern {
     public AsyncEventSystem(EventSystemConfiguration config) {
         this.config = config;
         
-        // Initialize event queue with priority comparator
-        this.eventQueue = new PriorityBlockingQueue<>(1000, 
-            Comparator.comparing((EventContext ctx) -> ctx.getListeners().get(0).getPriority().getValue())
-                     .reversed()
-                     .thenComparing(ctx -> ctx.getEvent().getCreatedTime()));
+        // Initialize bounded per-priority event queue
+        this.eventQueue = new BoundedEventQueue(config);
         
         // Initialize thread pools
         this.eventProcessingExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(
@@ -333,6 +565,10 @@ public class AsyncEventSystem implements AsyncPattern {
         this.statistics = new EventStatistics();
         this.eventListeners = new ConcurrentHashMap<>();
         this.listenerRegistry = new ConcurrentHashMap<>();
+        this.registrationLock = new Object();
+        this.dispatchTables = new ConcurrentHashMap<>();
+        this.orderingTails = new ConcurrentHashMap<>();
+        this.coalescingEvents = new ConcurrentHashMap<>();
         
         this.initialized = false;
         this.processing = false;
@@ -342,7 +578,8 @@ public class AsyncEventSystem implements AsyncPattern {
     public CompletableFuture<Boolean> initializeAsync() {
         return CompletableFuture.supplyAsync(() -> {
             try {
-                // Start event processing
+                // Start event processing; the workers loop while processing is set
+                this.processing = true;
                 startEventProcessing();
                 
                 // Start monitoring
@@ -350,7 +587,6 @@ public class AsyncEventSystem implements AsyncPattern {
                 startStatisticsCollection();
                 
                 this.initialized = true;
-                this.processing = true;
                 
                 statistics.setMetric("initialization_time", Instant.now());
                 statistics.setMetric("event_processing_threads", config.getEventProcessingThreads());
@@ -389,11 +625,18 @@ public class AsyncEventSystem implements AsyncPattern {
     public CompletableFuture<Boolean> shutdownAsync() {
         return CompletableFuture.supplyAsync(() -> {
             try {
+                // Dispatch coalesced events without waiting out their windows
+                flushCoalescedEvents();
+                
                 processing = false;
                 initialized = false;
                 
-                // Process remaining events with timeout
+                // Process remaining events with timeout, then fail whatever is left
                 processRemainingEvents();
+                for (EventContext context : eventQueue.drain()) {
+                    failContext(context, new RejectedExecutionException("Event system shut down"));
+                }
+                flushBatchListeners(listenerRegistry.values());
                 
                 // Shutdown executors
                 eventProcessingExecutor.shutdown();
@@ -438,22 +681,31 @@ public class AsyncEventSystem implements AsyncPattern {
                 Class<?> listenerClass = listener.getClass();
                 Method[] methods = listenerClass.getMethods();
                 
+                List<EventListenerWrapper> wrappers = new ArrayList<>();
                 for (Method method : methods) {
                     EventListener annotation = method.getAnnotation(EventListener.class);
                     if (annotation != null) {
-                        EventListenerWrapper wrapper = new EventListenerWrapper(listener, method, annotation);
-                        
-                        // Register listener
-                        eventListeners.computeIfAbsent(wrapper.getEventType(), k -> new ArrayList<>())
-                                     .add(wrapper);
+                        wrappers.add(new EventListenerWrapper(listener, method, annotation));
+                    }
+                    BatchEventListener batchAnnotation = method.getAnnotation(BatchEventListener.class);
+                    if (batchAnnotation != null) {
+                        EventBatcher batcher = new EventBatcher(
+                            listener, method, batchAnnotation, listenerExecutor, scheduledExecutor);
+                        wrappers.add(new EventListenerWrapper(listener, method, batchAnnotation, batcher));
+                    }
+                }
+                
+                synchronized (registrationLock) {
+                    for (EventListenerWrapper wrapper : wrappers) {
+                        EventListenerWrapper[] current = eventListeners.getOrDefault(
+                            wrapper.getEventType(), NO_LISTENERS);
+                        EventListenerWrapper[] updated = Arrays.copyOf(current, current.length + 1);
+                        updated[current.length] = wrapper;
+                        Arrays.sort(updated, LISTENER_ORDER);
+                        eventListeners.put(wrapper.getEventType(), updated);
                         listenerRegistry.put(wrapper.getListenerId(), wrapper);
-                        
-                        // Sort listeners by priority
-                        eventListeners.get(wrapper.getEventType())
-                                     .sort(Comparator.comparing(EventListenerWrapper::getPriority, 
-                                                              Comparator.comparing(EventPriority::getValue))
-                                                     .reversed());
                     }
+                    invalidateDispatchTables();
                 }
                 
                 statistics.setMetric("registered_listeners", listenerRegistry.size());
@@ -471,24 +723,30 @@ public class AsyncEventSystem implements AsyncPattern {
     public CompletableFuture<Boolean> unregisterListenerAsync(Object listener) {
         return CompletableFuture.supplyAsync(() -> {
             try {
-                List<String> toRemove = new ArrayList<>();
-                
-                for (Map.Entry<String, EventListenerWrapper> entry : listenerRegistry.entrySet()) {
-                    if (entry.getValue().getListener() == listener) {
-                        toRemove.add(entry.getKey());
+                List<EventListenerWrapper> removed = new ArrayList<>();
+                synchronized (registrationLock) {
+                    List<String> toRemove = new ArrayList<>();
+                    
+                    for (Map.Entry<String, EventListenerWrapper> entry : listenerRegistry.entrySet()) {
+                        if (entry.getValue().getListener() == listener) {
+                            toRemove.add(entry.getKey());
+                        }
                     }
-                }
-                
-                for (String listenerId : toRemove) {
-                    EventListenerWrapper wrapper = listenerRegistry.remove(listenerId);
-                    if (wrapper != null) {
-                        List<EventListenerWrapper> listeners = eventListeners.get(wrapper.getEventType());
-                        if (listeners != null) {
-                            listeners.remove(wrapper);
+                    
+                    for (String listenerId : toRemove) {
+                        EventListenerWrapper wrapper = listenerRegistry.remove(listenerId);
+                        if (wrapper != null) {
+                            removeDeclaredListener(wrapper);
+                            statistics.removeListenerExecutionCount(listenerId);
+                            removed.add(wrapper);
                         }
                     }
+                    invalidateDispatchTables();
                 }
                 
+                // Hand partial batches to the listener before it goes away
+                flushBatchListeners(removed);
+                
                 statistics.setMetric("registered_listeners", listenerRegistry.size());
                 return true;
             } catch (Exception e) {
@@ -500,55 +758,325 @@ public class AsyncEventSystem implements AsyncPattern {
 
     /**
      * Fire event asynchronously
+     *
+     * Completes once the event is queued, or once its listeners have run if it was
+     * dispatched inline. Fails if the event system is not processing or
+     * the event is turned away by the overflow policy. A cluster-wide event that was
+     * accepted locally is then published to the other proxies.
      */
     public CompletableFuture<Event> fireEventAsync(Event event) {
+        try {
+            Object coalescingKey = getCoalescingKey(event);
+            if (coalescingKey != null) {
+                coalesceEvent(event, coalescingKey);
+            } else {
+                enqueueEvent(event);
+            }
+            forwardToCluster(event);
+            return CompletableFuture.completedFuture(event);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Fire event and wait for completion
+     *
+     * Completes once every local listener, including async ones, has run. A coalesced
+     * event completes with the merged event that was actually dispatched. Remote
+     * listeners are not waited for.
+     */
+    public CompletableFuture<Event> fireEventAndWaitAsync(Event event) {
+        Object coalescingKey = getCoalescingKey(event);
+        CompletableFuture<Event> completion;
+        if (coalescingKey != null) {
+            try {
+                completion = coalesceEvent(event, coalescingKey).dispatched;
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        } else {
+            completion = dispatchAndWait(event);
+            if (completion.isCompletedExceptionally()) {
+                // Turned away locally, so not published either
+                return completion;
+            }
+        }
+        forwardToCluster(event);
+        return completion;
+    }
+
+    /**
+     * Queue an event, bypassing coalescing, and complete once its listeners have run
+     */
+    private CompletableFuture<Event> dispatchAndWait(Event event) {
+        try {
+            EventContext context = enqueueEvent(event);
+            if (context == null) {
+                return CompletableFuture.completedFuture(event);
+            }
+            return context.getCompletionFuture().thenApply(ignored -> event);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Fire event after every earlier event with the same ordering key has completed
+     *
+     * Events sharing a key are processed one at a time, in the order they were fired,
+     * even with several processing threads and async listeners. Completes like
+     * {@link #fireEventAndWaitAsync}; a failed event does not hold back the next one.
+     */
+    public CompletableFuture<Event> fireEventOrderedAsync(Event event, Object orderingKey) {
+        CompletableFuture<Event> result = new CompletableFuture<>();
+        CompletableFuture<Void> done = result.handle((ignored, failure) -> null);
+        CompletableFuture<Void> previous = orderingTails.put(orderingKey, done);
+        
+        CompletableFuture<Event> fired = previous == null
+            ? fireEventAndWaitAsync(event)
+            // Fire off the completing thread, which may be a processing thread
+            : previous.thenComposeAsync(ignored -> fireEventAndWaitAsync(event));
+        fired.whenComplete((firedEvent, failure) -> {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(firedEvent);
+            }
+        });
+        
+        done.thenRun(() -> orderingTails.remove(orderingKey, done));
+        return result;
+    }
+
+    /**
+     * Internal Processing Methods
+     */
+
+    /**
+     * Attach the transport that publishes cluster-wide events, or detach it with null
+     */
+    void setClusterTransport(ClusterEventTransport clusterTransport) {
+        this.clusterTransport = clusterTransport;
+    }
+
+    /**
+     * Publish a locally fired event to the other proxies
+     *
+     * Events received from another proxy are never published again, so an event cannot
+     * loop between proxies.
+     */
+    private void forwardToCluster(Event event) {
+        ClusterEventTransport transport = clusterTransport;
+        if (transport != null && !event.isRemote()) {
+            transport.publish(event);
+        }
+    }
+
+    /**
+     * Coalescing key of an event, or null if it is dispatched on its own
+     */
+    private Object getCoalescingKey(Event event) {
+        if (!(event instanceof CoalescibleEvent) || config.getCoalescingWindowMillis() <= 0) {
+            return null;
+        }
+        return ((CoalescibleEvent<?>) event).getCoalescingKey();
+    }
+
+    /**
+     * Merge an event into the pending event for its key, opening a window if there is none
+     */
+    private PendingCoalescedEvent coalesceEvent(Event event, Object coalescingKey) {
         if (!processing) {
-            return CompletableFuture.failedFuture(
-                new IllegalStateException("Event system is not processing events"));
+            throw new IllegalStateException("Event system is not processing events");
         }
         
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // Get listeners for event type
-                List<EventListenerWrapper> listeners = getListenersForEvent(event);
-                
-                if (listeners.isEmpty()) {
-                    event.setState(EventState.COMPLETED);
-                    return event;
-                }
-                
-                // Create event context
-                EventContext context = new EventContext(event, listeners);
-                event.setState(EventState.QUEUED);
-                
-                // Add to processing queue
-                eventQueue.offer(context);
-                statistics.incrementEventTypeCount(event.getClass());
-                
-                return event;
-            } catch (Exception e) {
-                event.setState(EventState.FAILED);
-                event.setMetadata("error", e.getMessage());
-                statistics.incrementEventsFailed();
-                throw new RuntimeException("Failed to fire event", e);
+        Map.Entry<Class<?>, Object> slot = Map.entry(event.getClass(), coalescingKey);
+        boolean[] opened = new boolean[1];
+        PendingCoalescedEvent pending = coalescingEvents.compute(slot, (key, current) -> {
+            if (current == null) {
+                opened[0] = true;
+                return new PendingCoalescedEvent(event);
             }
+            current.merge(event);
+            return current;
         });
+        
+        if (opened[0]) {
+            event.setState(EventState.QUEUED);
+            scheduledExecutor.schedule(() -> dispatchCoalesced(slot, pending),
+                config.getCoalescingWindowMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            statistics.incrementEventsCoalesced();
+        }
+        return pending;
     }
 
     /**
-     * Fire event and wait for completion
+     * Close a coalescing window and dispatch its merged event
      */
-    public CompletableFuture<Event> fireEventAndWaitAsync(Event event) {
-        return fireEventAsync(event)
-            .thenCompose(firedEvent -> {
-                // Find the event context and wait for completion
-                return waitForEventCompletion(firedEvent);
-            });
+    private void dispatchCoalesced(Map.Entry<Class<?>, Object> slot, PendingCoalescedEvent pending) {
+        // Removal is atomic with merges, so no event can join after this point
+        if (!coalescingEvents.remove(slot, pending)) {
+            return;
+        }
+        dispatchAndWait(pending.event).whenComplete((event, failure) -> {
+            if (failure != null) {
+                pending.dispatched.completeExceptionally(failure);
+            } else {
+                pending.dispatched.complete(event);
+            }
+        });
     }
 
     /**
-     * Internal Processing Methods
+     * Dispatch every pending coalesced event now
      */
+    private void flushCoalescedEvents() {
+        for (Map.Entry<Map.Entry<Class<?>, Object>, PendingCoalescedEvent> entry : coalescingEvents.entrySet()) {
+            dispatchCoalesced(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Deliver partial batches of the given batch listeners and wait briefly for them
+     */
+    private void flushBatchListeners(Collection<EventListenerWrapper> wrappers) {
+        List<CompletableFuture<Void>> flushes = new ArrayList<>();
+        for (EventListenerWrapper wrapper : wrappers) {
+            if (wrapper.getInvoker() instanceof EventBatcher) {
+                flushes.add(((EventBatcher) wrapper.getInvoker()).flush());
+            }
+        }
+        if (flushes.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(flushes.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            statistics.setMetric("batch_flush_error", String.valueOf(e.getMessage()));
+        }
+    }
+
+    /**
+     * Queue an event for processing, applying the overflow policy when its lane is full
+     *
+     * In INLINE_SYNC mode an event whose listeners are all synchronous is processed
+     * right here instead, and its context is already complete on return. Returns null
+     * when the event has no listeners and is already complete.
+     */
+    private EventContext enqueueEvent(Event event) {
+        if (!processing) {
+            throw new IllegalStateException("Event system is not processing events");
+        }
+        
+        // Get listeners for event type
+        DispatchTable table = getDispatchTable(event);
+        if (table.listeners.length == 0) {
+            event.setState(EventState.COMPLETED);
+            return null;
+        }
+        
+        // Create event context
+        EventContext context = new EventContext(event, table.listeners);
+        
+        if (table.syncOnly && config.getDispatchMode() == DispatchMode.INLINE_SYNC) {
+            // No queue, no processing thread, no listener futures
+            statistics.incrementEventTypeCount(event.getClass());
+            statistics.incrementEventsDispatchedInline();
+            processEventContext(context);
+            return context;
+        }
+        
+        event.setState(EventState.QUEUED);
+        
+        Admission admission = admitContext(context);
+        if (admission == Admission.REJECTED) {
+            RejectedExecutionException rejection = new RejectedExecutionException(
+                "Event queue full for " + event.getClass().getSimpleName());
+            event.setState(EventState.FAILED);
+            event.setMetadata("error", rejection.getMessage());
+            statistics.incrementEventsRejected();
+            context.completeExceptionally(rejection);
+            throw rejection;
+        }
+        statistics.incrementEventTypeCount(event.getClass());
+        if (admission == Admission.QUEUED) {
+            // Caller-run events are counted as run on caller instead
+            statistics.incrementEventsDispatchedQueued();
+        }
+        return context;
+    }
+
+    /**
+     * How admitContext handled a context
+     */
+    private enum Admission {
+        QUEUED,
+        RAN_ON_CALLER,
+        REJECTED
+    }
+
+    /**
+     * Hand a context to the queue (or the caller) according to the overflow policy
+     *
+     * Events from other proxies are fired on the cluster subscriber thread, so for them
+     * BLOCK and CALLER_RUNS fall back to REJECT.
+     */
+    private Admission admitContext(EventContext context) {
+        OverflowPolicy policy = config.getOverflowPolicy();
+        if (context.getEvent().isRemote()
+            && (policy == OverflowPolicy.BLOCK || policy == OverflowPolicy.CALLER_RUNS)) {
+            policy = OverflowPolicy.REJECT;
+        }
+        switch (policy) {
+            case DROP_OLDEST:
+                List<EventContext> evicted = eventQueue.offerEvictingOldest(context);
+                if (evicted == null) {
+                    return Admission.REJECTED;
+                }
+                for (EventContext dropped : evicted) {
+                    statistics.incrementEventsDropped();
+                    failContext(dropped, new RejectedExecutionException(
+                        "Event dropped from full queue for " + dropped.getEvent().getClass().getSimpleName()));
+                }
+                return Admission.QUEUED;
+                
+            case CALLER_RUNS:
+                if (eventQueue.tryOffer(context)) {
+                    return Admission.QUEUED;
+                }
+                statistics.incrementEventsRunOnCaller();
+                processEventContext(context);
+                return Admission.RAN_ON_CALLER;
+                
+            case BLOCK:
+                try {
+                    return eventQueue.offer(context, config.getOverflowWaitMillis(), TimeUnit.MILLISECONDS)
+                        ? Admission.QUEUED : Admission.REJECTED;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return Admission.REJECTED;
+                }
+                
+            case REJECT:
+            default:
+                return eventQueue.tryOffer(context) ? Admission.QUEUED : Admission.REJECTED;
+        }
+    }
+
+    /**
+     * Fail a queued context that will never be processed
+     */
+    private void failContext(EventContext context, Throwable cause) {
+        Event event = context.getEvent();
+        event.setState(EventState.FAILED);
+        event.setMetadata("error", cause.getMessage());
+        statistics.incrementEventsFailed();
+        context.completeExceptionally(cause);
+    }
 
     /**
      * Start event processing
@@ -584,35 +1112,35 @@ public class AsyncEventSystem implements AsyncPattern {
         long startTime = System.nanoTime();
         
         try {
-            List<CompletableFuture<Void>> listenerFutures = new ArrayList<>();
+            List<CompletableFuture<Void>> listenerFutures = null;
             
-            for (EventListenerWrapper listener : context.getListeners()) {
+            for (EventListenerWrapper listener : context.listeners) {
                 // Check if event is cancelled and listener should ignore cancelled events
                 if (event.isCancelled() && !listener.isIgnoreCancelled()) {
                     continue;
                 }
                 
-                CompletableFuture<Void> listenerFuture = executeListener(listener, event, context);
-                listenerFutures.add(listenerFuture);
+                if (!listener.isAsync()) {
+                    // Synchronous listeners run right here, in order, with no future
+                    executeListener(listener, event, context);
+                    continue;
+                }
+                
+                if (listenerFutures == null) {
+                    listenerFutures = new ArrayList<>();
+                }
+                listenerFutures.add(CompletableFuture.runAsync(
+                    () -> executeListener(listener, event, context), listenerExecutor));
+            }
+            
+            if (listenerFutures == null) {
+                completeEventContext(context, startTime);
+                return;
             }
             
-            // Wait for all listeners to complete
+            // Wait for async listeners to complete
             CompletableFuture.allOf(listenerFutures.toArray(new CompletableFuture[0]))
-                .thenRun(() -> {
-                    // Update statistics
-                    long processingTime = (System.nanoTime() - startTime) / 1_000_000; // Convert to ms
-                    statistics.updateAverageProcessingTime(processingTime);
-                    statistics.incrementEventsProcessed();
-                    
-                    // Update event state
-                    if (event.isCancelled()) {
-                        statistics.incrementEventsCancelled();
-                    } else {
-                        event.setState(EventState.COMPLETED);
-                    }
-                    
-                    context.complete();
-                })
+                .thenRun(() -> completeEventContext(context, startTime))
                 .exceptionally(throwable -> {
                     event.setState(EventState.FAILED);
                     event.setMetadata("processing_error", throwable.getMessage());
@@ -621,72 +1149,127 @@ public class AsyncEventSystem implements AsyncPattern {
                     return null;
                 });
                 
-        } catch (Exception e) {
+        } catch (Throwable t) {
+            // Also covers errors thrown by synchronous listeners running inline
             event.setState(EventState.FAILED);
-            event.setMetadata("processing_error", e.getMessage());
+            event.setMetadata("processing_error", t.getMessage());
             statistics.incrementEventsFailed();
-            context.completeExceptionally(e);
+            context.completeExceptionally(t);
+        }
+    }
+
+    /**
+     * Record completion of an event once all of its listeners have run
+     */
+    private void completeEventContext(EventContext context, long startTime) {
+        Event event = context.getEvent();
+        
+        // Update statistics
+        statistics.recordProcessingTime(event.getClass(), System.nanoTime() - startTime);
+        statistics.incrementEventsProcessed();
+        
+        // Update event state
+        if (event.isCancelled()) {
+            statistics.incrementEventsCancelled();
+        } else {
+            event.setState(EventState.COMPLETED);
         }
+        
+        context.complete();
     }
 
     /**
-     * Execute individual listener
+     * Execute individual listener on the calling thread
      */
-    private CompletableFuture<Void> executeListener(EventListenerWrapper listener, Event event, EventContext context) {
-        Executor executor = listener.isAsync() ? listenerExecutor : Runnable::run;
+    private void executeListener(EventListenerWrapper listener, Event event, EventContext context) {
+        long startTime = System.nanoTime();
         
-        return CompletableFuture.runAsync(() -> {
-            long startTime = System.nanoTime();
+        try {
+            listener.getInvoker().invoke(event);
+            context.incrementProcessedListeners();
             
-            try {
-                listener.getMethod().invoke(listener.getListener(), event);
-                
-                long executionTime = (System.nanoTime() - startTime) / 1_000_000; // Convert to ms
-                listener.recordExecution(executionTime);
-                statistics.incrementListenerExecutionCount(listener.getListenerId());
-                context.incrementProcessedListeners();
-                
-            } catch (Exception e) {
-                context.incrementFailedListeners();
-                // Log listener execution error but don't fail the entire event
-                event.setMetadata("listener_error_" + listener.getListenerId(), e.getMessage());
-            }
-        }, executor);
+        } catch (Exception e) {
+            context.incrementFailedListeners();
+            // Log listener execution error but don't fail the entire event
+            event.setMetadata("listener_error_" + listener.getListenerId(), e.getMessage());
+        }
+        
+        // Failed executions count too; a listener that stalls and then throws is still slow
+        listener.recordExecution(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Get listeners for specific event type, in dispatch order
+     *
+     * The returned array is shared and must not be modified.
+     */
+    EventListenerWrapper[] getListenersForEvent(Event event) {
+        return getDispatchTable(event).listeners;
+    }
+
+    /**
+     * Get the resolved dispatch table for an event's class
+     */
+    private DispatchTable getDispatchTable(Event event) {
+        // Read the table map before the listener map; see invalidateDispatchTables
+        Map<Class<?>, DispatchTable> tables = dispatchTables;
+        DispatchTable table = tables.get(event.getClass());
+        if (table == null) {
+            table = tables.computeIfAbsent(event.getClass(), this::resolveDispatchTable);
+        }
+        return table;
     }
 
     /**
-     * Get listeners for specific event type
+     * Collect listeners declared on an event class and its superclasses, sorted by priority
      */
-    private List<EventListenerWrapper> getListenersForEvent(Event event) {
+    private DispatchTable resolveDispatchTable(Class<?> eventClass) {
         List<EventListenerWrapper> result = new ArrayList<>();
         
-        Class<?> eventClass = event.getClass();
-        while (eventClass != null && Event.class.isAssignableFrom(eventClass)) {
-            @SuppressWarnings("unchecked")
-            Class<? extends Event> eventType = (Class<? extends Event>) eventClass;
-            
-            List<EventListenerWrapper> listeners = eventListeners.get(eventType);
-            if (listeners != null) {
-                result.addAll(listeners);
+        Class<?> type = eventClass;
+        while (type != null && Event.class.isAssignableFrom(type)) {
+            EventListenerWrapper[] declared = eventListeners.get(type);
+            if (declared != null) {
+                result.addAll(Arrays.asList(declared));
             }
-            
-            eventClass = eventClass.getSuperclass();
+            type = type.getSuperclass();
         }
         
-        // Sort by priority
-        result.sort(Comparator.comparing(EventListenerWrapper::getPriority, 
-                                       Comparator.comparing(EventPriority::getValue))
-                              .reversed());
-        
-        return result;
+        if (result.isEmpty()) {
+            return NO_DISPATCH;
+        }
+        // Stable sort keeps subclass listeners ahead of superclass ones within a priority
+        EventListenerWrapper[] table = result.toArray(new EventListenerWrapper[0]);
+        Arrays.sort(table, LISTENER_ORDER);
+        return new DispatchTable(table);
+    }
+
+    /**
+     * Drop a listener from its declared type (caller holds registrationLock)
+     */
+    private void removeDeclaredListener(EventListenerWrapper wrapper) {
+        EventListenerWrapper[] current = eventListeners.get(wrapper.getEventType());
+        if (current == null) {
+            return;
+        }
+        List<EventListenerWrapper> remaining = new ArrayList<>(Arrays.asList(current));
+        remaining.remove(wrapper);
+        if (remaining.isEmpty()) {
+            eventListeners.remove(wrapper.getEventType());
+        } else {
+            eventListeners.put(wrapper.getEventType(), remaining.toArray(new EventListenerWrapper[0]));
+        }
     }
 
     /**
-     * Wait for event completion
+     * Discard resolved dispatch tables after a registration change (caller holds registrationLock)
+     *
+     * The listener map is always updated before the table map is swapped. A resolver that
+     * read the old table map can only publish into that old map, so a stale table is never
+     * visible after the swap.
      */
-    private CompletableFuture<Event> waitForEventCompletion(Event event) {
-        // Implementation would track event contexts and wait for completion
-        return CompletableFuture.completedFuture(event);
+    private void invalidateDispatchTables() {
+        dispatchTables = new ConcurrentHashMap<>();
     }
 
     /**
@@ -720,8 +1303,34 @@ public class AsyncEventSystem implements AsyncPattern {
      */
     private void updatePerformanceMetrics() {
         statistics.setMetric("queue_size", eventQueue.size());
+        statistics.setMetric("queue_lane_sizes", eventQueue.laneSizes());
+        statistics.setMetric("events_rejected", statistics.getTotalEventsRejected());
+        statistics.setMetric("events_dropped", statistics.getTotalEventsDropped());
+        statistics.setMetric("events_run_on_caller", statistics.getTotalEventsRunOnCaller());
+        statistics.setMetric("events_coalesced", statistics.getTotalEventsCoalesced());
+        statistics.setMetric("events_dispatched_inline", statistics.getTotalEventsDispatchedInline());
+        statistics.setMetric("events_dispatched_queued", statistics.getTotalEventsDispatchedQueued());
+        statistics.setMetric("inline_dispatch_ratio", statistics.getInlineDispatchRatio());
+        statistics.setMetric("coalescing_pending", coalescingEvents.size());
         statistics.setMetric("active_processing_threads", eventProcessingExecutor.getActiveCount());
         statistics.setMetric("active_listener_threads", listenerExecutor.getActiveCount());
+        
+        // Interval latency: processing rate, then per-listener tails
+        LatencyHistogram.Snapshot processing = statistics.getProcessingLatency().intervalSnapshot();
+        statistics.updatePeakEventsPerSecond((long) processing.getRatePerSecond());
+        statistics.setMetric("processing_latency_interval", processing.toMap());
+        
+        long slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(config.getSlowListenerThresholdMillis());
+        Map<String, Object> slowListeners = new HashMap<>();
+        for (EventListenerWrapper listener : listenerRegistry.values()) {
+            LatencyHistogram.Snapshot interval = listener.getLatency().intervalSnapshot();
+            listener.updateInterval(interval, slowThresholdNanos);
+            statistics.setListenerExecutionCount(listener.getListenerId(), listener.getExecutionCount());
+            if (listener.isSlow()) {
+                slowListeners.put(listener.getListenerId(), interval.toMap());
+            }
+        }
+        statistics.setMetric("slow_listeners", slowListeners);
     }
 
     /**
@@ -785,10 +1394,16 @@ public class AsyncEventSystem implements AsyncPattern {
             status.put("initialized", initialized);
             status.put("processing", processing);
             status.put("queue_size", eventQueue.size());
+            status.put("dispatch_mode", config.getDispatchMode());
             status.put("registered_listeners", listenerRegistry.size());
             status.put("event_types", eventListeners.size());
             status.put("statistics", statistics.getMetrics());
             status.put("listener_performance", getListenerPerformanceMetrics());
+            status.put("event_type_latency", getEventTypeLatencyMetrics());
+            ClusterEventTransport transport = clusterTransport;
+            if (transport != null) {
+                status.put("cluster_transport", transport.getStatus());
+            }
             
             return status;
         });
@@ -807,6 +1422,18 @@ public class AsyncEventSystem implements AsyncPattern {
             listenerMetrics.put("last_execution_time", listener.getLastExecutionTime());
             listenerMetrics.put("priority", listener.getPriority());
             listenerMetrics.put("async", listener.isAsync());
+            listenerMetrics.put("latency", listener.getLatency().snapshot().toMap());
+            listenerMetrics.put("slow", listener.isSlow());
+            if (listener.getLastInterval() != null) {
+                listenerMetrics.put("latency_interval", listener.getLastInterval().toMap());
+            }
+            if (listener.getInvoker() instanceof EventBatcher) {
+                EventBatcher batcher = (EventBatcher) listener.getInvoker();
+                listenerMetrics.put("batches_delivered", batcher.getDeliveredBatches());
+                listenerMetrics.put("batch_events_delivered", batcher.getDeliveredEvents());
+                listenerMetrics.put("batches_failed", batcher.getFailedBatches());
+                listenerMetrics.put("last_batch_error", batcher.getLastError());
+            }
             
             performance.put(listener.getListenerId(), listenerMetrics);
         }
@@ -814,6 +1441,17 @@ public class AsyncEventSystem implements AsyncPattern {
         return performance;
     }
 
+    /**
+     * Get processing latency per event type
+     */
+    private Map<String, Object> getEventTypeLatencyMetrics() {
+        Map<String, Object> latency = new HashMap<>();
+        for (Map.Entry<Class<? extends Event>, LatencyHistogram> entry : statistics.getEventTypeLatency().entrySet()) {
+            latency.put(entry.getKey().getSimpleName(), entry.getValue().snapshot().toMap());
+        }
+        return latency;
+    }
+
     // Getters
     public EventStatistics getStatistics() { return statistics; }
     public boolean isInitialized() { return initialized; }
@@ -827,7 +1465,14 @@ public class AsyncEventSystem implements AsyncPattern {
     public static class EventSystemConfiguration {
         private int eventProcessingThreads = 8;
         private int listenerExecutionThreads = 16;
-        private int maxQueueSize = 10000;
+        private int maxQueueSize = 10000;       // Capacity of each priority lane
+        private OverflowPolicy overflowPolicy = OverflowPolicy.REJECT;
+        private DispatchMode dispatchMode = DispatchMode.QUEUED;
+        private long overflowWaitMillis = 1000;    // BLOCK only
+        private int defaultEventTypeQuota = 5000;
+        private final Map<Class<? extends Event>, Integer> eventTypeQuotas = new ConcurrentHashMap<>();
+        private long coalescingWindowMillis = 50;    // 0 disables coalescing
+        private long slowListenerThresholdMillis = 50;  // Interval p99 above this flags a listener
         private boolean enablePerformanceMonitoring = true;
         private boolean enableEventPersistence = false;
 
@@ -842,6 +1487,24 @@ public class AsyncEventSystem implements AsyncPattern {
         }
         public int getMaxQueueSize() { return maxQueueSize; }
         public void setMaxQueueSize(int maxQueueSize) { this.maxQueueSize = maxQueueSize; }
+        public OverflowPolicy getOverflowPolicy() { return overflowPolicy; }
+        public void setOverflowPolicy(OverflowPolicy overflowPolicy) { this.overflowPolicy = overflowPolicy; }
+        public DispatchMode getDispatchMode() { return dispatchMode; }
+        public void setDispatchMode(DispatchMode dispatchMode) { this.dispatchMode = dispatchMode; }
+        public long getOverflowWaitMillis() { return overflowWaitMillis; }
+        public void setOverflowWaitMillis(long overflowWaitMillis) { this.overflowWaitMillis = overflowWaitMillis; }
+        public int getDefaultEventTypeQuota() { return defaultEventTypeQuota; }
+        public void setDefaultEventTypeQuota(int defaultEventTypeQuota) { this.defaultEventTypeQuota = defaultEventTypeQuota; }
+        public int getEventTypeQuota(Class<?> eventType) {
+            Integer quota = eventTypeQuotas.get(eventType);
+            return quota != null ? quota : defaultEventTypeQuota;
+        }
+        public void setEventTypeQuota(Class<? extends Event> eventType, int quota) { eventTypeQuotas.put(eventType, quota); }
+        public Map<Class<? extends Event>, Integer> getEventTypeQuotas() { return new HashMap<>(eventTypeQuotas); }
+        public long getCoalescingWindowMillis() { return coalescingWindowMillis; }
+        public void setCoalescingWindowMillis(long coalescingWindowMillis) { this.coalescingWindowMillis = coalescingWindowMillis; }
+        public long getSlowListenerThresholdMillis() { return slowListenerThresholdMillis; }
+        public void setSlowListenerThresholdMillis(long slowListenerThresholdMillis) { this.slowListenerThresholdMillis = slowListenerThresholdMillis; }
         public boolean isEnablePerformanceMonitoring() { return enablePerformanceMonitoring; }
         public void setEnablePerformanceMonitoring(boolean enablePerformanceMonitoring) { 
             this.enablePerformanceMonitoring = enablePerformanceMonitoring; 
@@ -0,0 +1,266 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Bounded Event Queue
+ * Per-priority event lanes with capacity limits and per-event-type quotas
+ */
+
+package org.veloctopus.events.system;
+
+import org.veloctopus.events.system.AsyncEventSystem.EventContext;
+import org.veloctopus.events.system.AsyncEventSystem.EventPriority;
+import org.veloctopus.events.system.AsyncEventSystem.EventSystemConfiguration;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded Event Queue
+ *
+ * Holds event contexts waiting for a processing thread:
+ * - One FIFO lane per {@link EventPriority}. Each lane is bounded by the configured
+ *   max queue size, so a full low-priority lane never blocks a higher one.
+ * - Each event class may hold at most its configured quota of slots. A flood of one
+ *   event type cannot take a lane away from the other types in it.
+ * - {@link #poll} always takes from the highest non-empty lane.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+final class BoundedEventQueue {
+
+    private static final int LANES = EventPriority.values().length;
+
+    private final ArrayDeque<EventContext>[] lanes;
+    private final EventSystemConfiguration config;
+    private final Map<Class<?>, int[]> queuedByType;
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+    private int size;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    BoundedEventQueue(EventSystemConfiguration config) {
+        this.config = config;
+        this.lanes = new ArrayDeque[LANES];
+        for (int i = 0; i < LANES; i++) {
+            lanes[i] = new ArrayDeque<>();
+        }
+        this.queuedByType = new HashMap<>();
+        this.lock = new ReentrantLock();
+        this.notEmpty = lock.newCondition();
+        this.notFull = lock.newCondition();
+    }
+
+    /**
+     * Queue a context if its lane and event type both have room
+     */
+    boolean tryOffer(EventContext context) {
+        lock.lock();
+        try {
+            if (!hasRoom(context)) {
+                return false;
+            }
+            enqueue(context);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queue a context, waiting up to the timeout for room
+     */
+    boolean offer(EventContext context, long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (!hasRoom(context)) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(context);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Queue a context, evicting the oldest contexts in its way
+     *
+     * An event type at its quota loses its own oldest context; otherwise a full lane
+     * loses its head. The evicted contexts are returned so the caller can fail them
+     * outside the lock. Returns null if no eviction can make room, for example with a
+     * quota of zero.
+     */
+    List<EventContext> offerEvictingOldest(EventContext context) {
+        List<EventContext> evicted = List.of();
+        lock.lock();
+        try {
+            while (!hasRoom(context)) {
+                EventContext victim = typeCount(context) >= quotaFor(context)
+                    ? removeOldestOfType(context.getEvent().getClass())
+                    : removeHead(laneOf(context));
+                if (victim == null) {
+                    return null;
+                }
+                if (evicted.isEmpty()) {
+                    evicted = new ArrayList<>(1);
+                }
+                evicted.add(victim);
+            }
+            enqueue(context);
+            return evicted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Take the oldest context from the highest non-empty lane, waiting up to the timeout
+     */
+    EventContext poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            for (int lane = LANES - 1; lane >= 0; lane--) {
+                EventContext context = removeHead(lane);
+                if (context != null) {
+                    return context;
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove every queued context, highest priority first
+     */
+    List<EventContext> drain() {
+        lock.lock();
+        try {
+            List<EventContext> drained = new ArrayList<>(size);
+            for (int lane = LANES - 1; lane >= 0; lane--) {
+                EventContext context;
+                while ((context = removeHead(lane)) != null) {
+                    drained.add(context);
+                }
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Total queued contexts */
+    int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** Queued contexts per priority lane */
+    Map<EventPriority, Integer> laneSizes() {
+        Map<EventPriority, Integer> sizes = new HashMap<>();
+        lock.lock();
+        try {
+            for (EventPriority priority : EventPriority.values()) {
+                sizes.put(priority, lanes[priority.getValue()].size());
+            }
+        } finally {
+            lock.unlock();
+        }
+        return sizes;
+    }
+
+    // Internal lane management; callers hold the lock
+
+    private boolean hasRoom(EventContext context) {
+        return lanes[laneOf(context)].size() < config.getMaxQueueSize()
+            && typeCount(context) < quotaFor(context);
+    }
+
+    private void enqueue(EventContext context) {
+        lanes[laneOf(context)].addLast(context);
+        queuedByType.computeIfAbsent(context.getEvent().getClass(), type -> new int[1])[0]++;
+        size++;
+        notEmpty.signal();
+    }
+
+    private EventContext removeHead(int lane) {
+        EventContext context = lanes[lane].pollFirst();
+        if (context != null) {
+            removed(context);
+        }
+        return context;
+    }
+
+    private EventContext removeOldestOfType(Class<?> eventType) {
+        // Contexts of one event class share a lane unless listeners changed while queued
+        for (int lane = 0; lane < LANES; lane++) {
+            Iterator<EventContext> iterator = lanes[lane].iterator();
+            while (iterator.hasNext()) {
+                EventContext context = iterator.next();
+                if (context.getEvent().getClass() == eventType) {
+                    iterator.remove();
+                    removed(context);
+                    return context;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void removed(EventContext context) {
+        Class<?> eventType = context.getEvent().getClass();
+        int[] count = queuedByType.get(eventType);
+        if (count != null && --count[0] == 0) {
+            queuedByType.remove(eventType);
+        }
+        size--;
+        if (lock.hasWaiters(notFull)) {
+            // Waiters need room in different lanes or types, so wake them all to recheck
+            notFull.signalAll();
+        }
+    }
+
+    private int typeCount(EventContext context) {
+        int[] count = queuedByType.get(context.getEvent().getClass());
+        return count != null ? count[0] : 0;
+    }
+
+    private int quotaFor(EventContext context) {
+        return config.getEventTypeQuota(context.getEvent().getClass());
+    }
+
+    private static int laneOf(EventContext context) {
+        return Math.max(0, Math.min(LANES - 1, context.getPriorityValue()));
+    }
+}
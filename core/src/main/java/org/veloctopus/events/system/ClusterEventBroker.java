@@ -0,0 +1,36 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Cluster Event Broker
+ * Message channel between proxies used by the cluster event transport
+ */
+
+package org.veloctopus.events.system;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Cluster Event Broker
+ *
+ * Carries binary frames between proxies. Every proxy subscribed to a channel receives
+ * every frame published to it, including its own. The transport drops its own frames.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+public interface ClusterEventBroker {
+
+    /**
+     * Publish frames to a channel, in order, in as few round trips as the broker allows
+     */
+    CompletableFuture<Void> publishAsync(String channel, List<byte[]> frames);
+
+    /**
+     * Deliver every frame published to a channel until the returned handle is closed
+     */
+    AutoCloseable subscribe(String channel, Consumer<byte[]> receiver);
+}
@@ -0,0 +1,39 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Cluster Event Codec
+ * Binary encoding of cluster-wide events for the cross-proxy transport
+ */
+
+package org.veloctopus.events.system;
+
+import org.veloctopus.events.system.AsyncEventSystem.Event;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Cluster Event Codec
+ *
+ * Writes the fields of one cluster-wide event type and reads them back on the other
+ * proxies. The transport frames each payload with the event's type and ID, so a codec
+ * writes only the event's own fields. It should write them in a fixed order with the
+ * {@link DataOutput} primitives rather than as text.
+ *
+ * The event ID is not part of the payload. {@link #decode} receives it and must pass it
+ * to the event's {@code Event(String)} constructor, so the event keeps its ID on every
+ * proxy.
+ *
+ * @param <E> the event type
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+public interface ClusterEventCodec<E extends Event> {
+
+    void encode(E event, DataOutput out) throws IOException;
+
+    E decode(String eventId, DataInput in) throws IOException;
+}
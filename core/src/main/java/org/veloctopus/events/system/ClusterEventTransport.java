@@ -0,0 +1,575 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Cluster Event Transport
+ * Delivers cluster-wide events between the AsyncEventSystems of several proxies
+ */
+
+package org.veloctopus.events.system;
+
+import org.veloctopus.events.system.AsyncEventSystem.ClusterWide;
+import org.veloctopus.events.system.AsyncEventSystem.Event;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cluster Event Transport
+ *
+ * Publishes cluster-wide events fired on this proxy and fires the ones published by
+ * the other proxies:
+ * - Local first: an event reaches the local queue before it is published, and only
+ *   events accepted locally are published
+ * - Events are encoded on the firing thread by their {@link ClusterEventCodec} and
+ *   packed into binary frames of up to maxBatchEvents events or maxFrameBytes bytes
+ * - A frame is flushed when it is full or flushIntervalMillis after its first event.
+ *   One publish is in flight at a time; events fired meanwhile go out in the next
+ *   flush, and several frames are published as one pipeline.
+ * - Loop suppression: frames from this proxy are dropped on receipt, and events
+ *   received from another proxy are never published again
+ * - Received events are deduplicated by origin proxy and event ID, so a publish retried
+ *   after a timeout cannot fire an event twice
+ * - Received events never wait for local queue room. An event the local queue turns
+ *   away is counted and lost rather than stalling the broker's subscriber thread.
+ *
+ * Frame layout, version 1:
+ * <pre>
+ * byte  version
+ * UTF   origin node ID
+ * int   event count
+ * then per event:
+ *   int   type ID (hash of the {@link ClusterWide} name)
+ *   UTF   event ID
+ *   int   payload length
+ *   byte[] payload written by the codec
+ * </pre>
+ * Events of a type this proxy has no codec for are skipped by length, so proxies can be
+ * upgraded one at a time.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+public class ClusterEventTransport {
+
+    static final int FRAME_VERSION = 1;
+
+    /**
+     * Codec bound to one cluster-wide event class
+     */
+    private static final class Registration {
+        private final int typeId;
+        private final String typeName;
+        private final ClusterEventCodec<Event> codec;
+
+        @SuppressWarnings("unchecked")
+        Registration(int typeId, String typeName, ClusterEventCodec<? extends Event> codec) {
+            this.typeId = typeId;
+            this.typeName = typeName;
+            this.codec = (ClusterEventCodec<Event>) codec;
+        }
+    }
+
+    /**
+     * Encoded event waiting for the next flush
+     */
+    private static final class OutboundEvent {
+        private final int typeId;
+        private final String eventId;
+        private final byte[] payload;
+
+        OutboundEvent(int typeId, String eventId, byte[] payload) {
+            this.typeId = typeId;
+            this.eventId = eventId;
+            this.payload = payload;
+        }
+
+        int frameBytes() {
+            // Type ID, UTF length prefix, ID (ASCII), payload length prefix, payload
+            return 4 + 2 + eventId.length() + 4 + payload.length;
+        }
+    }
+
+    private final AsyncEventSystem eventSystem;
+    private final ClusterEventBroker broker;
+    private final TransportConfiguration config;
+    private final ScheduledExecutorService flushScheduler;
+
+    // Codecs by concrete event class and by wire type ID
+    private final Map<Class<?>, Registration> registrationsByClass;
+    private final Map<Integer, Registration> registrationsByTypeId;
+
+    // Outbound batch, guarded by lock
+    private final Object lock;
+    private List<OutboundEvent> pending;
+    private int pendingBytes;
+    private ScheduledFuture<?> flushTask;
+    private boolean flushing;
+
+    // Recently received events by origin and ID, oldest first, guarded by itself
+    private final Map<String, Boolean> seenEvents;
+
+    private volatile AutoCloseable subscription;
+    private volatile boolean running;
+
+    // Metrics
+    private final AtomicLong eventsPublished;
+    private final AtomicLong framesPublished;
+    private final AtomicLong bytesPublished;
+    private final AtomicLong publishFailures;
+    private final AtomicLong eventsDroppedOutbound;
+    private final AtomicLong encodeErrors;
+    private final AtomicLong eventsReceived;
+    private final AtomicLong eventsRejectedInbound;
+    private final AtomicLong duplicatesDropped;
+    private final AtomicLong loopsSuppressed;
+    private final AtomicLong unknownTypes;
+    private final AtomicLong decodeErrors;
+
+    public ClusterEventTransport(AsyncEventSystem eventSystem, ClusterEventBroker broker,
+                                 TransportConfiguration config) {
+        this.eventSystem = eventSystem;
+        this.broker = broker;
+        this.config = config;
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cluster-event-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.registrationsByClass = new ConcurrentHashMap<>();
+        this.registrationsByTypeId = new ConcurrentHashMap<>();
+        this.lock = new Object();
+        this.pending = new ArrayList<>();
+        this.pendingBytes = 0;
+        this.flushTask = null;
+        this.flushing = false;
+        int dedupCapacity = config.getDedupCapacity();
+        this.seenEvents = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > dedupCapacity;
+            }
+        };
+        this.running = false;
+        this.eventsPublished = new AtomicLong();
+        this.framesPublished = new AtomicLong();
+        this.bytesPublished = new AtomicLong();
+        this.publishFailures = new AtomicLong();
+        this.eventsDroppedOutbound = new AtomicLong();
+        this.encodeErrors = new AtomicLong();
+        this.eventsReceived = new AtomicLong();
+        this.eventsRejectedInbound = new AtomicLong();
+        this.duplicatesDropped = new AtomicLong();
+        this.loopsSuppressed = new AtomicLong();
+        this.unknownTypes = new AtomicLong();
+        this.decodeErrors = new AtomicLong();
+    }
+
+    /**
+     * Register the codec for a cluster-wide event class
+     *
+     * Only events of exactly this class are published; subclasses need their own
+     * registration. Every proxy must register the same wire names.
+     */
+    public <E extends Event> void registerCodec(Class<E> eventType, ClusterEventCodec<E> codec) {
+        ClusterWide clusterWide = eventType.getAnnotation(ClusterWide.class);
+        if (clusterWide == null) {
+            throw new IllegalArgumentException(eventType.getName() + " is not annotated @ClusterWide");
+        }
+        String typeName = clusterWide.value();
+        Registration registration = new Registration(typeName.hashCode(), typeName, codec);
+        Registration existing = registrationsByTypeId.putIfAbsent(registration.typeId, registration);
+        if (existing != null) {
+            throw new IllegalArgumentException("Cluster event name '" + typeName + "' of " + eventType.getName()
+                + " collides with '" + existing.typeName + "'");
+        }
+        registrationsByClass.put(eventType, registration);
+    }
+
+    /**
+     * Subscribe to the cluster channel and start publishing local cluster-wide events
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        subscription = broker.subscribe(config.getChannel(), this::receive);
+        running = true;
+        eventSystem.setClusterTransport(this);
+    }
+
+    /**
+     * Stop publishing, flush pending events and leave the cluster channel
+     */
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        eventSystem.setClusterTransport(null);
+
+        awaitDrained(config.getShutdownTimeoutMillis());
+        flushScheduler.shutdownNow();
+
+        try {
+            subscription.close();
+        } catch (Exception e) {
+            // Subscription already gone
+        }
+    }
+
+    /**
+     * Queue a locally fired event for publishing, if its class has a codec
+     */
+    void publish(Event event) {
+        Registration registration = registrationsByClass.get(event.getClass());
+        if (registration == null || !running) {
+            return;
+        }
+
+        OutboundEvent outbound;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+            registration.codec.encode(event, new DataOutputStream(buffer));
+            outbound = new OutboundEvent(registration.typeId, event.getEventId(), buffer.toByteArray());
+        } catch (IOException | RuntimeException e) {
+            encodeErrors.incrementAndGet();
+            return;
+        }
+
+        boolean flushNow = false;
+        synchronized (lock) {
+            if (pending.size() >= config.getMaxPendingEvents()) {
+                eventsDroppedOutbound.incrementAndGet();
+                return;
+            }
+            pending.add(outbound);
+            pendingBytes += outbound.frameBytes();
+            if (flushing) {
+                // The publish in flight flushes again when it completes
+                return;
+            }
+            if (pending.size() >= config.getMaxBatchEvents() || pendingBytes >= config.getMaxFrameBytes()) {
+                flushing = true;
+                flushNow = true;
+            } else if (flushTask == null) {
+                flushTask = flushScheduler.schedule(this::flushScheduled,
+                    config.getFlushIntervalMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+        if (flushNow) {
+            try {
+                flushScheduler.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                // Closed meanwhile; the batch is lost
+                synchronized (lock) {
+                    flushing = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Flush once a batch's delay has passed, unless a publish is already in flight
+     */
+    private void flushScheduled() {
+        synchronized (lock) {
+            flushTask = null;
+            if (flushing || pending.isEmpty()) {
+                return;
+            }
+            flushing = true;
+        }
+        flush();
+    }
+
+    /**
+     * Publish everything pending (caller has set flushing)
+     */
+    private void flush() {
+        List<OutboundEvent> batch;
+        synchronized (lock) {
+            batch = pending;
+            pending = new ArrayList<>();
+            pendingBytes = 0;
+            if (flushTask != null) {
+                flushTask.cancel(false);
+                flushTask = null;
+            }
+        }
+
+        List<byte[]> frames;
+        try {
+            frames = encodeFrames(batch);
+        } catch (IOException e) {
+            encodeErrors.addAndGet(batch.size());
+            finishFlush();
+            return;
+        }
+
+        publishFrames(frames, config.getPublishRetries()).whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                publishFailures.addAndGet(batch.size());
+            } else {
+                eventsPublished.addAndGet(batch.size());
+                framesPublished.addAndGet(frames.size());
+                for (byte[] frame : frames) {
+                    bytesPublished.addAndGet(frame.length);
+                }
+            }
+            finishFlush();
+        });
+    }
+
+    /**
+     * Publish frames, retrying a failed publish; duplicates are dropped by the receivers
+     */
+    private CompletableFuture<Void> publishFrames(List<byte[]> frames, int retriesLeft) {
+        CompletableFuture<Void> published;
+        try {
+            published = broker.publishAsync(config.getChannel(), frames);
+        } catch (RuntimeException e) {
+            published = CompletableFuture.failedFuture(e);
+        }
+        if (retriesLeft <= 0) {
+            return published;
+        }
+        return published.handle((ignored, failure) -> failure)
+            .thenCompose(failure -> failure == null
+                ? CompletableFuture.<Void>completedFuture(null)
+                : publishFrames(frames, retriesLeft - 1));
+    }
+
+    /**
+     * Clear the in-flight flag, or flush again if events arrived during the publish
+     */
+    private void finishFlush() {
+        synchronized (lock) {
+            if (pending.isEmpty() || flushScheduler.isShutdown()) {
+                flushing = false;
+                lock.notifyAll();
+                return;
+            }
+        }
+        flushScheduler.execute(this::flush);
+    }
+
+    /**
+     * Flush what is pending and wait until nothing is pending or in flight
+     */
+    private void awaitDrained(long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        synchronized (lock) {
+            if (!flushing && !pending.isEmpty()) {
+                flushing = true;
+                flushScheduler.execute(this::flush);
+            }
+            while (flushing) {
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    // Whatever is left is lost
+                    return;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(lock, remainingNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Pack encoded events into frames of at most maxBatchEvents events and maxFrameBytes bytes
+     */
+    private List<byte[]> encodeFrames(List<OutboundEvent> batch) throws IOException {
+        List<byte[]> frames = new ArrayList<>();
+        int start = 0;
+        while (start < batch.size()) {
+            int end = start;
+            int bytes = 0;
+            while (end < batch.size() && end - start < config.getMaxBatchEvents()
+                   && (end == start || bytes + batch.get(end).frameBytes() <= config.getMaxFrameBytes())) {
+                bytes += batch.get(end).frameBytes();
+                end++;
+            }
+
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes + 64);
+            DataOutputStream out = new DataOutputStream(buffer);
+            out.writeByte(FRAME_VERSION);
+            out.writeUTF(config.getNodeId());
+            out.writeInt(end - start);
+            for (int i = start; i < end; i++) {
+                OutboundEvent event = batch.get(i);
+                out.writeInt(event.typeId);
+                out.writeUTF(event.eventId);
+                out.writeInt(event.payload.length);
+                out.write(event.payload);
+            }
+            frames.add(buffer.toByteArray());
+            start = end;
+        }
+        return frames;
+    }
+
+    /**
+     * Decode a frame from the broker and fire its events on this proxy
+     *
+     * Lengths read from the frame are checked against the bytes left in it before
+     * anything is allocated.
+     */
+    void receive(byte[] frame) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame));
+            if (in.readUnsignedByte() != FRAME_VERSION) {
+                decodeErrors.incrementAndGet();
+                return;
+            }
+            String origin = in.readUTF();
+            if (origin.equals(config.getNodeId())) {
+                loopsSuppressed.incrementAndGet();
+                return;
+            }
+
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                int typeId = in.readInt();
+                String eventId = in.readUTF();
+                int length = in.readInt();
+                if (length < 0 || length > in.available()) {
+                    throw new IOException("Payload length " + length + " exceeds frame");
+                }
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+
+                Registration registration = registrationsByTypeId.get(typeId);
+                if (registration == null) {
+                    unknownTypes.incrementAndGet();
+                    continue;
+                }
+                if (!markSeen(origin, eventId)) {
+                    duplicatesDropped.incrementAndGet();
+                    continue;
+                }
+                deliver(registration, origin, eventId, payload);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Truncated or corrupt frame; events before the damage were delivered
+            decodeErrors.incrementAndGet();
+        }
+    }
+
+    /**
+     * Decode one remote event and fire it on the local event system
+     */
+    private void deliver(Registration registration, String origin, String eventId, byte[] payload) {
+        Event event;
+        try {
+            event = registration.codec.decode(eventId, new DataInputStream(new ByteArrayInputStream(payload)));
+        } catch (IOException | RuntimeException e) {
+            decodeErrors.incrementAndGet();
+            return;
+        }
+        event.setOriginNode(origin);
+        eventsReceived.incrementAndGet();
+        // Remote events are admitted without waiting, so a full queue fails this at once
+        if (eventSystem.fireEventAsync(event).isCompletedExceptionally()) {
+            eventsRejectedInbound.incrementAndGet();
+        }
+    }
+
+    /**
+     * Record a received event; false if it was already received
+     */
+    private boolean markSeen(String origin, String eventId) {
+        String key = origin + '/' + eventId;
+        synchronized (seenEvents) {
+            return seenEvents.put(key, Boolean.TRUE) == null;
+        }
+    }
+
+    /**
+     * Get transport status and counters
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new HashMap<>();
+        status.put("node_id", config.getNodeId());
+        status.put("channel", config.getChannel());
+        status.put("running", running);
+        status.put("registered_types", registrationsByClass.size());
+        synchronized (lock) {
+            status.put("pending_events", pending.size());
+        }
+        status.put("events_published", eventsPublished.get());
+        status.put("frames_published", framesPublished.get());
+        status.put("bytes_published", bytesPublished.get());
+        status.put("publish_failures", publishFailures.get());
+        status.put("events_dropped_outbound", eventsDroppedOutbound.get());
+        status.put("encode_errors", encodeErrors.get());
+        status.put("events_received", eventsReceived.get());
+        status.put("events_rejected_inbound", eventsRejectedInbound.get());
+        status.put("duplicates_dropped", duplicatesDropped.get());
+        status.put("loops_suppressed", loopsSuppressed.get());
+        status.put("unknown_types", unknownTypes.get());
+        status.put("decode_errors", decodeErrors.get());
+        return status;
+    }
+
+    // Getters
+    public String getNodeId() { return config.getNodeId(); }
+    public boolean isRunning() { return running; }
+    public long getEventsPublished() { return eventsPublished.get(); }
+    public long getEventsReceived() { return eventsReceived.get(); }
+    public long getEventsRejectedInbound() { return eventsRejectedInbound.get(); }
+    public long getDuplicatesDropped() { return duplicatesDropped.get(); }
+    public long getLoopsSuppressed() { return loopsSuppressed.get(); }
+
+    /**
+     * Configuration class for cluster transport settings
+     */
+    public static class TransportConfiguration {
+        private String nodeId = UUID.randomUUID().toString();  // Must differ on every proxy
+        private String channel = "veloctopus:events";
+        private int maxBatchEvents = 256;
+        private int maxFrameBytes = 64 * 1024;
+        private long flushIntervalMillis = 5;
+        private int maxPendingEvents = 10000;   // Newer events are dropped while this many wait
+        private int publishRetries = 1;
+        private int dedupCapacity = 65536;      // Received event IDs remembered for deduplication
+        private long shutdownTimeoutMillis = 5000;
+
+        // Getters and setters
+        public String getNodeId() { return nodeId; }
+        public void setNodeId(String nodeId) { this.nodeId = nodeId; }
+        public String getChannel() { return channel; }
+        public void setChannel(String channel) { this.channel = channel; }
+        public int getMaxBatchEvents() { return maxBatchEvents; }
+        public void setMaxBatchEvents(int maxBatchEvents) { this.maxBatchEvents = maxBatchEvents; }
+        public int getMaxFrameBytes() { return maxFrameBytes; }
+        public void setMaxFrameBytes(int maxFrameBytes) { this.maxFrameBytes = maxFrameBytes; }
+        public long getFlushIntervalMillis() { return flushIntervalMillis; }
+        public void setFlushIntervalMillis(long flushIntervalMillis) { this.flushIntervalMillis = flushIntervalMillis; }
+        public int getMaxPendingEvents() { return maxPendingEvents; }
+        public void setMaxPendingEvents(int maxPendingEvents) { this.maxPendingEvents = maxPendingEvents; }
+        public int getPublishRetries() { return publishRetries; }
+        public void setPublishRetries(int publishRetries) { this.publishRetries = publishRetries; }
+        public int getDedupCapacity() { return dedupCapacity; }
+        public void setDedupCapacity(int dedupCapacity) { this.dedupCapacity = dedupCapacity; }
+        public long getShutdownTimeoutMillis() { return shutdownTimeoutMillis; }
+        public void setShutdownTimeoutMillis(long shutdownTimeoutMillis) { this.shutdownTimeoutMillis = shutdownTimeoutMillis; }
+    }
+}
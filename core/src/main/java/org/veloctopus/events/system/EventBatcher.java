@@ -0,0 +1,190 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Event Batcher
+ * Buffers events for listeners that take them as List batches
+ */
+
+package org.veloctopus.events.system;
+
+import org.veloctopus.events.system.AsyncEventSystem.BatchEventListener;
+import org.veloctopus.events.system.AsyncEventSystem.Event;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Event Batcher
+ *
+ * Dispatch hands each event to {@link #invoke(Event)}, which only appends it to the
+ * current batch. The batch goes to the listener method as an unmodifiable
+ * {@code List<E>}:
+ * - once it reaches the listener's max batch size, or
+ * - when the listener's max delay has passed since the batch's first event
+ *
+ * Batches are delivered one at a time, in order, on the listener executor.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+final class EventBatcher implements ListenerInvoker {
+
+    private final MethodHandle target;
+    private final Class<? extends Event> eventType;
+    private final int maxBatchSize;
+    private final long maxDelayMillis;
+    private final Executor executor;
+    private final ScheduledExecutorService scheduler;
+
+    // Batch state, guarded by lock
+    private final Object lock;
+    private List<Event> buffer;
+    private ScheduledFuture<?> flushTask;
+    private CompletableFuture<Void> deliveryTail;
+
+    private final AtomicLong deliveredBatches;
+    private final AtomicLong deliveredEvents;
+    private final AtomicLong failedBatches;
+    private volatile String lastError;
+
+    EventBatcher(Object listener, Method method, BatchEventListener annotation,
+                 Executor executor, ScheduledExecutorService scheduler) {
+        if (annotation.maxBatchSize() < 1 || annotation.maxDelayMillis() < 1) {
+            throw new IllegalArgumentException("Batch listener limits must be positive: " + method);
+        }
+        this.eventType = getBatchEventType(method);
+        this.target = bindTarget(listener, method);
+        this.maxBatchSize = annotation.maxBatchSize();
+        this.maxDelayMillis = annotation.maxDelayMillis();
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.lock = new Object();
+        this.deliveryTail = CompletableFuture.completedFuture(null);
+        this.deliveredBatches = new AtomicLong(0);
+        this.deliveredEvents = new AtomicLong(0);
+        this.failedBatches = new AtomicLong(0);
+    }
+
+    /**
+     * Add the event to the current batch, delivering the batch if it is full
+     */
+    @Override
+    public void invoke(Event event) {
+        synchronized (lock) {
+            if (buffer == null) {
+                buffer = new ArrayList<>(Math.min(maxBatchSize, 64));
+                flushTask = scheduler.schedule(this::flush, maxDelayMillis, TimeUnit.MILLISECONDS);
+            }
+            buffer.add(event);
+            if (buffer.size() >= maxBatchSize) {
+                deliverLocked();
+            }
+        }
+    }
+
+    /**
+     * Deliver the current batch now; completes once every batch so far has been delivered
+     */
+    CompletableFuture<Void> flush() {
+        synchronized (lock) {
+            if (buffer != null) {
+                deliverLocked();
+            }
+            return deliveryTail;
+        }
+    }
+
+    private void deliverLocked() {
+        List<Event> batch = Collections.unmodifiableList(buffer);
+        buffer = null;
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        deliveryTail = deliveryTail
+            .thenRunAsync(() -> deliver(batch), executor)
+            .exceptionally(throwable -> {
+                // Executor rejected the batch (shutting down); keep the chain usable
+                recordFailure(throwable);
+                return null;
+            });
+    }
+
+    private void deliver(List<Event> batch) {
+        try {
+            target.invoke(batch);
+            deliveredBatches.incrementAndGet();
+            deliveredEvents.addAndGet(batch.size());
+        } catch (Throwable t) {
+            recordFailure(t);
+        }
+    }
+
+    private void recordFailure(Throwable throwable) {
+        failedBatches.incrementAndGet();
+        lastError = throwable.getMessage();
+    }
+
+    // Getters
+    Class<? extends Event> getEventType() { return eventType; }
+    int getMaxBatchSize() { return maxBatchSize; }
+    long getMaxDelayMillis() { return maxDelayMillis; }
+    long getDeliveredBatches() { return deliveredBatches.get(); }
+    long getDeliveredEvents() { return deliveredEvents.get(); }
+    long getFailedBatches() { return failedBatches.get(); }
+    String getLastError() { return lastError; }
+
+    /**
+     * Resolve {@code E} from a {@code List<E>} or {@code List<? extends E>} parameter
+     */
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Event> getBatchEventType(Method method) {
+        if (method.getParameterCount() == 1 && method.getParameterTypes()[0] == List.class) {
+            Type parameter = method.getGenericParameterTypes()[0];
+            if (parameter instanceof ParameterizedType) {
+                Type element = ((ParameterizedType) parameter).getActualTypeArguments()[0];
+                if (element instanceof WildcardType) {
+                    element = ((WildcardType) element).getUpperBounds()[0];
+                }
+                if (element instanceof Class && Event.class.isAssignableFrom((Class<?>) element)) {
+                    return (Class<? extends Event>) element;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Batch listener method must have exactly one List<Event> parameter");
+    }
+
+    private static MethodHandle bindTarget(Object listener, Method method) {
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup())
+                .unreflect(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            // Module not open to us: fall back to an accessible handle, as ListenerInvoker does
+            try {
+                method.setAccessible(true);
+                handle = MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException | RuntimeException inaccessible) {
+                throw new IllegalArgumentException("Batch listener method is not accessible: " + method, inaccessible);
+            }
+        }
+        return isStatic ? handle : handle.bindTo(listener);
+    }
+}
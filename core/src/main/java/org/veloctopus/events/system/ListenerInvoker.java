@@ -0,0 +1,126 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Listener Invoker
+ * Generated call sites for annotated event listener methods
+ */
+
+package org.veloctopus.events.system;
+
+import org.veloctopus.events.system.AsyncEventSystem.Event;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Listener Invoker
+ *
+ * A listener method bound to its instance when it is registered. Dispatch calls
+ * {@link #invoke(Event)}, which is a plain interface call with no reflection:
+ * - {@link #bind(Object, Method)} spins an implementation through
+ *   {@link LambdaMetafactory}. The JIT can inline it like a hand-written lambda.
+ * - If the listener class cannot be looked up (for example it lives in a module that
+ *   is not open to us), binding falls back to {@link Method#invoke}. Checked
+ *   exceptions are unwrapped, so both paths fail the same way.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ListenerInvoker {
+
+    /**
+     * Call the listener method with the event
+     */
+    void invoke(Event event) throws Exception;
+
+    /**
+     * Bind a listener method, generating a direct invoker where possible
+     *
+     * @param listener listener instance; ignored for static methods
+     * @param method annotated method taking a single {@link Event} subtype
+     */
+    static ListenerInvoker bind(Object listener, Method method) {
+        try {
+            return generate(listener, method);
+        } catch (Throwable t) {
+            return reflective(listener, method);
+        }
+    }
+
+    /**
+     * Whether an invoker was generated rather than falling back to reflection
+     */
+    static boolean isGenerated(ListenerInvoker invoker) {
+        return !(invoker instanceof ReflectiveInvoker);
+    }
+
+    private static ListenerInvoker generate(Object listener, Method method) throws Throwable {
+        Class<?> owner = method.getDeclaringClass();
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+        MethodHandle target = lookup.unreflect(method);
+
+        MethodType factoryType = isStatic
+            ? MethodType.methodType(ListenerInvoker.class)
+            : MethodType.methodType(ListenerInvoker.class, owner);
+        CallSite site = LambdaMetafactory.metafactory(
+            lookup,
+            "invoke",
+            factoryType,
+            MethodType.methodType(void.class, Event.class),
+            target,
+            MethodType.methodType(void.class, method.getParameterTypes()[0]));
+
+        MethodHandle factory = site.getTarget();
+        return isStatic
+            ? (ListenerInvoker) factory.invoke()
+            : (ListenerInvoker) factory.invoke(listener);
+    }
+
+    private static ListenerInvoker reflective(Object listener, Method method) {
+        try {
+            method.setAccessible(true);
+        } catch (RuntimeException e) {
+            // Public methods on public classes still work without it
+        }
+        return new ReflectiveInvoker(listener, method);
+    }
+
+    /**
+     * Fallback invoker over {@link Method#invoke}
+     */
+    final class ReflectiveInvoker implements ListenerInvoker {
+        private final Object listener;
+        private final Method method;
+
+        ReflectiveInvoker(Object listener, Method method) {
+            this.listener = listener;
+            this.method = method;
+        }
+
+        @Override
+        public void invoke(Event event) throws Exception {
+            try {
+                method.invoke(listener, event);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception) {
+                    throw (Exception) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Redis Cluster Event Broker
+ * Redis pub/sub channel between proxies for the cluster event transport
+ */
+
+package org.veloctopus.events.system;
+
+import org.veloctopus.cache.redis.AsyncRedisCacheLayer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Redis Cluster Event Broker
+ *
+ * Publishes frames with binary PUBLISH commands sent as one pipeline, and receives
+ * them on the cache layer's dedicated subscriber connection. Delivery is at most once;
+ * a proxy that is disconnected misses the frames published meanwhile.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+public class RedisClusterEventBroker implements ClusterEventBroker {
+
+    private final AsyncRedisCacheLayer cacheLayer;
+
+    public RedisClusterEventBroker(AsyncRedisCacheLayer cacheLayer) {
+        this.cacheLayer = cacheLayer;
+    }
+
+    @Override
+    public CompletableFuture<Void> publishAsync(String channel, List<byte[]> frames) {
+        return cacheLayer.publishAllAsync(channel.getBytes(StandardCharsets.UTF_8), frames)
+            .thenApply(receivers -> null);
+    }
+
+    @Override
+    public AutoCloseable subscribe(String channel, Consumer<byte[]> receiver) {
+        return cacheLayer.subscribe(channel.getBytes(StandardCharsets.UTF_8), receiver);
+    }
+}
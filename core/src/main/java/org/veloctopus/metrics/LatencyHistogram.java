@@ -0,0 +1,210 @@
+/*
+ * This file is part of VeloctopusProject, licensed under the MIT License.
+ *
+ * Copyright (c) 2025 VeloctopusProject Contributors
+ *
+ * Latency Histogram
+ * Lock-free, fixed-memory nanosecond latency histogram with percentile snapshots
+ */
+
+package org.veloctopus.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency Histogram
+ *
+ * Log-linear buckets in the style of HdrHistogram:
+ * - Values below 64ns get one bucket each. Above that, every power of two is split into
+ *   64 equal sub-buckets, so any reported value is within 1/64 (about 1.6%) of the
+ *   recorded one.
+ * - Values are tracked up to 2^36ns (about 68 seconds). Anything above lands in the top
+ *   bucket, and the exact maximum is kept separately.
+ * - All buckets are preallocated (about 16KB). {@link #recordNanos} is a handful of
+ *   atomic adds and never allocates.
+ *
+ * {@link #snapshot()} reports everything since creation. {@link #intervalSnapshot()}
+ * reports what was recorded since its previous call, for rates and recent percentiles.
+ * It is meant for a single periodic reader, such as a monitoring task.
+ *
+ * @author VeloctopusProject Team
+ * @since 1.0.0
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 36;
+    private static final long MAX_TRACKABLE = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts;
+    private final LongAdder totalCount;
+    private final LongAdder totalNanos;
+    private final AtomicLong maxNanos;
+    private final long createdNanos;
+
+    // Interval state, touched only by intervalSnapshot()
+    private final long[] intervalBaseline;
+    private long intervalBaselineSum;
+    private long intervalStartNanos;
+
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.totalCount = new LongAdder();
+        this.totalNanos = new LongAdder();
+        this.maxNanos = new AtomicLong();
+        this.createdNanos = System.nanoTime();
+        this.intervalBaseline = new long[BUCKETS];
+        this.intervalStartNanos = createdNanos;
+    }
+
+    /**
+     * Record one latency; negative values count as zero
+     */
+    public void recordNanos(long nanos) {
+        long value = Math.max(0L, nanos);
+        counts.incrementAndGet(indexOf(Math.min(value, MAX_TRACKABLE)));
+        totalCount.increment();
+        totalNanos.add(value);
+        long max = maxNanos.get();
+        while (value > max && !maxNanos.compareAndSet(max, value)) {
+            max = maxNanos.get();
+        }
+    }
+
+    public long getCount() { return totalCount.sum(); }
+    public long getTotalNanos() { return totalNanos.sum(); }
+    public long getMaxNanos() { return maxNanos.get(); }
+
+    /**
+     * Percentiles over everything recorded so far
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        return new Snapshot(copy, count, totalNanos.sum(), maxNanos.get(),
+            System.nanoTime() - createdNanos);
+    }
+
+    /**
+     * Percentiles over what was recorded since the previous interval snapshot
+     *
+     * The interval maximum is the upper bound of the highest non-empty bucket.
+     */
+    public synchronized Snapshot intervalSnapshot() {
+        long now = System.nanoTime();
+        long[] delta = new long[BUCKETS];
+        long count = 0;
+        int highest = -1;
+        for (int i = 0; i < BUCKETS; i++) {
+            long current = counts.get(i);
+            delta[i] = current - intervalBaseline[i];
+            intervalBaseline[i] = current;
+            if (delta[i] > 0) {
+                count += delta[i];
+                highest = i;
+            }
+        }
+        long sum = totalNanos.sum();
+        long intervalSum = sum - intervalBaselineSum;
+        intervalBaselineSum = sum;
+        long interval = now - intervalStartNanos;
+        intervalStartNanos = now;
+
+        long max = highest < 0 ? 0 : Math.min(highestEquivalentValue(highest), maxNanos.get());
+        return new Snapshot(delta, count, intervalSum, max, interval);
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return ((shift + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long subBucket = index & (SUB_BUCKET_COUNT - 1);
+        long lowest = (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Immutable view of a histogram or of one interval
+     */
+    public static class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long periodNanos;
+
+        Snapshot(long[] counts, long count, long totalNanos, long maxNanos, long periodNanos) {
+            this.counts = counts;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.periodNanos = periodNanos;
+        }
+
+        /**
+         * Smallest bucket bound at or below which the given percentage of values fall
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1L, (long) Math.ceil(count * Math.min(100.0, percentile) / 100.0));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(highestEquivalentValue(i), maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+
+        public long getCount() { return count; }
+        public long getTotalNanos() { return totalNanos; }
+        public long getMaxNanos() { return maxNanos; }
+        public long getPeriodNanos() { return periodNanos; }
+        public long getP50Nanos() { return getValueAtPercentile(50.0); }
+        public long getP99Nanos() { return getValueAtPercentile(99.0); }
+        public long getP999Nanos() { return getValueAtPercentile(99.9); }
+        public double getMeanNanos() { return count > 0 ? (double) totalNanos / count : 0.0; }
+        public double getRatePerSecond() {
+            return periodNanos > 0 ? count * 1_000_000_000.0 / periodNanos : 0.0;
+        }
+
+        /**
+         * Summary for status maps
+         */
+        public Map<String, Object> toMap() {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", count);
+            summary.put("rate_per_second", getRatePerSecond());
+            summary.put("mean_nanos", getMeanNanos());
+            summary.put("p50_nanos", getP50Nanos());
+            summary.put("p99_nanos", getP99Nanos());
+            summary.put("p999_nanos", getP999Nanos());
+            summary.put("max_nanos", maxNanos);
+            return summary;
+        }
+    }
+}
@@ -11,7 +11,11 @@ package org.veloctopus.translation.system;
 
 import io.github.jk33v3rs.veloctopusrising.api.async.AsyncPattern;
 import org.veloctopus.cache.redis.AsyncRedisCacheLayer;
+import org.veloctopus.cache.redis.CacheCodec;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicLong;
@@ -308,6 +312,82 @@ public class AsyncMessageTranslationSystem implements AsyncPattern {
         Map<String, Object> getProviderInfo();
     }
 
+    /**
+     * Binary cache form of a translation: text, provider ID, quality score and confidence
+     *
+     * Providers and qualities are stored by their stable ID and score, never by ordinal,
+     * so the enums can be reordered without breaking values already in Redis. Version 1
+     * stored ordinals; those are read through the order the enums had then.
+     */
+    static final class TranslationResultCodec implements CacheCodec<TranslationResult> {
+        static final TranslationResultCodec INSTANCE = new TranslationResultCodec();
+
+        private static final TranslationProvider[] V1_PROVIDERS = {
+            TranslationProvider.GOOGLE_TRANSLATE, TranslationProvider.AZURE_TRANSLATOR,
+            TranslationProvider.AWS_TRANSLATE, TranslationProvider.DEEPL,
+            TranslationProvider.LOCAL_CACHE, TranslationProvider.FALLBACK
+        };
+        private static final TranslationQuality[] V1_QUALITIES = {
+            TranslationQuality.POOR, TranslationQuality.FAIR, TranslationQuality.GOOD,
+            TranslationQuality.EXCELLENT, TranslationQuality.PERFECT
+        };
+
+        @Override
+        public int getVersion() { return 2; }
+
+        @Override
+        public void encode(TranslationResult result, DataOutput out) throws IOException {
+            byte[] text = result.getTranslatedText().getBytes(StandardCharsets.UTF_8);
+            out.writeInt(text.length);
+            out.write(text);
+            out.writeUTF(result.getProvider().getId());
+            out.writeByte(result.getQuality().getScore());
+            out.writeDouble(result.getConfidence());
+        }
+
+        @Override
+        public TranslationResult decode(int version, DataInput in) throws IOException {
+            String text = new String(CacheCodec.readLengthPrefixed(in), StandardCharsets.UTF_8);
+            TranslationProvider provider;
+            TranslationQuality quality;
+            if (version == 1) {
+                provider = fromTable(V1_PROVIDERS, in.readUnsignedByte());
+                quality = fromTable(V1_QUALITIES, in.readUnsignedByte());
+            } else {
+                provider = providerById(in.readUTF());
+                quality = qualityByScore(in.readUnsignedByte());
+            }
+            double confidence = in.readDouble();
+            return new TranslationResult(null, text, provider, quality, confidence, 0, true);
+        }
+
+        private static <E> E fromTable(E[] table, int index) throws IOException {
+            if (index >= table.length) {
+                throw new IOException("Unknown version 1 ordinal " + index);
+            }
+            return table[index];
+        }
+
+        private static TranslationProvider providerById(String id) throws IOException {
+            for (TranslationProvider provider : TranslationProvider.values()) {
+                if (provider.getId().equals(id)) {
+                    return provider;
+                }
+            }
+            // Written by a newer proxy; treated as a cache miss
+            throw new IOException("Unknown translation provider " + id);
+        }
+
+        private static TranslationQuality qualityByScore(int score) throws IOException {
+            for (TranslationQuality quality : TranslationQuality.values()) {
+                if (quality.getScore() == score) {
+                    return quality;
+                }
+            }
+            throw new IOException("Unknown translation quality " + score);
+        }
+    }
+
     // Core components
     private final AsyncRedisCacheLayer cacheLayer;
     private final ThreadPoolExecutor translationExecutor;
@@ -562,11 +642,11 @@ public class AsyncMessageTranslationSystem implements AsyncPattern {
     private CompletableFuture<TranslationResult> checkCacheAsync(TranslationRequest request) {
         String cacheKey = request.getCacheKey();
         
-        return cacheLayer.getAsync(cacheKey)
-            .thenApply(cachedValue -> {
-                if (cachedValue != null) {
-                    // Parse cached result
-                    return parseCachedTranslation(request.getRequestId(), cachedValue);
+        return cacheLayer.getTyped(cacheKey, TranslationResultCodec.INSTANCE)
+            .thenApply(cached -> {
+                if (cached != null) {
+                    return new TranslationResult(request.getRequestId(), cached.getTranslatedText(),
+                        TranslationProvider.LOCAL_CACHE, cached.getQuality(), cached.getConfidence(), 0, true);
                 }
                 return null;
             })
@@ -598,9 +678,9 @@ public class AsyncMessageTranslationSystem implements AsyncPattern {
      */
     private CompletableFuture<Boolean> storeCacheAsync(TranslationRequest request, TranslationResult result) {
         String cacheKey = request.getCacheKey();
-        String cacheValue = serializeTranslationResult(result);
         
-        return cacheLayer.setAsync(cacheKey, cacheValue, Duration.ofHours(config.getCacheTtlHours()))
+        return cacheLayer.setTyped(cacheKey, result, TranslationResultCodec.INSTANCE,
+                Duration.ofHours(config.getCacheTtlHours()))
             .exceptionally(throwable -> {
                 // Cache storage error, log but don't fail
                 statistics.setMetric("cache_storage_error", throwable.getMessage());
@@ -867,32 +947,6 @@ public class AsyncMessageTranslationSystem implements AsyncPattern {
         statistics.setMetric("shutdown_queue_processed", translationQueue.size());
     }
 
-    /**
-     * Serialization methods
-     */
-    private String serializeTranslationResult(TranslationResult result) {
-        // Simple serialization - in production would use JSON
-        return result.getTranslatedText() + "|" + result.getProvider().getId() + "|" + 
-               result.getQuality().getScore() + "|" + result.getConfidence();
-    }
-
-    private TranslationResult parseCachedTranslation(String requestId, String cachedValue) {
-        try {
-            String[] parts = cachedValue.split("\\|");
-            if (parts.length >= 4) {
-                String text = parts[0];
-                TranslationProvider provider = TranslationProvider.LOCAL_CACHE;
-                TranslationQuality quality = TranslationQuality.values()[Integer.parseInt(parts[2]) - 1];
-                double confidence = Double.parseDouble(parts[3]);
-                
-                return new TranslationResult(requestId, text, provider, quality, confidence, 0, true);
-            }
-        } catch (Exception e) {
-            // Invalid cached data
-        }
-        return null;
-    }
-
     /**
      * Completion methods - would be implemented with proper futures management
      */
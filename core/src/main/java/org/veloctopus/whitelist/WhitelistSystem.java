@@ -19,6 +19,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.time.Instant;
 import java.time.Duration;
 import java.util.regex.Pattern;
@@ -233,25 +234,20 @@ public class WhitelistSystem implements AsyncPattern {
         public CompletableFuture<Boolean> validateUsernameAsync(String username) {
             String cacheKey = "mojang_validation:" + username.toLowerCase();
             
-            return cacheLayer.getAsync(cacheKey)
-                .thenCompose(cachedResult -> {
-                    if (cachedResult != null) {
+            // Concurrent lookups of one username, on any proxy, share a single API call
+            AtomicBoolean calledApi = new AtomicBoolean(false);
+            return cacheLayer.getOrLoadAsync(cacheKey, CACHE_TTL, () -> {
+                    calledApi.set(true);
+                    apiMetrics.put("api_calls", 
+                        ((Long) apiMetrics.getOrDefault("api_calls", 0L)) + 1);
+                    return callMojangApiAsync(username).thenApply(String::valueOf);
+                })
+                .thenApply(result -> {
+                    if (!calledApi.get()) {
                         apiMetrics.put("cache_hits", 
                             ((Long) apiMetrics.getOrDefault("cache_hits", 0L)) + 1);
-                        return CompletableFuture.completedFuture("true".equals(cachedResult));
                     }
-
-                    // Cache miss - call Mojang API
-                    return callMojangApiAsync(username)
-                        .thenCompose(isValid -> {
-                            // Cache the result
-                            return cacheLayer.setAsync(cacheKey, String.valueOf(isValid), CACHE_TTL)
-                                .thenApply(cached -> {
-                                    apiMetrics.put("api_calls", 
-                                        ((Long) apiMetrics.getOrDefault("api_calls", 0L)) + 1);
-                                    return isValid;
-                                });
-                        });
+                    return "true".equals(result);
                 });
         }
 
@@ -71,6 +71,16 @@ public class ChatRegulatorAsyncAdapter {
             config.put("spam_similar_limit", 3);
             config.put("spam_supported_sources", Arrays.asList("MINECRAFT_CHAT", "DISCORD_MESSAGE", "MATRIX_MESSAGE"));
             
+            // Near-duplicate and raid detection configuration
+            config.put("similarity_check_enabled", true);
+            config.put("similarity_history_size", 8);
+            config.put("similarity_limit", 3);
+            config.put("similarity_max_distance", 10);
+            // Off until the sender limit is tuned against real traffic
+            config.put("raid_check_enabled", false);
+            config.put("raid_sender_limit", 5);
+            config.put("raid_window_seconds", 30);
+            
             // Flood detection configuration  
             config.put("flood_check_enabled", true);
             config.put("flood_message_limit", 5);
@@ -124,6 +134,14 @@ public class ChatRegulatorAsyncAdapter {
         });
     }
     
+    /**
+     * Drop the cached configuration and load it again, for configuration reloads
+     */
+    public CompletableFuture<Map<String, Object>> reloadFilterConfiguration() {
+        cachedFilterConfiguration = null;
+        return loadFilterConfiguration();
+    }
+    
     private void validateFilterConfiguration(Map<String, Object> config) {
         String[] requiredKeys = {
             "spam_check_enabled", "regex_check_enabled", "cross_platform_sync"
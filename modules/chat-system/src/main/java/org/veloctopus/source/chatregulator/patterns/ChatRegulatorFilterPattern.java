@@ -2,12 +2,21 @@ package org.veloctopus.source.chatregulator.patterns;
 
 import org.veloctopus.api.patterns.AsyncPattern;
 import org.veloctopus.adaptation.chatregulator.ChatRegulatorAsyncAdapter;
+import org.veloctopus.chat.filter.ChatContentMatcher;
+import org.veloctopus.chat.filter.NearDuplicateDetector;
+import org.veloctopus.chat.filter.RaidDetector;
+import org.veloctopus.chat.filter.SimHash;
+import org.veloctopus.configuration.hotreload.ConfigurationHotReloadSystem;
+import org.veloctopus.ratelimit.KeyedRateLimiter;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
-import java.util.regex.Matcher;
+import java.util.regex.PatternSyntaxException;
 import java.util.logging.Logger;
 
 /**
@@ -46,6 +55,8 @@ public class ChatRegulatorFilterPattern implements AsyncPattern<ChatModerationEn
      */
     public enum CheckType {
         SPAM("Consecutive identical messages", InfractionSeverity.MEDIUM),
+        SIMILARITY("Repeated near-identical messages", InfractionSeverity.MEDIUM),
+        RAID("Same message from many accounts", InfractionSeverity.HIGH),
         FLOOD("Message rate limiting", InfractionSeverity.HIGH),
         CAPS("Excessive capitalization", InfractionSeverity.LOW),
         REGEX("Pattern-based content filtering", InfractionSeverity.HIGH),
@@ -241,17 +252,151 @@ public class ChatRegulatorFilterPattern implements AsyncPattern<ChatModerationEn
         public boolean isEnabled() { return true; }
     }
     
+    /**
+     * Near-duplicate spam check using SimHash fingerprints
+     *
+     * Catches repeats that differ by a character or two, which the exact-match
+     * SpamCheck misses. Each player keeps a fixed ring of fingerprints per source.
+     */
+    public static class SimilarityCheck implements MessageCheck {
+        private final Map<SourceType, NearDuplicateDetector> detectors;
+        private final int similarLimit;
+        
+        public SimilarityCheck(int historySize, int similarLimit, int maxDistance, SourceType... supportedSources) {
+            this.similarLimit = similarLimit;
+            this.detectors = new EnumMap<>(SourceType.class);
+            long idleTimeout = Duration.ofMinutes(10).toMillis();
+            for (SourceType source : supportedSources.length > 0 ? supportedSources : SourceType.values()) {
+                detectors.put(source, new NearDuplicateDetector(historySize, maxDistance, idleTimeout));
+            }
+        }
+        
+        @Override
+        public CheckResult check(InfractionPlayer player, String message, SourceType source) {
+            NearDuplicateDetector detector = detectors.get(source);
+            if (detector == null) {
+                return CheckResult.allowed();
+            }
+            
+            int similar = detector.recordAndCount(player.getPlayerId(), message);
+            if (similar >= similarLimit) {
+                return CheckResult.denied(CheckType.SIMILARITY, 
+                    String.format("Sent %d near-identical messages recently", similar + 1));
+            }
+            
+            return CheckResult.allowed();
+        }
+        
+        /**
+         * Drop fingerprint history for players who have gone quiet
+         */
+        public int evictIdle() {
+            int evicted = 0;
+            for (NearDuplicateDetector detector : detectors.values()) {
+                evicted += detector.evictIdle();
+            }
+            return evicted;
+        }
+        
+        @Override
+        public CheckType getType() { return CheckType.SIMILARITY; }
+        
+        @Override
+        public boolean isEnabled() { return true; }
+    }
+    
+    /**
+     * Cross-player raid check: the same payload from many accounts in a short window
+     */
+    public static class RaidCheck implements MessageCheck {
+        private final RaidDetector detector;
+        private final Set<SourceType> supportedSources;
+        
+        public RaidCheck(int senderLimit, int maxDistance, Duration window, SourceType... supportedSources) {
+            this.detector = new RaidDetector(512, maxDistance, senderLimit, window.toMillis());
+            this.supportedSources = supportedSources.length > 0
+                ? EnumSet.copyOf(Arrays.asList(supportedSources)) : EnumSet.allOf(SourceType.class);
+        }
+        
+        @Override
+        public CheckResult check(InfractionPlayer player, String message, SourceType source) {
+            if (!supportedSources.contains(source)) {
+                return CheckResult.allowed();
+            }
+            
+            int senders = detector.recordAndCount(player.getPlayerId(), SimHash.fingerprint(message));
+            if (detector.isRaid(senders)) {
+                return CheckResult.denied(CheckType.RAID, 
+                    String.format("Same message sent by %d or more players", senders));
+            }
+            
+            return CheckResult.allowed();
+        }
+        
+        @Override
+        public CheckType getType() { return CheckType.RAID; }
+        
+        @Override
+        public boolean isEnabled() { return true; }
+    }
+    
+    /**
+     * Message rate check extracted from ChatRegulator's FloodCheck
+     */
+    public static class FloodCheck implements MessageCheck {
+        private final Map<SourceType, KeyedRateLimiter> limiters;
+        private final int messageLimit;
+        private final Duration timeWindow;
+        
+        public FloodCheck(int messageLimit, Duration timeWindow, SourceType... supportedSources) {
+            this.messageLimit = messageLimit;
+            this.timeWindow = timeWindow;
+            this.limiters = new EnumMap<>(SourceType.class);
+            // One limiter per source, so the check path needs no composite key
+            for (SourceType source : supportedSources.length > 0 ? supportedSources : SourceType.values()) {
+                limiters.put(source, new KeyedRateLimiter(messageLimit, timeWindow));
+            }
+        }
+        
+        @Override
+        public CheckResult check(InfractionPlayer player, String message, SourceType source) {
+            KeyedRateLimiter limiter = limiters.get(source);
+            if (limiter == null || limiter.tryAcquire(player.getPlayerId())) {
+                return CheckResult.allowed();
+            }
+            
+            return CheckResult.denied(CheckType.FLOOD, 
+                String.format("Sent more than %d messages in %d seconds", messageLimit, timeWindow.getSeconds()));
+        }
+        
+        /**
+         * Drop players whose message allowance has fully recovered
+         */
+        public int evictIdle() {
+            int evicted = 0;
+            for (KeyedRateLimiter limiter : limiters.values()) {
+                evicted += limiter.evictIdle();
+            }
+            return evicted;
+        }
+        
+        @Override
+        public CheckType getType() { return CheckType.FLOOD; }
+        
+        @Override
+        public boolean isEnabled() { return true; }
+    }
+    
     /**
      * Regex-based content filtering extracted from ChatRegulator's RegexCheck
      */
     public static class RegexCheck implements MessageCheck {
-        private final List<Pattern> forbiddenPatterns;
+        private final ChatContentMatcher matcher;
         private final SourceType[] supportedSources;
         
         public RegexCheck(List<String> regexPatterns, SourceType... supportedSources) {
-            this.forbiddenPatterns = regexPatterns.stream()
-                .map(Pattern::compile)
-                .toList();
+            // All rules are compiled into one alternation and scanned in a single pass
+            this.matcher = new ChatContentMatcher(List.of(), regexPatterns);
             this.supportedSources = supportedSources.length > 0 ? supportedSources : SourceType.values();
         }
         
@@ -261,22 +406,27 @@ public class ChatRegulatorFilterPattern implements AsyncPattern<ChatModerationEn
                 return CheckResult.allowed();
             }
             
-            for (Pattern pattern : forbiddenPatterns) {
-                Matcher matcher = pattern.matcher(message);
-                if (matcher.find()) {
-                    return CheckResult.denied(CheckType.REGEX, 
-                        String.format("Message contains forbidden pattern: %s", pattern.pattern()));
-                }
+            Pattern violated = matcher.getRules().getPatterns().findFirst(message);
+            if (violated != null) {
+                return CheckResult.denied(CheckType.REGEX, 
+                    String.format("Message contains forbidden pattern: %s", violated.pattern()));
             }
             
             return CheckResult.allowed();
         }
         
+        /**
+         * Swap in a new rule set atomically (configuration reload)
+         */
+        public void reloadPatterns(List<String> regexPatterns) {
+            matcher.reloadPatterns(regexPatterns);
+        }
+        
         @Override
         public CheckType getType() { return CheckType.REGEX; }
         
         @Override
-        public boolean isEnabled() { return !forbiddenPatterns.isEmpty(); }
+        public boolean isEnabled() { return !matcher.getRules().getPatterns().isEmpty(); }
     }
     
     /**
@@ -327,14 +477,18 @@ public class ChatRegulatorFilterPattern implements AsyncPattern<ChatModerationEn
      * Main moderation engine combining all ChatRegulator patterns
      */
     public static class ChatModerationEngine {
+        private static final long MAINTENANCE_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+        
         private final Map<CheckType, MessageCheck> checks;
         private final Map<String, InfractionPlayer> players;
         private final GlobalStatistics statistics;
+        private final AtomicLong nextMaintenanceNanos;
         
         public ChatModerationEngine() {
             this.checks = new ConcurrentHashMap<>();
             this.players = new ConcurrentHashMap<>();
             this.statistics = new GlobalStatistics();
+            this.nextMaintenanceNanos = new AtomicLong(System.nanoTime() + MAINTENANCE_INTERVAL_NANOS);
         }
         
         public void registerCheck(MessageCheck check) {
@@ -344,6 +498,8 @@ public class ChatRegulatorFilterPattern implements AsyncPattern<ChatModerationEn
         public CompletableFuture<CheckResult> processMessage(String playerId, String playerName, 
                                                            String message, SourceType source) {
             return CompletableFuture.supplyAsync(() -> {
+                runMaintenanceIfDue();
+                
                 InfractionPlayer player = players.computeIfAbsent(playerId, 
                     id -> new InfractionPlayer(id, playerName));
                 
@@ -366,6 +522,49 @@ public class ChatRegulatorFilterPattern implements AsyncPattern<ChatModerationEn
             });
         }
         
+        /**
+         * Recompile forbidden patterns after a configuration reload
+         */
+        public boolean reloadForbiddenPatterns(List<String> patterns) {
+            MessageCheck check = checks.get(CheckType.REGEX);
+            if (check instanceof RegexCheck) {
+                ((RegexCheck) check).reloadPatterns(patterns);
+                return true;
+            }
+            return false;
+        }
+        
+        /**
+         * Drop idle per-player check state, at most once per maintenance interval.
+         * Runs on the message path, the only thing that grows that state, so the
+         * engine needs no thread of its own.
+         */
+        private void runMaintenanceIfDue() {
+            long now = System.nanoTime();
+            long due = nextMaintenanceNanos.get();
+            if (now - due < 0 || !nextMaintenanceNanos.compareAndSet(due, now + MAINTENANCE_INTERVAL_NANOS)) {
+                return;
+            }
+            evictIdleRateLimits();
+            evictIdleSimilarityHistory();
+        }
+        
+        /**
+         * Drop idle flood-check state
+         */
+        public int evictIdleRateLimits() {
+            MessageCheck check = checks.get(CheckType.FLOOD);
+            return check instanceof FloodCheck ? ((FloodCheck) check).evictIdle() : 0;
+        }
+        
+        /**
+         * Drop idle near-duplicate history
+         */
+        public int evictIdleSimilarityHistory() {
+            MessageCheck check = checks.get(CheckType.SIMILARITY);
+            return check instanceof SimilarityCheck ? ((SimilarityCheck) check).evictIdle() : 0;
+        }
+        
         public InfractionPlayer getPlayer(String playerId) {
             return players.get(playerId);
         }
@@ -384,6 +583,36 @@ public class ChatRegulatorFilterPattern implements AsyncPattern<ChatModerationEn
             .thenApply(this::configureChatRegulatorPatterns);
     }
     
+    /**
+     * Subscribe an engine to configuration reloads, so each reload re-reads the
+     * filter configuration and recompiles the forbidden patterns
+     */
+    public CompletableFuture<Boolean> registerHotReloadAsync(ConfigurationHotReloadSystem hotReloadSystem,
+                                                             ChatModerationEngine engine) {
+        return hotReloadSystem.registerModuleAsync("chat_moderation",
+            ConfigurationHotReloadSystem.ModuleReloadPriority.HIGH, event -> reloadAsync(engine));
+    }
+    
+    /**
+     * Re-read the filter configuration and recompile the engine's forbidden patterns;
+     * an invalid pattern fails the reload and the engine keeps its current rules
+     */
+    public CompletableFuture<Boolean> reloadAsync(ChatModerationEngine engine) {
+        return adapter.reloadFilterConfiguration().thenApply(config -> {
+            @SuppressWarnings("unchecked")
+            List<String> patterns = (List<String>) config.getOrDefault("forbidden_patterns", List.of());
+            try {
+                if (engine.reloadForbiddenPatterns(patterns)) {
+                    log.info("Reloaded regex check with " + patterns.size() + " patterns");
+                }
+                return true;
+            } catch (PatternSyntaxException e) {
+                log.warning("Rejected forbidden patterns on reload: " + e.getMessage());
+                return false;
+            }
+        });
+    }
+    
     private CompletableFuture<ChatModerationEngine> buildModerationEngine(Map<String, Object> config) {
         return CompletableFuture.supplyAsync(() -> {
             ChatModerationEngine engine = new ChatModerationEngine();
@@ -395,6 +624,32 @@ public class ChatRegulatorFilterPattern implements AsyncPattern<ChatModerationEn
                 log.info("Registered spam check with limit: " + spamLimit);
             }
             
+            // Configure near-duplicate detection
+            if ((Boolean) config.getOrDefault("similarity_check_enabled", true)) {
+                int historySize = (Integer) config.getOrDefault("similarity_history_size", 8);
+                int similarLimit = (Integer) config.getOrDefault("similarity_limit", 3);
+                int maxDistance = (Integer) config.getOrDefault("similarity_max_distance", 10);
+                engine.registerCheck(new SimilarityCheck(historySize, similarLimit, maxDistance));
+                log.info("Registered similarity check with limit: " + similarLimit + " within distance " + maxDistance);
+            }
+            
+            // Configure raid detection
+            if ((Boolean) config.getOrDefault("raid_check_enabled", false)) {
+                int senderLimit = (Integer) config.getOrDefault("raid_sender_limit", 5);
+                int raidWindow = (Integer) config.getOrDefault("raid_window_seconds", 30);
+                int maxDistance = (Integer) config.getOrDefault("similarity_max_distance", 10);
+                engine.registerCheck(new RaidCheck(senderLimit, maxDistance, Duration.ofSeconds(raidWindow)));
+                log.info("Registered raid check with limit: " + senderLimit + " players per " + raidWindow + "s");
+            }
+            
+            // Configure flood detection (ChatRegulator pattern)
+            if ((Boolean) config.getOrDefault("flood_check_enabled", true)) {
+                int floodLimit = (Integer) config.getOrDefault("flood_message_limit", 5);
+                int floodWindow = (Integer) config.getOrDefault("flood_time_window_seconds", 10);
+                engine.registerCheck(new FloodCheck(floodLimit, Duration.ofSeconds(floodWindow)));
+                log.info("Registered flood check with limit: " + floodLimit + " per " + floodWindow + "s");
+            }
+            
             // Configure regex filtering (ChatRegulator pattern)
             if ((Boolean) config.getOrDefault("regex_check_enabled", true)) {
                 @SuppressWarnings("unchecked")